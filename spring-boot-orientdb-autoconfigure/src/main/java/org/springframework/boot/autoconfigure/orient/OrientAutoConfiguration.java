@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.orient.commons.core.OrientDatabaseFactory;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.core.OrientPoolMetrics;
 import org.springframework.data.orient.commons.core.OrientTransactionManager;
 import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
 import org.springframework.data.orient.object.OrientObjectOperations;
@@ -51,11 +52,9 @@ public class OrientAutoConfiguration {
     }
 
     @Bean
-    @ConditionalOnWebApplication
-    @ConditionalOnClass(OObjectDatabaseTx.class)
-    @ConditionalOnMissingBean(OrientWebConfigurer.class)
-    public OrientWebConfigurer orientWebConfigurer() {
-        return new OrientWebConfigurer();
+    @ConditionalOnMissingBean(OrientPoolMetrics.class)
+    public OrientPoolMetrics orientPoolMetrics(OrientObjectDatabaseFactory factory) {
+        return factory.getPoolMetrics();
     }
 
     @SuppressWarnings("rawtypes")
@@ -63,8 +62,32 @@ public class OrientAutoConfiguration {
         factory.setUrl(properties.getUrl());
         factory.setUsername(properties.getUsername());
         factory.setPassword(properties.getPassword());
-        factory.setMaxPoolSize(properties.getMinPoolSize());
+        factory.setMinPoolSize(properties.getMinPoolSize());
         factory.setMaxPoolSize(properties.getMaxPoolSize());
+        factory.setLeakDetectionThreshold(properties.getLeakDetectionThreshold());
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication
+    @ConditionalOnClass(name = "org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter")
+    protected static class OrientWebConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(OrientWebConfigurer.class)
+        public OrientWebConfigurer orientWebConfigurer() {
+            return new OrientWebConfigurer();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.Endpoint")
+    protected static class OrientPoolEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(OrientPoolEndpoint.class)
+        public OrientPoolEndpoint orientPoolEndpoint(OrientPoolMetrics metrics) {
+            return new OrientPoolEndpoint(metrics);
+        }
     }
 
 }
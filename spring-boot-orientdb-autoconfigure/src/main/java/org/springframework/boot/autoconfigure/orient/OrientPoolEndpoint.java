@@ -0,0 +1,53 @@
+package org.springframework.boot.autoconfigure.orient;
+
+import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.data.orient.commons.core.OrientPoolMetrics;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the {@link OrientPoolMetrics} of the connection pool, over HTTP and JMX.
+ */
+@ConfigurationProperties(prefix = "endpoints.orientpool")
+public class OrientPoolEndpoint extends AbstractEndpoint<Map<String, Object>> {
+
+    private final OrientPoolMetrics metrics;
+
+    public OrientPoolEndpoint(OrientPoolMetrics metrics) {
+        super("orientpool");
+        Assert.notNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Map<String, Object> invoke() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("active", metrics.getActive());
+        result.put("idle", metrics.getIdle());
+        result.put("waiting", metrics.getWaiting());
+        result.put("acquired", metrics.getAcquired());
+        result.put("exhausted", metrics.getExhausted());
+        result.put("failed", metrics.getFailed());
+        result.put("meanAcquireMicros", metrics.getMeanAcquireMicros());
+        result.put("maxAcquireMicros", metrics.getMaxAcquireMicros());
+
+        String[] buckets = metrics.getAcquireLatencyBuckets();
+        long[] counts = metrics.getAcquireLatencyHistogram();
+        Map<String, Long> histogram = new LinkedHashMap<>();
+
+        for (int i = 0; i < buckets.length; i++) {
+            histogram.put(buckets[i], counts[i]);
+        }
+
+        result.put("acquireLatency", histogram);
+        result.put("leakDetectionThreshold", metrics.getLeakDetectionThreshold());
+        result.put("leaks", metrics.getLeaks());
+        result.put("suspectedLeaks", Arrays.asList(metrics.getSuspectedLeaks()));
+
+        return result;
+    }
+}
@@ -16,6 +16,9 @@ public class OrientProperties {
     
     private int maxPoolSize = OrientDatabaseFactory.DEFAULT_MAX_POOL_SIZE;
 
+    /** The time in milliseconds after which a connection in use is reported as leaked, 0 to detect no leak. */
+    private long leakDetectionThreshold;
+
     public String getUrl() {
         return url;
     }
@@ -56,4 +59,12 @@ public class OrientProperties {
         this.maxPoolSize = maxPoolSize;
     }
 
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
 }
@@ -0,0 +1,89 @@
+package org.springframework.boot.autoconfigure.orient;
+
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import org.springframework.boot.test.EnvironmentTestUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.orient.commons.core.OrientPoolMetrics;
+import org.springframework.data.orient.commons.core.OrientTransactionManager;
+import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
+import org.springframework.data.orient.object.OrientObjectTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OrientAutoConfigurationTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeMethod
+    public void before() {
+        context = new AnnotationConfigApplicationContext();
+        EnvironmentTestUtils.addEnvironment(context,
+                "spring.data.orient.url:memory:autoconfigure-test",
+                "spring.data.orient.username:admin",
+                "spring.data.orient.password:admin",
+                "spring.data.orient.min-pool-size:2",
+                "spring.data.orient.max-pool-size:4",
+                "spring.data.orient.leak-detection-threshold:60000");
+        context.register(OrientAutoConfiguration.class);
+        context.refresh();
+    }
+
+    @AfterMethod
+    public void after() {
+        context.close();
+    }
+
+    @Test
+    public void configuresTheObjectDatabaseFactoryFromTheProperties() {
+        OrientObjectDatabaseFactory factory = context.getBean(OrientObjectDatabaseFactory.class);
+
+        assertEquals(factory.getUrl(), "memory:autoconfigure-test");
+        assertEquals(factory.getMinPoolSize(), 2);
+        assertEquals(factory.getMaxPoolSize(), 4);
+        assertEquals(factory.getLeakDetectionThreshold(), 60000);
+        assertSame(context.getBean(OrientPoolMetrics.class), factory.getPoolMetrics());
+        assertTrue(context.getBean(PlatformTransactionManager.class) instanceof OrientTransactionManager);
+        assertEquals(context.getBeansOfType(OrientObjectTemplate.class).size(), 1);
+    }
+
+    @Test
+    public void warmsUpThePoolOfTheObjectDatabaseFactory() {
+        OrientPoolMetrics metrics = context.getBean(OrientPoolMetrics.class);
+
+        // the warm up bypasses the metrics
+        assertTrue(metrics.getIdle() >= 2);
+        assertEquals(metrics.getAcquired(), 0);
+        assertEquals(metrics.getActive(), 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exposesThePoolMetricsThroughTheEndpoint() {
+        OObjectDatabaseTx db = context.getBean(OrientObjectDatabaseFactory.class).openDatabase();
+        OrientPoolEndpoint endpoint = context.getBean(OrientPoolEndpoint.class);
+
+        Map<String, Object> metrics = endpoint.invoke();
+
+        assertEquals(endpoint.getId(), "orientpool");
+        assertEquals(metrics.get("active"), 1);
+        assertEquals(metrics.get("waiting"), 0);
+        assertEquals(metrics.get("acquired"), 1L);
+        assertEquals(metrics.get("failed"), 0L);
+        assertEquals(metrics.get("leakDetectionThreshold"), 60000L);
+        assertEquals(((Map<String, Long>) metrics.get("acquireLatency")).size(), 7);
+        assertEquals(metrics.get("suspectedLeaks"), Collections.emptyList());
+
+        db.close();
+
+        assertEquals(endpoint.invoke().get("active"), 0);
+    }
+}
@@ -0,0 +1,58 @@
+package org.springframework.data.orientdb.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.record.ORecord;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.orient.document.OrientDocumentDatabaseFactory;
+import org.springframework.data.orient.document.OrientDocumentTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving the database bound to the thread, which every operation of the templates goes through.
+ * <p>
+ * Run with {@code -prof gc}: the allocation rate per operation has to be 0.
+ */
+@Measurement(iterations = 5, time = 5)
+@Warmup(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DatabaseResolutionBenchmarks {
+
+    private OrientDocumentDatabaseFactory dbf;
+
+    private OrientDocumentTemplate operations;
+
+    /** Binds a database to the benchmark thread, as a transaction or a first operation does. */
+    @Setup
+    public void setup() {
+        dbf = new OrientDocumentDatabaseFactory();
+        dbf.setUrl("memory:resolution" + System.nanoTime());
+        dbf.init();
+
+        operations = new OrientDocumentTemplate(dbf);
+        operations.database();
+    }
+
+    @TearDown
+    public void cleanup() {
+        operations.database().drop();
+    }
+
+    @Benchmark
+    public ODatabase<ORecord> factory() {
+        return dbf.db();
+    }
+
+    @Benchmark
+    public ODatabase<ORecord> template() {
+        return operations.database();
+    }
+
+    @Benchmark
+    public boolean transactionActive() {
+        return operations.getTransaction().isActive();
+    }
+}
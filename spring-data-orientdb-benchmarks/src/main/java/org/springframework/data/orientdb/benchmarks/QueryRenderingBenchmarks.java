@@ -0,0 +1,91 @@
+package org.springframework.data.orientdb.benchmarks;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.ParamType;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.repository.query.OrientCriteria;
+import org.springframework.data.orient.commons.repository.query.OrientCriteria.Operator;
+import org.springframework.data.orient.commons.repository.query.OrientSqlBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+
+/**
+ * Compares rendering derived queries with the {@link OrientSqlBuilder} against the jOOQ MySQL dialect previously
+ * used by the query creator.
+ * <p>
+ * Both sides render the values as placeholders and the skip and limit inline, and the jOOQ context is created once,
+ * so that only the rendering is compared. Run with {@code -prof gc} to compare the allocation rates as well.
+ */
+@Measurement(iterations = 5, time = 5)
+@Warmup(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class QueryRenderingBenchmarks {
+
+    private final Pageable pageable = new PageRequest(3, 20, new Sort(Sort.Direction.DESC, "lastName", "firstName"));
+
+    private DSLContext context;
+
+    @Setup
+    public void setup() {
+        context = DSL.using(SQLDialect.MYSQL);
+    }
+
+    /** findByFirstName(String) */
+    @Benchmark
+    public String simpleOrient() {
+        return OrientSqlBuilder.select().from("Person").where(OrientCriteria.where("firstName", Operator.EQ)).build();
+    }
+
+    @Benchmark
+    public String simpleJooq() {
+        return context.select().from("Person").where(field("firstName").eq((Object) "name")).getSQL(ParamType.INDEXED);
+    }
+
+    /** findByFirstNameInOrLastNameStartingWithAndActiveIsTrue(Collection, String, Pageable) */
+    @Benchmark
+    public String complexOrient() {
+        OrientCriteria criteria = OrientCriteria.where("firstName", Operator.IN)
+                .or(OrientCriteria.where("lastName", Operator.LIKE).and("active", Operator.IS_TRUE));
+
+        return OrientSqlBuilder.select().from("Person").where(criteria).orderBy(pageable.getSort())
+                .skip(pageable.getOffset()).limit(pageable.getPageSize()).build();
+    }
+
+    @Benchmark
+    public String complexJooq() {
+        Condition condition = DSL.condition("{0} in {1}", field("firstName"), DSL.val(Arrays.asList("a", "b"), SQLDataType.OTHER))
+                .or(field("lastName").like("name%").and(field("active").eq(inline((Object) Boolean.TRUE))));
+
+        return context.select().from("Person").where(condition)
+                .orderBy(field("lastName").desc(), field("firstName").desc())
+                .limit(inline(pageable.getPageSize())).offset(inline(pageable.getOffset()))
+                .getSQL(ParamType.INDEXED);
+    }
+
+    /** SimpleOrientRepository.findAll(Pageable) */
+    @Benchmark
+    public String findAllOrient() {
+        return OrientSqlBuilder.select().from("Person").orderBy(pageable.getSort())
+                .skip(pageable.getOffset()).limit(pageable.getPageSize()).build();
+    }
+
+    @Benchmark
+    public String findAllJooq() {
+        return context.select().from("Person").orderBy(field("lastName").desc(), field("firstName").desc())
+                .limit(inline(pageable.getPageSize())).offset(inline(pageable.getOffset())).getSQL(ParamType.INDEXED);
+    }
+}
@@ -0,0 +1,103 @@
+package org.springframework.data.orientdb.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.orient.commons.core.OrientSession;
+import org.springframework.data.orient.document.OrientDocumentDatabaseFactory;
+import org.springframework.data.orient.document.OrientDocumentTemplate;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares running a query on the connection bound to the thread by its first call against running it on a session
+ * multiplexed over a small pool.
+ * <p>
+ * Run with more threads than {@link #POOL_SIZE}, e.g. {@code -t 64}: the connections bound to the threads need a pool
+ * of {@link #THREAD_BOUND_POOL_SIZE}, one connection per thread, the sessions wait for one of the {@link #POOL_SIZE}
+ * connections. The thread bound pool fails once more threads than its size ask for a connection.
+ */
+@Measurement(iterations = 5, time = 5)
+@Warmup(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SessionBenchmarks {
+
+    private static final int POOL_SIZE = 4;
+
+    private static final int THREAD_BOUND_POOL_SIZE = 256;
+
+    private static final String QUERY = "select count(*) from Person where age > 50";
+
+    private OrientDocumentDatabaseFactory dbf;
+
+    private OrientDocumentTemplate operations;
+
+    private OrientDocumentDatabaseFactory threadBoundDbf;
+
+    private OrientDocumentTemplate threadBoundOperations;
+
+    private final Callable<Long> count = new Callable<Long>() {
+        @Override
+        public Long call() {
+            return count(operations);
+        }
+    };
+
+    @Setup
+    public void setup() {
+        String url = "memory:sessions" + System.nanoTime();
+
+        threadBoundDbf = new OrientDocumentDatabaseFactory();
+        threadBoundDbf.setUrl(url);
+        threadBoundDbf.setMaxPoolSize(THREAD_BOUND_POOL_SIZE);
+        threadBoundDbf.init();
+
+        threadBoundOperations = new OrientDocumentTemplate(threadBoundDbf);
+        threadBoundOperations.command("create class Person");
+
+        for (int i = 0; i < 1000; i++) {
+            threadBoundOperations.save(new ODocument("Person").field("age", i % 100));
+        }
+
+        threadBoundDbf.db().close();
+        ODatabaseRecordThreadLocal.INSTANCE.remove();
+
+        dbf = new OrientDocumentDatabaseFactory();
+        dbf.setUrl(url);
+        dbf.setMaxPoolSize(POOL_SIZE);
+        dbf.init();
+
+        operations = new OrientDocumentTemplate(dbf);
+    }
+
+    @TearDown
+    public void cleanup() {
+        dbf.destroy();
+        threadBoundDbf.openDatabase().drop();
+        threadBoundDbf.destroy();
+    }
+
+    /** The connection taken by the first call of the thread stays bound to it. */
+    @Benchmark
+    public long threadBound() {
+        return count(threadBoundOperations);
+    }
+
+    /** A session is opened for each call. */
+    @Benchmark
+    public long session() {
+        try (OrientSession<ORecord> session = dbf.openSession()) {
+            return operations.execute(session, count);
+        }
+    }
+
+    private static long count(OrientDocumentTemplate operations) {
+        return operations.count(new OSQLSynchQuery<ODocument>(QUERY));
+    }
+}
@@ -1,12 +1,28 @@
 package org.springframework.data.orient.commons.core;
 
 import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.springframework.util.Assert.notNull;
 
@@ -36,7 +52,25 @@ public abstract class AbstractOrientDatabaseFactory<T> implements OrientDatabase
     protected Boolean autoCreate;
 
     protected String url;
-    
+
+    /** The connections of the sessions not in use. */
+    private final Queue<ODatabase<T>> idleSessions = new ConcurrentLinkedQueue<>();
+
+    /** Guards the number of sessions, waited on while the connections in use reach the max pool size. */
+    private final Object sessionMonitor = new Object();
+
+    /** The sessions opened and not closed yet, guarded by the session monitor. */
+    private int sessions;
+
+    /** The threads waiting for a session in their order of arrival, guarded by the session monitor. */
+    private final Queue<Thread> sessionQueue = new ArrayDeque<>();
+
+    /** The threads waiting for a session, woken up when a pooled connection is released. */
+    private final AtomicInteger sessionWaiters = new AtomicInteger();
+
+    /** The metrics of the pool. */
+    private final OrientPoolMetrics poolMetrics = new OrientPoolMetrics(this);
+
     @PostConstruct
     public void init() {
         notNull(url);
@@ -50,38 +84,333 @@ public abstract class AbstractOrientDatabaseFactory<T> implements OrientDatabase
         ODatabase<?> db = newDatabase();
         createDatabase(db);
         createPool();
+        warmUpPool();
+
+        poolMetrics.start();
+    }
+
+    /**
+     * Stops the leak detection and closes the idle connections of the sessions.
+     */
+    @PreDestroy
+    public void destroy() {
+        poolMetrics.stop();
+
+        ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+
+        try {
+            for (ODatabase<T> db = idleSessions.poll(); db != null; db = idleSessions.poll()) {
+                if (!db.isClosed()) {
+                    db.activateOnCurrentThread();
+                    db.close();
+                }
+            }
+        } finally {
+            restoreDatabase(current);
+        }
     }
 
     protected abstract void createPool();
 
     /**
-     * Open the database.
+     * Opens the min pool size of connections in parallel and returns them to the pool, so that the first requests do
+     * not pay for opening them. The connections are acquired on as many threads, as the pool spreads the connections
+     * over partitions picked by thread. A failure is logged, the connections are then opened on demand.
+     */
+    protected void warmUpPool() {
+        int size = Math.min(minPoolSize, maxPoolSize);
+
+        if (size <= 0) {
+            return;
+        }
+
+        final CountDownLatch acquired = new CountDownLatch(size);
+        final CountDownLatch released = new CountDownLatch(1);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("orient-warm-up-");
+        threadFactory.setDaemon(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(size, threadFactory);
+        List<Future<?>> connections = new ArrayList<>(size);
+
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws InterruptedException {
+                        ODatabase<T> db;
+
+                        try {
+                            db = acquireDatabase();
+                        } finally {
+                            acquired.countDown();
+                        }
+
+                        // hold the connection until all are open, so that each thread opens one of its own
+                        try {
+                            released.await();
+                        } finally {
+                            db.close();
+                            ODatabaseRecordThreadLocal.INSTANCE.remove();
+                        }
+
+                        return null;
+                    }
+                }));
+            }
+
+            acquired.await();
+            released.countDown();
+
+            for (Future<?> connection : connections) {
+                connection.get();
+            }
+
+            log.debug("warmed up the pool with {} connections", size);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the connections are opened on demand, as without warm up
+            log.warn("Failed to warm up the pool of " + url, e.getCause());
+        } finally {
+            released.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Open the database, recording the acquisition into the {@link #getPoolMetrics() pool metrics}.
      *
      * @return the o database complex
      */
-    public abstract ODatabase<T> openDatabase();
+    public ODatabase<T> openDatabase() {
+        long start = poolMetrics.acquiring();
+        ODatabase<T> db;
+
+        try {
+            db = acquireDatabase();
+        } catch (RuntimeException | Error e) {
+            poolMetrics.failed(e);
+            throw e;
+        } finally {
+            poolMetrics.waited();
+        }
+
+        poolMetrics.acquired(start, db);
+
+        return db;
+    }
+
+    /**
+     * Acquires a database from the pool.
+     *
+     * @return the database
+     */
+    protected abstract ODatabase<T> acquireDatabase();
+
+    /**
+     * Gets the number of connections idle in the pool.
+     *
+     * @return the number of connections
+     */
+    protected int getIdleConnections() {
+        return idleSessions.size();
+    }
 
     protected abstract ODatabaseInternal<?> newDatabase();
 
+    /**
+     * Gets the database bound to the current thread, acquiring one from the pool if there is none or it has been
+     * closed. The bound database is resolved with a single thread local lookup and without allocating, as every
+     * operation of the templates goes through this method.
+     *
+     * @return the database
+     */
+    @SuppressWarnings("unchecked")
     public ODatabase<T> db() {
+        ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+
+        if (current != null) {
+            ODatabase<T> db = (ODatabase<T>) current.getDatabaseOwner();
+
+            if (!db.isClosed()) {
+                return db;
+            }
+        }
+
+        ODatabase<T> db = openDatabase();
+
+        if (log.isDebugEnabled()) {
+            log.debug(current == null ? "acquire db from pool {}" : "re-opened db {}", db.hashCode());
+        }
+
+        return db;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientDatabaseFactory#openSession()
+     */
+    @Override
+    public OrientSession<T> openSession() {
+        long start = poolMetrics.acquiring();
         ODatabase<T> db;
-        if(!ODatabaseRecordThreadLocal.INSTANCE.isDefined()) {
-            db = openDatabase();
-            log.debug("acquire db from pool {}", db.hashCode());
-        } else {
-            db = (ODatabase<T>)ODatabaseRecordThreadLocal.INSTANCE.get().getDatabaseOwner();
 
-            if(db.isClosed()) {
-                db = openDatabase();
-                log.debug("re-opened db {}", db.hashCode());
-            } else {
-                log.debug("use existing db {}", db.hashCode());
+        try {
+            db = openSessionDatabase();
+        } finally {
+            poolMetrics.waited();
+        }
+
+        return new OrientSession<>(this, db, poolMetrics.acquired(start, null));
+    }
+
+    /**
+     * Reserves a session and opens its database, reusing an idle one if any.
+     */
+    @SuppressWarnings("unchecked")
+    private ODatabase<T> openSessionDatabase() {
+        try {
+            reserveSession();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            DataAccessResourceFailureException failure = new DataAccessResourceFailureException("Interrupted while waiting for a session", e);
+            poolMetrics.failed(failure);
+            throw failure;
+        }
+
+        // opening a connection binds it to the thread, which keeps its own database
+        ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+        ODatabase<T> db;
+
+        try {
+            db = idleSessions.poll();
+
+            if (db == null || db.isClosed()) {
+                db = (ODatabase<T>) newDatabase();
+                db.open(username, password);
+                log.debug("opened session db {}", db.hashCode());
             }
+        } catch (RuntimeException | Error e) {
+            endSession();
+            poolMetrics.failed(e);
+            throw e;
+        } finally {
+            restoreDatabase(current);
         }
 
         return db;
     }
 
+    /**
+     * Counts a new session, waiting while the sessions and the pooled connections in use reach the max pool size,
+     * so that both share the same limit. The waiting threads get their session in their order of arrival, and no
+     * thread gets one before them.
+     */
+    private void reserveSession() throws InterruptedException {
+        synchronized (sessionMonitor) {
+            if (!sessionQueue.isEmpty() || isSessionPoolFull()) {
+                poolMetrics.exhausted();
+
+                Thread thread = Thread.currentThread();
+                sessionQueue.offer(thread);
+                sessionWaiters.incrementAndGet();
+
+                try {
+                    while (sessionQueue.peek() != thread || isSessionPoolFull()) {
+                        sessionMonitor.wait();
+                    }
+                } finally {
+                    sessionQueue.remove(thread);
+                    sessionWaiters.decrementAndGet();
+                    // the next thread in line may get a session too, or take the place of an interrupted one
+                    sessionMonitor.notifyAll();
+                }
+            }
+
+            sessions++;
+        }
+    }
+
+    /**
+     * Tells whether the sessions and the pooled connections in use reach the max pool size, guarded by the session
+     * monitor.
+     */
+    private boolean isSessionPoolFull() {
+        return sessions + poolMetrics.getPooledInUse() >= maxPoolSize;
+    }
+
+    /**
+     * Counts a session closed, waking up the threads waiting for one.
+     */
+    private void endSession() {
+        synchronized (sessionMonitor) {
+            sessions--;
+            sessionMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * Wakes up the threads waiting for a session, once a pooled connection has been released.
+     */
+    void connectionReleased() {
+        // the waiters are counted before they check the pooled connections in use, which are released before
+        if (sessionWaiters.get() > 0) {
+            synchronized (sessionMonitor) {
+                sessionMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the connection of a closed session to the pool, rolling back the transaction left open. The connection
+     * is closed instead when the idle and used connections reach the max pool size.
+     *
+     * @param db the database of the session
+     * @param lease the lease of the session
+     */
+    void releaseSession(ODatabase<T> db, OrientPoolLease lease) {
+        poolMetrics.released(lease);
+
+        ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+
+        try {
+            if (!db.isClosed()) {
+                db.activateOnCurrentThread();
+
+                if (db.getTransaction().isActive()) {
+                    log.debug("rolling back the transaction left open by session db {}", db.hashCode());
+                    db.rollback();
+                }
+
+                if (idleSessions.size() + poolMetrics.getActive() < maxPoolSize) {
+                    idleSessions.offer(db);
+                } else {
+                    db.close();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Dropping the connection of a session which failed to roll back", e);
+            db.close();
+        } finally {
+            restoreDatabase(current);
+            endSession();
+        }
+    }
+
+    /**
+     * Makes the given database the current database of the thread again.
+     *
+     * @param db the database, {@literal null} to leave the thread without database
+     */
+    static void restoreDatabase(ODatabaseDocumentInternal db) {
+        if (db == null) {
+            ODatabaseRecordThreadLocal.INSTANCE.remove();
+        } else {
+            ODatabaseRecordThreadLocal.INSTANCE.set(db);
+        }
+    }
+
     protected void createDatabase(ODatabase<?> db) {
         if (autoCreate && !db.exists()) {
             db.create();
@@ -179,6 +508,34 @@ public abstract class AbstractOrientDatabaseFactory<T> implements OrientDatabase
         this.maxPoolSize = maxPoolSize;
     }
 
+    /**
+     * Gets the metrics of the pool.
+     *
+     * @return the metrics
+     */
+    public OrientPoolMetrics getPoolMetrics() {
+        return poolMetrics;
+    }
+
+    /**
+     * Gets the time after which a connection in use is reported as leaked.
+     *
+     * @return the threshold in milliseconds, 0 if the leaks are not detected
+     */
+    public long getLeakDetectionThreshold() {
+        return poolMetrics.getLeakDetectionThreshold();
+    }
+
+    /**
+     * Sets the time after which a connection in use is reported as leaked, along with the stack trace of its
+     * acquisition. Recording the stack traces slows down the acquisitions, the leaks are not detected by default.
+     *
+     * @param leakDetectionThreshold the threshold in milliseconds, 0 to detect no leak
+     */
+    public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        poolMetrics.setLeakDetectionThreshold(leakDetectionThreshold);
+    }
+
     public Boolean getAutoCreate() {
         return autoCreate;
     }
@@ -4,15 +4,20 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.cache.OLocalRecordCache;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandResultListener;
 import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.dictionary.ODictionary;
 import com.orientechnologies.orient.core.exception.OTransactionException;
 import com.orientechnologies.orient.core.hook.ORecordHook;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.intent.OIntent;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
 import com.orientechnologies.orient.core.metadata.OMetadata;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
@@ -20,6 +25,8 @@ import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.core.query.OQuery;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
+import com.orientechnologies.orient.core.sql.query.OSQLNonBlockingQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.orientechnologies.orient.core.storage.ORecordCallback;
@@ -27,21 +34,62 @@ import com.orientechnologies.orient.core.storage.ORecordMetadata;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.tx.OTransaction;
 import com.orientechnologies.orient.core.version.ORecordVersion;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public abstract class AbstractOrientOperations<T> implements OrientOperations<T> {
     //private static final Logger logger = LoggerFactory.getLogger(AbstractOrientOperations.class);
 
+    /** The default number of streamed records buffered ahead of the consumer. */
+    public static final int DEFAULT_STREAM_BUFFER_SIZE = 256;
+
+    /** Matches the count queries without predicate, the group is the class name or the {@code cluster:} source. */
+    private static final Pattern COUNT_ALL = Pattern.compile("select count\\(\\*\\) from ((?:cluster:)?[\\w$]+)", Pattern.CASE_INSENSITIVE);
+
     protected final OrientDatabaseFactory<T> dbf;
 
     protected Set<String> defaultClusters;
 
+    /** The number of streamed records buffered ahead of the consumer. */
+    protected int streamBufferSize = DEFAULT_STREAM_BUFFER_SIZE;
+
+    /** The cache of the totals of paged queries, {@literal null} if they are not cached. */
+    protected OrientCountCache countCache;
+
+    /** Whether the totals of paged queries without predicate are read from the cluster metadata. */
+    protected boolean estimatedCounts;
+
+    /** The executor running the counts of paged queries next to their content, {@literal null} to run them after. */
+    protected ExecutorService countExecutor;
+
+    /** The executor running the asynchronous query methods, {@literal null} if they are not supported. */
+    protected AsyncListenableTaskExecutor asyncExecutor;
+
+    /** The timeout in milliseconds of the queries of the asynchronous methods declaring none, 0 for none. */
+    protected long asyncQueryTimeout;
+
+    /** The number of records deleted per commit by {@link #deleteAll(String)} within a transaction, 0 for one commit. */
+    protected int deleteBatchSize;
+
+    /** Whether {@link #deleteAll(String)} truncates the clusters that can be truncated safely. */
+    protected boolean truncateClusters;
+
     protected AbstractOrientOperations(OrientDatabaseFactory<T> dbf) {
         this.dbf = dbf;
     }
@@ -202,9 +250,10 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
         if (defaultClusters == null) {
             synchronized (this) {
                 if (defaultClusters == null) {
+                    ODatabase<T> db = dbf.db();
                     defaultClusters = new HashSet<>();
-                    for (OClass oClass : dbf.db().getMetadata().getSchema().getClasses()) {
-                        String defaultCluster = getClusterNameById(oClass.getDefaultClusterId());
+                    for (OClass oClass : db.getMetadata().getSchema().getClasses()) {
+                        String defaultCluster = db.getClusterNameById(oClass.getDefaultClusterId());
                         defaultClusters.add(defaultCluster);
                     }
                 }
@@ -326,6 +375,187 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
         return dbf.db().load(recordId, fetchPlan, ignoreCache, loadTombstone, lockingStrategy);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> loadAll(List<? extends ORID> recordIds) {
+        Assert.noNullElements(recordIds.toArray());
+
+        ORID[] ids = recordIds.toArray(new ORID[recordIds.size()]);
+        Object[] records = new Object[ids.length];
+
+        if (ids.length > 0 && dbf.db().getURL().startsWith("remote:")) {
+            loadRemote(ids, records);
+        } else {
+            loadLocal(ids, records);
+        }
+
+        return new ArrayList<>((List<T>) Arrays.asList(records));
+    }
+
+    private void loadLocal(final ORID[] ids, Object[] records) {
+        Integer[] order = new Integer[ids.length];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        // loading the records in cluster and position order reads the cluster pages sequentially
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return ids[a].compareTo(ids[b]);
+            }
+        });
+
+        ODatabase<T> db = dbf.db();
+        ORID previous = null;
+        Object record = null;
+
+        for (Integer index : order) {
+            if (!ids[index].equals(previous)) {
+                previous = ids[index];
+                // the storage rejects the ids of unknown clusters, such records cannot exist
+                record = isUnknownCluster(db, previous) ? null : db.load(previous);
+            }
+
+            records[index] = record;
+        }
+    }
+
+    private void loadRemote(ORID[] ids, Object[] records) {
+        Map<ORID, Object> loaded = new HashMap<>();
+        List<ORID> distinct = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(ids)));
+        ODatabase<T> db = dbf.db();
+
+        for (Iterator<ORID> iterator = distinct.iterator(); iterator.hasNext();) {
+            if (isUnknownCluster(db, iterator.next())) {
+                iterator.remove();
+            }
+        }
+
+        if (distinct.isEmpty()) {
+            return;
+        }
+
+        for (ODocument document : queryForDocuments(new OSQLSynchQuery<ODocument>("select from ?"), distinct)) {
+            loaded.put(document.getIdentity(), toEntity(document));
+        }
+
+        for (int i = 0; i < ids.length; i++) {
+            records[i] = loaded.get(ids[i]);
+        }
+    }
+
+    /**
+     * Checks whether the record id points into a cluster that does not exist, the storage rejects such ids.
+     */
+    private boolean isUnknownCluster(ODatabase<T> db, ORID recordId) {
+        return recordId.isPersistent() && db.getClusterNameById(recordId.getClusterId()) == null;
+    }
+
+    @Override
+    public boolean exists(ORID recordId) {
+        Assert.notNull(recordId);
+
+        ODatabase<T> db = dbf.db();
+        Boolean pending = getPendingExistence(db, recordId);
+
+        if (pending != null) {
+            return pending;
+        }
+
+        return isStored(db, recordId) && db.getRecordMetadata(recordId) != null;
+    }
+
+    @Override
+    public boolean[] exists(List<? extends ORID> recordIds) {
+        Assert.noNullElements(recordIds.toArray());
+
+        final ORID[] ids = recordIds.toArray(new ORID[recordIds.size()]);
+        boolean[] exists = new boolean[ids.length];
+        ODatabase<T> db = dbf.db();
+        List<Integer> unresolved = new ArrayList<>(ids.length);
+
+        for (int i = 0; i < ids.length; i++) {
+            Boolean pending = getPendingExistence(db, ids[i]);
+
+            if (pending != null) {
+                exists[i] = pending;
+            } else if (isStored(db, ids[i])) {
+                unresolved.add(i);
+            }
+        }
+
+        if (unresolved.isEmpty()) {
+            return exists;
+        } else if (db.getURL().startsWith("remote:")) {
+            Set<ORID> distinct = new LinkedHashSet<>();
+
+            for (Integer index : unresolved) {
+                distinct.add(ids[index]);
+            }
+
+            Set<ORID> found = new HashSet<>();
+
+            for (ODocument document : queryForDocuments(new OSQLSynchQuery<ODocument>("select @rid from ?"), new ArrayList<>(distinct))) {
+                found.add(document.<OIdentifiable>field("rid").getIdentity());
+            }
+
+            for (Integer index : unresolved) {
+                exists[index] = found.contains(ids[index]);
+            }
+
+            return exists;
+        }
+
+        // reading the metadata in cluster and position order reads the cluster pages sequentially
+        Collections.sort(unresolved, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return ids[a].compareTo(ids[b]);
+            }
+        });
+
+        ORID previous = null;
+        boolean found = false;
+
+        for (Integer index : unresolved) {
+            if (!ids[index].equals(previous)) {
+                previous = ids[index];
+                found = db.getRecordMetadata(previous) != null;
+            }
+
+            exists[index] = found;
+        }
+
+        return exists;
+    }
+
+    /**
+     * Gets whether the record exists as far as the current transaction knows, {@literal null} if the storage has to
+     * be asked.
+     */
+    private Boolean getPendingExistence(ODatabase<T> db, ORID recordId) {
+        OTransaction tx = db.getTransaction();
+        ORecordOperation operation = tx != null && tx.isActive() ? tx.getRecordEntry(recordId) : null;
+
+        if (operation != null && operation.type == ORecordOperation.CREATED) {
+            return Boolean.TRUE;
+        } else if (operation != null && operation.type == ORecordOperation.DELETED) {
+            return Boolean.FALSE;
+        }
+
+        // a temporary id the transaction does not know cannot exist
+        return recordId.isPersistent() ? null : Boolean.FALSE;
+    }
+
+    /**
+     * Checks whether the record id points into an existing cluster, the storage rejects the others.
+     */
+    private boolean isStored(ODatabase<T> db, ORID recordId) {
+        return recordId.isPersistent() && db.getClusterNameById(recordId.getClusterId()) != null;
+    }
+
     @Override
     public <S extends T> S save(S entity) {
         return dbf.db().save(entity);
@@ -341,6 +571,102 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
         return dbf.db().save(entity, mode, forceCreate, recordCallback, recordUpdatedCallback);
     }
 
+    @Override
+    public <S extends T> long saveAll(Iterable<S> entities, OrientBulkOptions options) {
+        Assert.notNull(entities);
+        Assert.notNull(options);
+
+        boolean owned = !ODatabaseRecordThreadLocal.INSTANCE.isDefined();
+        ODatabase<T> db = dbf.db();
+        boolean active = db.getTransaction().isActive();
+
+        Assert.state(options.isTransactional() || !active, "A non-transactional bulk save cannot run inside a transaction!");
+
+        OLocalRecordCache cache = db.getLocalCache();
+        boolean cacheEnabled = cache.isEnabled();
+        boolean declared = false;
+
+        if (options.isTransactional()) {
+            cache.setEnable(false);
+        } else {
+            // false if the caller already declared the massive insert intent, which is then left in place
+            declared = db.declareIntent(new OIntentMassiveInsert());
+        }
+
+        try {
+            return saveChunks(db, entities, options, active);
+        } finally {
+            if (options.isTransactional()) {
+                cache.setEnable(cacheEnabled);
+            } else if (declared) {
+                db.declareIntent(null);
+            }
+
+            if (countCache != null) {
+                countCache.clear();
+            }
+
+            if (owned) {
+                db.close();
+                ODatabaseRecordThreadLocal.INSTANCE.remove();
+            }
+        }
+    }
+
+    private <S extends T> long saveChunks(ODatabase<T> db, Iterable<S> entities, OrientBulkOptions options, boolean active) {
+        boolean transactional = options.isTransactional();
+        OrientBulkListener listener = options.getListener();
+        String cluster = options.getCluster();
+        long saved = 0;
+        int chunk = 0;
+
+        if (transactional && !active) {
+            db.begin();
+        }
+
+        try {
+            for (S entity : entities) {
+                if (cluster == null) {
+                    db.save(entity);
+                } else {
+                    db.save(entity, cluster);
+                }
+
+                saved++;
+
+                if (++chunk == options.getChunkSize()) {
+                    if (transactional) {
+                        db.commit();
+                        db.begin();
+                    }
+
+                    chunk = 0;
+
+                    if (listener != null) {
+                        listener.onProgress(saved);
+                    }
+                }
+            }
+
+            // the surrounding transaction commits the last chunk itself
+            if (transactional && !active) {
+                db.commit();
+            }
+        } catch (RuntimeException e) {
+            if (transactional && !active) {
+                db.rollback();
+            }
+
+            throw e;
+        }
+
+        if (chunk > 0 && listener != null) {
+            listener.onProgress(saved);
+        }
+
+        return saved;
+    }
+
     @Override
     public long countClass(Class<?> clazz) {
         return count(new OSQLSynchQuery<Long>("select count(*) from " + clazz.getSimpleName()));
@@ -356,6 +682,174 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
         return ((ODocument) dbf.db().query(query, args).get(0)).field("count");
     }
 
+    @Override
+    public long countTotal(OSQLQuery<?> query, Object... args) {
+        String sql = query.getText().trim();
+        Matcher matcher = COUNT_ALL.matcher(sql);
+
+        if (matcher.matches()) {
+            String source = matcher.group(1);
+
+            if (source.regionMatches(true, 0, "cluster:", 0, 8)) {
+                return countClusterElements(source.substring(8));
+            } else if (estimatedCounts) {
+                OClass clazz = dbf.db().getMetadata().getSchema().getClass(source);
+
+                if (clazz != null) {
+                    return clazz.count(true);
+                }
+            }
+        }
+
+        if (countCache == null) {
+            return count(query, args);
+        }
+
+        Long total = countCache.get(sql, args);
+
+        if (total == null) {
+            total = count(query, args);
+            countCache.put(sql, args, total);
+        }
+
+        return total;
+    }
+
+    @Override
+    public Future<Long> countTotalAsync(final OSQLQuery<?> query, final Object... args) {
+        if (countExecutor == null || dbf.db().getTransaction().isActive()) {
+            // a count on another connection would not see the changes of the transaction
+            return null;
+        }
+
+        return countExecutor.submit(new Callable<Long>() {
+            @Override
+            public Long call() {
+                ODatabase<T> db = dbf.openDatabase();
+
+                try {
+                    db.activateOnCurrentThread();
+                    return countTotal(query, args);
+                } finally {
+                    db.close();
+                    ODatabaseRecordThreadLocal.INSTANCE.remove();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <V> ListenableFuture<V> executeAsync(final Callable<V> task) {
+        Assert.notNull(task);
+        Assert.state(asyncExecutor != null, "No executor is configured for asynchronous queries!");
+
+        return asyncExecutor.submitListenable(new Callable<V>() {
+            @Override
+            public V call() throws Exception {
+                ODatabase<T> db = dbf.openDatabase();
+
+                try {
+                    db.activateOnCurrentThread();
+                    return task.call();
+                } finally {
+                    db.close();
+                    ODatabaseRecordThreadLocal.INSTANCE.remove();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <V> V execute(OrientSession<T> session, Callable<V> task) {
+        Assert.notNull(session);
+        Assert.notNull(task);
+
+        ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+
+        try {
+            session.database();
+            return task.call();
+        } catch (Exception e) {
+            ReflectionUtils.rethrowRuntimeException(e);
+            return null;
+        } finally {
+            AbstractOrientDatabaseFactory.restoreDatabase(current);
+        }
+    }
+
+    @Override
+    public long deleteAll(String source) {
+        return deleteAll(source, null);
+    }
+
+    @Override
+    public long deleteAll(String source, String condition) {
+        Assert.hasText(source);
+
+        ODatabase<T> db = dbf.db();
+        boolean cluster = source.regionMatches(true, 0, "cluster:", 0, 8);
+        OClass clazz = getSourceClass(db, source, cluster);
+        boolean active = db.getTransaction().isActive();
+
+        if (countCache != null) {
+            countCache.clear();
+        }
+
+        if (condition == null && cluster && truncateClusters && !active && isTruncatable(clazz)) {
+            return ((Number) command("truncate cluster " + source.substring(8))).longValue();
+        }
+
+        String sql = toDeleteStatement(source, condition, cluster, clazz);
+
+        if (!active || deleteBatchSize <= 0) {
+            return ((Number) command(sql)).longValue();
+        }
+
+        String batch = sql + " limit " + deleteBatchSize;
+        long total = 0;
+        int deleted;
+
+        do {
+            deleted = ((Number) command(batch)).intValue();
+            total += deleted;
+
+            // the transaction keeps every deleted record until it commits, so commit each batch
+            db.commit();
+            db.begin();
+        } while (deleted == deleteBatchSize);
+
+        return total;
+    }
+
+    private OClass getSourceClass(ODatabase<T> db, String source, boolean cluster) {
+        if (!cluster) {
+            return db.getMetadata().getSchema().getClass(source);
+        }
+
+        int clusterId = db.getClusterIdByName(source.substring(8));
+
+        return clusterId < 0 ? null : db.getMetadata().getSchema().getClassByClusterId(clusterId);
+    }
+
+    private static boolean isTruncatable(OClass clazz) {
+        // truncating a cluster leaves the entries of its records in the indexes
+        return clazz == null || clazz.getIndexes().isEmpty() && !clazz.isSubClassOf("V") && !clazz.isSubClassOf("E");
+    }
+
+    private static String toDeleteStatement(String source, String condition, boolean cluster, OClass clazz) {
+        String graphElement = clazz == null ? null : clazz.isSubClassOf("V") ? "vertex" : clazz.isSubClassOf("E") ? "edge" : null;
+        String where = condition == null ? "" : " where " + condition;
+
+        if (graphElement == null) {
+            return "delete from " + source + where;
+        }
+
+        // vertices and edges are deleted along with their links
+        String sql = "delete " + graphElement + " " + clazz.getName();
+
+        return cluster ? sql + " where @rid in (select @rid from " + source + where + ")" : sql + where;
+    }
+
     @Override
     public long countClusterElements(String clusterName) {
         return dbf.db().countClusterElements(clusterName);
@@ -398,9 +892,10 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
     @Override
     public int getClusterIdByName(String clusterName, Class<?> clazz) {
-        OClass oClass = dbf.db().getMetadata().getSchema().getClass(clazz);
+        ODatabase<T> db = dbf.db();
+        OClass oClass = db.getMetadata().getSchema().getClass(clazz);
         for(int clusterId : oClass.getClusterIds()){
-            if(getClusterNameById(clusterId).equals(clusterName)){
+            if(db.getClusterNameById(clusterId).equals(clusterName)){
                 return clusterId;
             }
         }
@@ -415,13 +910,15 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
     @Override
     public List<String> getClusterNamesByClass(Class<?> clazz, boolean showDefault) {
-        int[] clusterIds = dbf.db().getMetadata().getSchema().getClass(clazz).getClusterIds();
-        int defaultCluster = getDefaultClusterId(clazz);
+        ODatabase<T> db = dbf.db();
+        OClass oClass = db.getMetadata().getSchema().getClass(clazz);
+        int[] clusterIds = oClass.getClusterIds();
+        int defaultCluster = oClass.getDefaultClusterId();
 
         List<String> clusters = new ArrayList<>(clusterIds.length);
         for (int clusterId : clusterIds) {
             if (showDefault || clusterId != defaultCluster) {
-                clusters.add(getClusterNameById(clusterId));
+                clusters.add(db.getClusterNameById(clusterId));
             }
         }
 
@@ -579,6 +1076,10 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
     public <RET> RET queryForObject(OSQLQuery<?> query, DetachMode detachMode, Object... args) {
         RET result = queryForObject(query, args);
 
+        if (result == null) {
+            return null;
+        }
+
         switch (detachMode) {
             case ENTITY:
                 return detach(result);
@@ -593,9 +1094,218 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <RET> RET queryForObject(OSQLQuery<?> query, Object... args) {
-        return (RET)query(query, args).get(0);
+        List<RET> list = query(query, args);
+
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    @Override
+    public List<ODocument> queryForDocuments(OSQLQuery<?> query, Object... args) {
+        return dbf.db().query(query, args);
+    }
+
+    @Override
+    public <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, Object... args) {
+        return stream(query, DetachMode.NONE, args);
+    }
+
+    @Override
+    public <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, final DetachMode detachMode, Object... args) {
+        OrientResultIterator<RET> iterator = new OrientResultIterator<RET>(streamBufferSize) {
+            @Override
+            protected RET convert(Object record) {
+                return toResult(record, detachMode);
+            }
+        };
+
+        OSQLNonBlockingQuery<Object> nonBlocking = new OSQLNonBlockingQuery<>(query.getText(), query.getLimit(), query.getFetchPlan(), null, iterator);
+
+        // the query runs on a copy of the connection bound to the current thread
+        dbf.db();
+        Future<?> future = nonBlocking.execute(args);
+        iterator.setFuture(future);
+
+        return iterator;
+    }
+
+    @Override
+    public <RET> Publisher<RET> publish(OSQLQuery<?> query, final DetachMode detachMode, final Object... args) {
+        final String text = query.getText();
+        final int limit = query.getLimit();
+        final String fetchPlan = query.getFetchPlan();
+
+        return new Publisher<RET>() {
+            @Override
+            public void subscribe(Subscriber<? super RET> subscriber) {
+                final OrientQuerySubscription<RET> subscription = new OrientQuerySubscription<RET>(subscriber) {
+                    @Override
+                    protected void execute(OCommandResultListener listener) {
+                        OSQLAsynchQuery<Object> asynch = new OSQLAsynchQuery<>(text, limit, listener);
+                        asynch.setFetchPlan(fetchPlan);
+                        dbf.db().query(asynch, args);
+                    }
+
+                    @Override
+                    protected RET convert(Object record) {
+                        return toResult(record, detachMode);
+                    }
+                };
+
+                subscriber.onSubscribe(subscription);
+
+                try {
+                    executeAsync(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            subscription.run();
+                            return null;
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    // no executor, or its queue is full
+                    subscription.fail(e);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <RET> RET toResult(Object record, DetachMode detachMode) {
+        RET result = (RET) toEntity(record);
+
+        switch (detachMode) {
+            case ENTITY:
+                return detach(result);
+            case ALL:
+                return detachAll(result);
+            case NONE:
+            default:
+                return result;
+        }
+    }
+
+    /**
+     * Converts a record streamed by a non blocking query into the entity returned to the caller.
+     *
+     * @param record the record
+     * @return the entity
+     */
+    protected Object toEntity(Object record) {
+        return record;
+    }
+
+    public int getStreamBufferSize() {
+        return streamBufferSize;
+    }
+
+    public void setStreamBufferSize(int streamBufferSize) {
+        this.streamBufferSize = streamBufferSize;
+    }
+
+    public OrientCountCache getCountCache() {
+        return countCache;
+    }
+
+    /**
+     * Sets the cache of the totals of paged queries, see {@link #countTotal(OSQLQuery, Object...)}.
+     *
+     * @param countCache the cache, {@literal null} to always count
+     */
+    public void setCountCache(OrientCountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    public ExecutorService getCountExecutor() {
+        return countExecutor;
+    }
+
+    /**
+     * Sets the executor running the counts of paged queries on their own pooled connection while the content is read,
+     * see {@link #countTotalAsync(OSQLQuery, Object...)}. Each running count holds a connection, so the executor
+     * should have fewer threads than the pool.
+     *
+     * @param countExecutor the executor, {@literal null} to count after reading the content
+     */
+    public void setCountExecutor(ExecutorService countExecutor) {
+        this.countExecutor = countExecutor;
+    }
+
+    public AsyncListenableTaskExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the executor running the asynchronous query methods, see {@link #executeAsync(Callable)}. Each running
+     * query holds a connection, so the executor should have fewer threads than the pool, and a bounded queue so that
+     * callers are rejected rather than queued without limit when the database falls behind.
+     *
+     * @param asyncExecutor the executor, {@literal null} to reject the asynchronous query methods
+     */
+    public void setAsyncExecutor(AsyncListenableTaskExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public long getAsyncQueryTimeout() {
+        return asyncQueryTimeout;
+    }
+
+    /**
+     * Sets the timeout of the queries of the asynchronous methods which declare none with
+     * {@link org.springframework.data.orient.commons.repository.annotation.QueryHints}. The database stops a query
+     * running longer and the future fails.
+     *
+     * @param asyncQueryTimeout the timeout in milliseconds, 0 for none
+     */
+    public void setAsyncQueryTimeout(long asyncQueryTimeout) {
+        Assert.isTrue(asyncQueryTimeout >= 0, "The timeout must not be negative!");
+        this.asyncQueryTimeout = asyncQueryTimeout;
+    }
+
+    public boolean isEstimatedCounts() {
+        return estimatedCounts;
+    }
+
+    /**
+     * Sets whether the totals of paged queries without predicate are read from the cluster metadata of the class
+     * instead of scanning it. Such totals do not include the changes of the current transaction.
+     *
+     * @param estimatedCounts true, to read the totals from the metadata
+     */
+    public void setEstimatedCounts(boolean estimatedCounts) {
+        this.estimatedCounts = estimatedCounts;
+    }
+
+    public int getDeleteBatchSize() {
+        return deleteBatchSize;
+    }
+
+    /**
+     * Sets the number of records deleted per commit by {@link #deleteAll(String)} within a transaction, so that the
+     * transaction does not hold all the deleted records at once. The batches already committed are not rolled back
+     * if the transaction fails later on.
+     *
+     * @param deleteBatchSize the batch size, 0 to delete everything in the transaction
+     */
+    public void setDeleteBatchSize(int deleteBatchSize) {
+        Assert.isTrue(deleteBatchSize >= 0, "The delete batch size must not be negative!");
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    public boolean isTruncateClusters() {
+        return truncateClusters;
+    }
+
+    /**
+     * Sets whether {@link #deleteAll(String)} truncates a cluster instead of deleting its records one by one, when no
+     * transaction is active and the class of the cluster has no index and is neither a vertex nor an edge class.
+     * Truncating does not call the record hooks and listeners.
+     *
+     * @param truncateClusters true, to truncate the clusters
+     */
+    public void setTruncateClusters(boolean truncateClusters) {
+        this.truncateClusters = truncateClusters;
     }
 
     @Override
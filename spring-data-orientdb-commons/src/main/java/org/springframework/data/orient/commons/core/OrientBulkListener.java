@@ -0,0 +1,14 @@
+package org.springframework.data.orient.commons.core;
+
+/**
+ * Callback notified of the progress of a bulk save, see {@link OrientOperations#saveAll(Iterable, OrientBulkOptions)}.
+ */
+public interface OrientBulkListener {
+
+    /**
+     * Called after each chunk has been written, and once more after the last, possibly partial, chunk.
+     *
+     * @param saved the number of entities saved so far
+     */
+    void onProgress(long saved);
+}
@@ -0,0 +1,315 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads entities into a class with one writer thread per cluster of the class, for initial loads too large for a
+ * single writer.
+ * <p>
+ * The class gets as many clusters as there are workers, the missing ones are created and added to it. Each worker
+ * takes a pooled connection of its own, declares the {@link OIntentMassiveInsert} intent and saves the entities it
+ * takes from a shared bounded queue into its cluster, without transaction. The producer calling {@link #add(Object)}
+ * waits while the queue is full, so the memory used does not depend on the size of the load.
+ * <p>
+ * {@link #finish()} waits for the queue to be drained and returns the number of entities saved. The first failure of
+ * a worker, including the failure to get its connection, stops the load and is rethrown to the producer, which also
+ * stops waiting once no worker is left. The entities saved before remain in the database.
+ *
+ * @param <T> the type of the entities
+ */
+public class OrientBulkLoader<T> implements AutoCloseable {
+
+    /** How long the producer waits for room in the queue before checking whether the workers failed. */
+    private static final long POLL_MILLIS = 100;
+
+    /** Tells a worker that there is nothing left to load. */
+    private static final Object END = new Object();
+
+    /** The database factory. */
+    private final OrientDatabaseFactory<T> dbf;
+
+    /** The orient operations. */
+    private final OrientOperations<T> operations;
+
+    /** The clusters written by the workers, one per worker. */
+    private final List<String> clusters;
+
+    /** The entities waiting to be saved. */
+    private final BlockingQueue<Object> queue;
+
+    /** The workers. */
+    private final ExecutorService executor;
+
+    /** The running workers, returning the number of entities they saved. */
+    private final List<Future<Long>> workers = new ArrayList<>();
+
+    /** The number of entities saved so far. */
+    private final AtomicLong saved = new AtomicLong();
+
+    /** The first failure of a worker. */
+    private volatile RuntimeException failure;
+
+    /** Whether the loader has been finished or closed. */
+    private boolean done;
+
+    /**
+     * Instantiates a new {@link OrientBulkLoader} and starts its workers.
+     *
+     * @param dbf the database factory, whose pool must hold a connection per worker
+     * @param operations the orient operations
+     * @param className the class loaded
+     * @param workers the number of workers, and of clusters written
+     * @param queueCapacity the maximum number of entities added but not saved yet
+     */
+    public OrientBulkLoader(OrientDatabaseFactory<T> dbf, OrientOperations<T> operations, String className, int workers, int queueCapacity) {
+        super();
+        Assert.notNull(dbf);
+        Assert.notNull(operations);
+        Assert.hasText(className);
+        Assert.isTrue(workers > 0, "The number of workers must be positive!");
+        Assert.isTrue(workers <= dbf.getMaxPoolSize(), "The pool has fewer connections than the loader has workers!");
+        Assert.isTrue(queueCapacity > 0, "The queue capacity must be positive!");
+
+        this.dbf = dbf;
+        this.operations = operations;
+        this.clusters = prepareClusters(className, workers);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = Executors.newFixedThreadPool(workers, new WorkerThreadFactory(className));
+
+        for (String cluster : clusters) {
+            this.workers.add(executor.submit(new Worker(cluster)));
+        }
+    }
+
+    /**
+     * Adds an entity to save, waiting while the queue is full.
+     *
+     * @param entity the entity
+     */
+    public void add(T entity) {
+        Assert.notNull(entity);
+        Assert.state(!done, "The loader has been finished!");
+
+        handOver(entity);
+    }
+
+    /**
+     * Waits until all the entities added have been saved and stops the workers.
+     *
+     * @return the number of entities saved
+     */
+    public long finish() {
+        Assert.state(!done, "The loader has been finished!");
+
+        try {
+            for (int i = 0; i < workers.size(); i++) {
+                handOver(END);
+            }
+
+            long total = 0;
+
+            for (Future<Long> worker : workers) {
+                total += join(worker);
+            }
+
+            return total;
+        } finally {
+            done = true;
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the clusters written by the workers.
+     *
+     * @return the cluster names
+     */
+    public List<String> getClusters() {
+        return clusters;
+    }
+
+    /**
+     * Gets the number of entities saved so far.
+     *
+     * @return the number of entities saved
+     */
+    public long getSaved() {
+        return saved.get();
+    }
+
+    /**
+     * Stops the workers without waiting for the entities not saved yet, if the loader has not been finished.
+     */
+    @Override
+    public void close() {
+        if (!done) {
+            done = true;
+            queue.clear();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> prepareClusters(String className, int count) {
+        OClass clazz = operations.getMetadata().getSchema().getClass(className);
+
+        Assert.notNull(clazz, "Unknown class: " + className);
+
+        int[] clusterIds = clazz.getClusterIds();
+        List<String> names = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            if (i < clusterIds.length) {
+                names.add(operations.getClusterNameById(clusterIds[i]));
+                continue;
+            }
+
+            String name = className.toLowerCase(Locale.ENGLISH) + "_" + i;
+            int clusterId = operations.existsCluster(name) ? operations.getClusterIdByName(name) : operations.addCluster(name);
+
+            clazz.addClusterId(clusterId);
+            names.add(name);
+        }
+
+        return Collections.unmodifiableList(names);
+    }
+
+    private void handOver(Object element) {
+        try {
+            while (!queue.offer(element, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+                checkWorkers();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for the bulk loader", e);
+        }
+
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            close();
+            throw failure;
+        }
+    }
+
+    private void checkWorkers() {
+        for (Future<Long> worker : workers) {
+            if (!worker.isDone()) {
+                return;
+            }
+        }
+
+        // nobody is left to drain the queue
+        close();
+        throw new DataAccessResourceFailureException("The workers of the bulk loader have stopped");
+    }
+
+    private long join(Future<Long> worker) {
+        try {
+            return worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for the bulk loader", e);
+        } catch (ExecutionException e) {
+            checkFailure();
+
+            throw new DataAccessResourceFailureException("The bulk load failed", e.getCause());
+        }
+    }
+
+    /**
+     * Saves the entities taken from the queue into its cluster until it takes the end marker.
+     */
+    private class Worker implements Callable<Long> {
+
+        private final String cluster;
+
+        Worker(String cluster) {
+            this.cluster = cluster;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Long call() throws InterruptedException {
+            ODatabase<T> db = null;
+            long count = 0;
+
+            try {
+                db = dbf.openDatabase();
+                db.activateOnCurrentThread();
+                db.declareIntent(new OIntentMassiveInsert());
+
+                // another worker failed, the producer stops on the failure so the rest of the queue is abandoned
+                for (Object entity = queue.take(); entity != END && failure == null; entity = queue.take()) {
+                    operations.save((T) entity, cluster);
+                    saved.incrementAndGet();
+                    count++;
+                }
+
+                return count;
+            } catch (Throwable e) {
+                if (failure == null) {
+                    failure = e instanceof RuntimeException ? (RuntimeException) e : new DataAccessResourceFailureException("The bulk load failed", e);
+                }
+
+                throw e;
+            } finally {
+                if (db != null) {
+                    try {
+                        db.declareIntent(null);
+                    } finally {
+                        db.close();
+                    }
+                }
+
+                ODatabaseRecordThreadLocal.INSTANCE.remove();
+            }
+        }
+    }
+
+    /**
+     * Names the worker threads after the class loaded.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        WorkerThreadFactory(String className) {
+            this.prefix = "orient-loader-" + className + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.getAndIncrement());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.springframework.data.orient.commons.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * The options of a bulk save: the size of the chunks, whether they are committed in transactions or written with
+ * the massive insert intent, the target cluster and a progress listener.
+ * <p>
+ * The options are immutable, the {@code with} methods return a copy.
+ *
+ * @see OrientOperations#saveAll(Iterable, OrientBulkOptions)
+ */
+public final class OrientBulkOptions {
+
+    /** The default number of entities per chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /** Transactional chunks of {@value #DEFAULT_CHUNK_SIZE} entities saved to the default cluster. */
+    public static final OrientBulkOptions DEFAULTS = new OrientBulkOptions(DEFAULT_CHUNK_SIZE, true, null, null);
+
+    /** The number of entities per chunk. */
+    private final int chunkSize;
+
+    /** Whether each chunk is committed in a transaction. */
+    private final boolean transactional;
+
+    /** The cluster the entities are saved to, {@literal null} for the default one. */
+    private final String cluster;
+
+    /** The progress listener, may be {@literal null}. */
+    private final OrientBulkListener listener;
+
+    private OrientBulkOptions(int chunkSize, boolean transactional, String cluster, OrientBulkListener listener) {
+        super();
+        this.chunkSize = chunkSize;
+        this.transactional = transactional;
+        this.cluster = cluster;
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the number of entities saved per chunk. In transactional mode it bounds the records the transaction holds
+     * in memory.
+     *
+     * @param chunkSize the chunk size
+     * @return the options
+     */
+    public OrientBulkOptions withChunkSize(int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "The chunk size must be positive!");
+
+        return new OrientBulkOptions(chunkSize, transactional, cluster, listener);
+    }
+
+    /**
+     * Sets whether each chunk is committed in a transaction. Otherwise the entities are written one by one without a
+     * transaction, with the {@link com.orientechnologies.orient.core.intent.OIntentMassiveInsert} intent declared,
+     * which is faster but leaves the entities saved before a failure in the database.
+     *
+     * @param transactional false, to save without transaction
+     * @return the options
+     */
+    public OrientBulkOptions withTransactional(boolean transactional) {
+        return new OrientBulkOptions(chunkSize, transactional, cluster, listener);
+    }
+
+    /**
+     * Sets the cluster the entities are saved to.
+     *
+     * @param cluster the cluster name, {@literal null} for the default one
+     * @return the options
+     */
+    public OrientBulkOptions withCluster(String cluster) {
+        return new OrientBulkOptions(chunkSize, transactional, cluster, listener);
+    }
+
+    /**
+     * Sets the listener notified after each chunk.
+     *
+     * @param listener the listener, may be {@literal null}
+     * @return the options
+     */
+    public OrientBulkOptions withListener(OrientBulkListener listener) {
+        return new OrientBulkOptions(chunkSize, transactional, cluster, listener);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    public String getCluster() {
+        return cluster;
+    }
+
+    public OrientBulkListener getListener() {
+        return listener;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "bulk: chunks of " + chunkSize + (transactional ? ", transactional" : ", massive insert")
+                + (cluster == null ? "" : ", cluster " + cluster);
+    }
+}
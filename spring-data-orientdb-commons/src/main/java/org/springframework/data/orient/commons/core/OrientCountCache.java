@@ -0,0 +1,177 @@
+package org.springframework.data.orient.commons.core;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the totals of paged queries, keyed by the count query and its parameters.
+ * <p>
+ * A cached total is served until it expires, so it does not reflect the records saved or deleted in the meantime.
+ * It is meant for listings where a slightly stale number of pages is acceptable, see
+ * {@link AbstractOrientOperations#setCountCache(OrientCountCache)}.
+ */
+public class OrientCountCache {
+
+    /** The default maximum number of cached totals. */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    /** The time to live in nanoseconds. */
+    private final long ttlNanos;
+
+    /** The maximum number of cached totals. */
+    private final int maxSize;
+
+    /** The cached totals. */
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new {@link OrientCountCache} holding up to {@link #DEFAULT_MAX_SIZE} totals.
+     *
+     * @param ttl the time to live of a total
+     * @param unit the unit of the time to live
+     */
+    public OrientCountCache(long ttl, TimeUnit unit) {
+        this(ttl, unit, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Instantiates a new {@link OrientCountCache}.
+     *
+     * @param ttl the time to live of a total
+     * @param unit the unit of the time to live
+     * @param maxSize the maximum number of cached totals
+     */
+    public OrientCountCache(long ttl, TimeUnit unit, int maxSize) {
+        super();
+        Assert.isTrue(ttl > 0, "The time to live must be positive!");
+        Assert.notNull(unit);
+        Assert.isTrue(maxSize > 0, "The maximum size must be positive!");
+        this.ttlNanos = unit.toNanos(ttl);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the cached total of the given count query.
+     *
+     * @param sql the count query
+     * @param args the query parameters
+     * @return the total, {@literal null} if it is not cached or has expired
+     */
+    public Long get(String sql, Object[] args) {
+        Key key = new Key(sql, args);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        } else if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.total;
+    }
+
+    /**
+     * Caches the total of the given count query.
+     *
+     * @param sql the count query
+     * @param args the query parameters
+     * @param total the total
+     */
+    public void put(String sql, Object[] args, long total) {
+        long now = System.nanoTime();
+
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+
+        entries.put(new Key(sql, args == null ? null : args.clone()), new Entry(total, now + ttlNanos));
+    }
+
+    /**
+     * Removes all the cached totals, e.g. after a bulk change.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of cached totals, including the expired ones not evicted yet.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+            if (it.next().getValue().isExpired(now)) {
+                it.remove();
+            }
+        }
+
+        // still full of live totals, start over rather than tracking the access order
+        if (entries.size() >= maxSize) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * The key of a cached total.
+     */
+    private static final class Key {
+
+        private final String sql;
+
+        private final Object[] args;
+
+        private final int hash;
+
+        Key(String sql, Object[] args) {
+            this.sql = sql;
+            this.args = args;
+            this.hash = 31 * sql.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+
+            Key that = (Key) o;
+
+            return hash == that.hash && sql.equals(that.sql) && Arrays.deepEquals(args, that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached total and its expiration time.
+     */
+    private static final class Entry {
+
+        private final long total;
+
+        private final long expiresAt;
+
+        Entry(long total, long expiresAt) {
+            this.total = total;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
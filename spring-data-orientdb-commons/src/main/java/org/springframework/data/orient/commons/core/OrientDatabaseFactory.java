@@ -19,6 +19,17 @@ public interface OrientDatabaseFactory<T> {
 
     ODatabase<T> openDatabase();
 
+    /**
+     * Opens a session holding a connection until it is closed, independently of the calling thread. Waits while
+     * the sessions and the pooled connections in use reach the maximum pool size, behind the threads already
+     * waiting.
+     *
+     * @return the session
+     */
+    OrientSession<T> openSession();
+
+    OrientPoolMetrics getPoolMetrics();
+
     String getUrl();
 
     void setUrl(String url);
@@ -38,4 +49,8 @@ public interface OrientDatabaseFactory<T> {
     int getMaxPoolSize();
 
     void setMaxPoolSize(int maxPoolSize);
+
+    long getLeakDetectionThreshold();
+
+    void setLeakDetectionThreshold(long leakDetectionThreshold);
 }
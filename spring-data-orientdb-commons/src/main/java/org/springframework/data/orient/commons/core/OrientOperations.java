@@ -15,6 +15,7 @@ import com.orientechnologies.orient.core.metadata.OMetadata;
 import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
 import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.core.query.OQuery;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.storage.ORecordCallback;
@@ -22,13 +23,17 @@ import com.orientechnologies.orient.core.storage.ORecordMetadata;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.tx.OTransaction;
 import com.orientechnologies.orient.core.version.ORecordVersion;
+import org.reactivestreams.Publisher;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 public interface OrientOperations<T> {
 
@@ -137,18 +142,91 @@ public interface OrientOperations<T> {
 
     T load(ORID recordId, String fetchPlan, boolean ignoreCache, boolean loadTombstone, OStorage.LOCKING_STRATEGY lockingStrategy);
 
+    /**
+     * Loads the records with the given ids without going through the SQL layer, sorted by cluster and position.
+     * Remote databases load them with a single query instead of a round trip per record. Returns the records in the
+     * order of the ids, {@literal null} for the missing ones, including the ids of clusters that do not exist.
+     */
+    List<T> loadAll(List<? extends ORID> recordIds);
+
+    /**
+     * Checks whether the record with the given id exists, reading its metadata only instead of loading it. Takes the
+     * records created and deleted by the current transaction into account.
+     */
+    boolean exists(ORID recordId);
+
+    /**
+     * Checks which of the records with the given ids exist, reading their metadata sorted by cluster and position.
+     * Remote databases check them with a single query instead of a round trip per record. Returns the flags in the
+     * order of the ids.
+     */
+    boolean[] exists(List<? extends ORID> recordIds);
+
     <S extends T> S save(S entity);
     
     <S extends T> S save(S entity, String cluster);
 
     <S extends T> S save(S entity, ODatabase.OPERATION_MODE mode, boolean forceCreate, ORecordCallback<? extends Number> recordCallback, ORecordCallback<ORecordVersion> recordUpdatedCallback);
 
+    /**
+     * Saves the given entities in chunks, with the local cache disabled so that neither the cache nor the transaction
+     * hold more than a chunk of records. In transactional mode each chunk is committed, including the changes of the
+     * surrounding transaction, if any; a failure rolls back the current chunk only. Otherwise the entities are
+     * written with the massive insert intent, outside of any transaction. The intent is removed afterwards unless the
+     * caller had declared it already; another intent declared by the caller is ended by OrientDB and not restored, as
+     * OrientDB does not expose the current intent. Returns the number of entities saved.
+     */
+    <S extends T> long saveAll(Iterable<S> entities, OrientBulkOptions options);
+
     long countClass(String className);
 
     long countClass(Class<?> clazz);
 
     long count(OSQLQuery<?> query, Object... args);
 
+    /**
+     * Counts the total of a paged query. Unlike {@link #count(OSQLQuery, Object...)} the total may be served from a
+     * count cache or, for a query without predicate, from the cluster metadata when the template is configured so.
+     */
+    long countTotal(OSQLQuery<?> query, Object... args);
+
+    /**
+     * Starts counting the total of a paged query on another pooled connection, so that it runs while the content is
+     * read. Returns {@literal null} if the template has no count executor or a transaction is active.
+     */
+    Future<Long> countTotalAsync(OSQLQuery<?> query, Object... args);
+
+    /**
+     * Runs the given task on the executor of the asynchronous query methods, with a pooled connection of its own
+     * bound to the worker thread while the task runs. Cancelling the future with interruption interrupts the task.
+     */
+    <V> ListenableFuture<V> executeAsync(Callable<V> task);
+
+    /**
+     * Gets the timeout in milliseconds applied to the queries of the asynchronous methods declaring none, 0 for none.
+     */
+    long getAsyncQueryTimeout();
+
+    /**
+     * Runs the given task with the database of the session as the current database of the calling thread, which gets
+     * its own database back once the task returns. The methods of the template called by the task use the session.
+     * Checked exceptions thrown by the task are rethrown as {@link java.lang.reflect.UndeclaredThrowableException}.
+     */
+    <V> V execute(OrientSession<T> session, Callable<V> task);
+
+    /**
+     * Deletes all the records of a class, including its subclasses, or of a {@code cluster:} source with a server side
+     * command instead of loading them, and returns the number of records deleted.
+     */
+    long deleteAll(String source);
+
+    /**
+     * Deletes the records of a class or of a {@code cluster:} source matching the given condition, a where clause
+     * without parameters, with a server side command instead of loading them, and returns the number of records
+     * deleted.
+     */
+    long deleteAll(String source, String condition);
+
     long countClusterElements(String clusterName);
 
     long countClusterElements(int clusterId);
@@ -248,6 +326,27 @@ public interface OrientOperations<T> {
 
     <RET> RET queryForObject(OSQLQuery<?> query, Object... args);
 
+    /**
+     * Runs the query and returns the rows as documents, without converting them into entities. Used to read
+     * projections of selected fields.
+     */
+    List<ODocument> queryForDocuments(OSQLQuery<?> query, Object... args);
+
+    /**
+     * Runs the query on its own connection and streams the results through a bounded buffer, instead of loading them
+     * all. The iterator has to be closed if it is not consumed completely.
+     */
+    <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, Object... args);
+
+    <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, DetachMode detachMode, Object... args);
+
+    /**
+     * Gets a publisher running the query for each subscriber on the executor of the asynchronous queries, see
+     * {@link #executeAsync(Callable)}. The records are pushed as the subscriber requests them, the query waits
+     * meanwhile and keeps its connection.
+     */
+    <RET> Publisher<RET> publish(OSQLQuery<?> query, DetachMode detachMode, Object... args);
+
     <RET> RET queryForObject(OSQLQuery<?> query, DetachMode detachMode, Object... args);
 
     <RET extends OCommandRequest> RET command(OCommandRequest command);
@@ -0,0 +1,117 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+
+/**
+ * A connection taken from the pool and not returned yet, see {@link OrientPoolMetrics}.
+ * <p>
+ * The lease of a pooled database listens to it, the pool closing the database when it takes it back. The lease of a
+ * session is released by the session.
+ */
+final class OrientPoolLease implements ODatabaseListener {
+
+    /** The metrics of the pool. */
+    private final OrientPoolMetrics metrics;
+
+    /** The database listened to, {@literal null} for a session. */
+    private final ODatabase<?> db;
+
+    /** When the connection was taken, in nanoseconds. */
+    private final long acquiredAt;
+
+    /** The name of the thread which took the connection. */
+    private final String thread;
+
+    /** Where the connection was taken, {@literal null} if the leaks are not detected. */
+    private final Throwable stack;
+
+    /** Whether the lease has been reported as a leak. */
+    private volatile boolean reported;
+
+    OrientPoolLease(OrientPoolMetrics metrics, ODatabase<?> db, boolean recordStack) {
+        super();
+        this.metrics = metrics;
+        this.db = db;
+        this.acquiredAt = System.nanoTime();
+        this.thread = Thread.currentThread().getName();
+        this.stack = recordStack ? new Throwable("Connection acquired by " + thread) : null;
+    }
+
+    boolean isPooled() {
+        return db != null;
+    }
+
+    long getHeldMillis(long now) {
+        return (now - acquiredAt) / 1000000;
+    }
+
+    String getThread() {
+        return thread;
+    }
+
+    Throwable getStack() {
+        return stack;
+    }
+
+    boolean isReported() {
+        return reported;
+    }
+
+    void setReported() {
+        reported = true;
+    }
+
+    @Override
+    public void onClose(ODatabase database) {
+        db.unregisterListener(this);
+        metrics.released(this);
+    }
+
+    @Override
+    public void onCreate(ODatabase database) {
+    }
+
+    @Override
+    public void onDelete(ODatabase database) {
+    }
+
+    @Override
+    public void onOpen(ODatabase database) {
+    }
+
+    @Override
+    public void onBeforeTxBegin(ODatabase database) {
+    }
+
+    @Override
+    public void onBeforeTxRollback(ODatabase database) {
+    }
+
+    @Override
+    public void onAfterTxRollback(ODatabase database) {
+    }
+
+    @Override
+    public void onBeforeTxCommit(ODatabase database) {
+    }
+
+    @Override
+    public void onAfterTxCommit(ODatabase database) {
+    }
+
+    @Override
+    public void onBeforeCommand(OCommandRequestText command, OCommandExecutor executor) {
+    }
+
+    @Override
+    public void onAfterCommand(OCommandRequestText command, OCommandExecutor executor, Object result) {
+    }
+
+    @Override
+    public boolean onCorruptionRepairDatabase(ODatabase database, String reason, String whatWillbeFixed) {
+        return false;
+    }
+}
@@ -0,0 +1,400 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The metrics of the connection pool of an {@link AbstractOrientDatabaseFactory}: the latency of the acquisitions,
+ * the connections in use, idle and waited for, the acquisitions finding the pool exhausted or failing, and the
+ * connections held longer than the leak detection threshold.
+ * <p>
+ * The connections are those acquired with {@link OrientDatabaseFactory#openDatabase()}, including the ones bound to
+ * the threads by {@link OrientDatabaseFactory#db()}, and the {@link OrientSession sessions}. The metrics are exported
+ * to JMX when registered as a bean with an annotation based {@code MBeanExporter}, as Spring Boot does.
+ * <p>
+ * When a leak detection threshold is set, the stack trace of each acquisition is recorded and the connections held
+ * longer are logged once with it, and listed by {@link #getSuspectedLeaks()}.
+ */
+@ManagedResource(description = "OrientDB connection pool")
+public class OrientPoolMetrics {
+
+    /** The logger. */
+    private static Logger log = LoggerFactory.getLogger(OrientPoolMetrics.class);
+
+    /** The upper bounds in microseconds of the buckets of the latency histogram, the last bucket has none. */
+    private static final long[] LATENCY_BUCKETS = { 10, 100, 1000, 10000, 100000, 1000000 };
+
+    /** The factory of the pool. */
+    private final AbstractOrientDatabaseFactory<?> factory;
+
+    /** The connections in use. */
+    private final Set<OrientPoolLease> leases = ConcurrentHashMap.newKeySet();
+
+    /** The threads acquiring a connection. */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /** The pooled connections in use, the other connections in use being sessions. */
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    private final AtomicLong acquired = new AtomicLong();
+
+    private final AtomicLong exhausted = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong leaks = new AtomicLong();
+
+    private final AtomicLong totalAcquireNanos = new AtomicLong();
+
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+
+    /** The number of acquisitions per latency bucket. */
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS.length + 1);
+
+    /** The time in milliseconds after which a connection in use is reported as leaked, 0 to detect no leak. */
+    private volatile long leakDetectionThreshold;
+
+    /** Looks for leaks periodically, {@literal null} if the leaks are not detected. */
+    private ScheduledExecutorService leakDetector;
+
+    OrientPoolMetrics(AbstractOrientDatabaseFactory<?> factory) {
+        super();
+        this.factory = factory;
+    }
+
+    /**
+     * Counts the calling thread as waiting for a connection.
+     *
+     * @return the start of the acquisition, in nanoseconds
+     */
+    long acquiring() {
+        waiting.incrementAndGet();
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops counting the calling thread as waiting for a connection, once the acquisition has completed or failed
+     * whatever the failure.
+     */
+    void waited() {
+        waiting.decrementAndGet();
+    }
+
+    /**
+     * Records a connection acquired, released when the given database is closed or, for a session, by the session.
+     *
+     * @param start the start of the acquisition, see {@link #acquiring()}
+     * @param db the pooled database, {@literal null} for a session
+     * @return the lease of the connection
+     */
+    OrientPoolLease acquired(long start, ODatabase<?> db) {
+        long nanos = System.nanoTime() - start;
+        acquired.incrementAndGet();
+        totalAcquireNanos.addAndGet(nanos);
+
+        for (long max = maxAcquireNanos.get(); nanos > max && !maxAcquireNanos.compareAndSet(max, nanos); max = maxAcquireNanos.get()) {
+            // retry until the max is at least the latency
+        }
+
+        latencies.incrementAndGet(bucket(nanos / 1000));
+
+        OrientPoolLease lease = new OrientPoolLease(this, db, leakDetectionThreshold > 0);
+        leases.add(lease);
+
+        if (db != null) {
+            pooled.incrementAndGet();
+            db.registerListener(lease);
+        }
+
+        return lease;
+    }
+
+    /**
+     * Records an acquisition which failed, the pool of OrientDB failing with an {@link IllegalStateException} when it
+     * is exhausted.
+     *
+     * @param failure the failure
+     */
+    void failed(Throwable failure) {
+        failed.incrementAndGet();
+
+        if (failure instanceof IllegalStateException) {
+            exhausted.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records an acquisition which found no connection available and had to wait for one.
+     */
+    void exhausted() {
+        exhausted.incrementAndGet();
+    }
+
+    /**
+     * Records a connection returned to the pool.
+     *
+     * @param lease the lease of the connection
+     */
+    void released(OrientPoolLease lease) {
+        if (leases.remove(lease) && lease.isPooled()) {
+            pooled.decrementAndGet();
+            factory.connectionReleased();
+        }
+    }
+
+    /**
+     * Gets the number of pooled connections in use, not counting the sessions.
+     *
+     * @return the number of connections
+     */
+    int getPooledInUse() {
+        return pooled.get();
+    }
+
+    /**
+     * Starts detecting the leaks, if a threshold is set.
+     */
+    synchronized void start() {
+        if (leakDetectionThreshold <= 0 || leakDetector != null) {
+            return;
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("orient-leak-detector-");
+        threadFactory.setDaemon(true);
+
+        long period = Math.max(leakDetectionThreshold / 2, 100);
+
+        leakDetector = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        leakDetector.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                detectLeaks();
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops detecting the leaks.
+     */
+    synchronized void stop() {
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+            leakDetector = null;
+        }
+    }
+
+    /**
+     * Logs the connections held longer than the threshold which have not been reported yet.
+     */
+    void detectLeaks() {
+        long threshold = leakDetectionThreshold;
+        long now = System.nanoTime();
+
+        for (OrientPoolLease lease : leases) {
+            long held = lease.getHeldMillis(now);
+
+            if (threshold > 0 && held > threshold && !lease.isReported()) {
+                lease.setReported();
+                leaks.incrementAndGet();
+                log.warn("Connection held for " + held + " ms by " + lease.getThread() + ", possibly leaked", lease.getStack());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of connections acquired.
+     *
+     * @return the number of acquisitions
+     */
+    @ManagedAttribute(description = "Connections acquired")
+    public long getAcquired() {
+        return acquired.get();
+    }
+
+    /**
+     * Gets the number of connections in use.
+     *
+     * @return the number of connections
+     */
+    @ManagedAttribute(description = "Connections in use")
+    public int getActive() {
+        return leases.size();
+    }
+
+    /**
+     * Gets the number of connections idle in the pool.
+     *
+     * @return the number of connections
+     */
+    @ManagedAttribute(description = "Connections idle in the pool")
+    public int getIdle() {
+        return factory.getIdleConnections();
+    }
+
+    /**
+     * Gets the number of threads acquiring a connection or waiting for a session.
+     *
+     * @return the number of threads
+     */
+    @ManagedAttribute(description = "Threads waiting for a connection")
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Gets the number of acquisitions which found the pool exhausted, failing or waiting for a session.
+     *
+     * @return the number of acquisitions
+     */
+    @ManagedAttribute(description = "Acquisitions finding the pool exhausted")
+    public long getExhausted() {
+        return exhausted.get();
+    }
+
+    /**
+     * Gets the number of acquisitions which failed.
+     *
+     * @return the number of acquisitions
+     */
+    @ManagedAttribute(description = "Acquisitions failed")
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Gets the mean latency of the acquisitions.
+     *
+     * @return the latency in microseconds
+     */
+    @ManagedAttribute(description = "Mean acquisition latency in microseconds")
+    public long getMeanAcquireMicros() {
+        long count = acquired.get();
+
+        return count == 0 ? 0 : totalAcquireNanos.get() / count / 1000;
+    }
+
+    /**
+     * Gets the maximum latency of the acquisitions.
+     *
+     * @return the latency in microseconds
+     */
+    @ManagedAttribute(description = "Max acquisition latency in microseconds")
+    public long getMaxAcquireMicros() {
+        return maxAcquireNanos.get() / 1000;
+    }
+
+    /**
+     * Gets the labels of the buckets of the latency histogram, e.g. {@code <=100us}.
+     *
+     * @return the labels
+     */
+    @ManagedAttribute(description = "Buckets of the acquisition latency histogram")
+    public String[] getAcquireLatencyBuckets() {
+        String[] labels = new String[LATENCY_BUCKETS.length + 1];
+
+        for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+            labels[i] = "<=" + LATENCY_BUCKETS[i] + "us";
+        }
+
+        labels[LATENCY_BUCKETS.length] = ">" + LATENCY_BUCKETS[LATENCY_BUCKETS.length - 1] + "us";
+
+        return labels;
+    }
+
+    /**
+     * Gets the number of acquisitions per bucket of latency, see {@link #getAcquireLatencyBuckets()}.
+     *
+     * @return the counts
+     */
+    @ManagedAttribute(description = "Acquisitions per latency bucket")
+    public long[] getAcquireLatencyHistogram() {
+        long[] counts = new long[latencies.length()];
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = latencies.get(i);
+        }
+
+        return counts;
+    }
+
+    /**
+     * Gets the number of connections reported as leaked.
+     *
+     * @return the number of leaks
+     */
+    @ManagedAttribute(description = "Connections reported as leaked")
+    public long getLeaks() {
+        return leaks.get();
+    }
+
+    /**
+     * Describes the connections in use for longer than the leak detection threshold, with the stack trace of their
+     * acquisition.
+     *
+     * @return the descriptions, empty if the leaks are not detected
+     */
+    @ManagedAttribute(description = "Connections in use for longer than the leak detection threshold")
+    public String[] getSuspectedLeaks() {
+        long threshold = leakDetectionThreshold;
+        long now = System.nanoTime();
+        List<String> suspects = new ArrayList<>();
+
+        for (OrientPoolLease lease : leases) {
+            long held = lease.getHeldMillis(now);
+
+            if (threshold > 0 && held > threshold) {
+                StringBuilder builder = new StringBuilder("held for ").append(held).append(" ms by ").append(lease.getThread());
+
+                if (lease.getStack() != null) {
+                    for (StackTraceElement element : lease.getStack().getStackTrace()) {
+                        builder.append("\n\tat ").append(element);
+                    }
+                }
+
+                suspects.add(builder.toString());
+            }
+        }
+
+        return suspects.toArray(new String[suspects.size()]);
+    }
+
+    /**
+     * Gets the time after which a connection in use is reported as leaked.
+     *
+     * @return the threshold in milliseconds, 0 if the leaks are not detected
+     */
+    @ManagedAttribute(description = "Leak detection threshold in milliseconds, 0 if disabled")
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    private static int bucket(long micros) {
+        for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+            if (micros <= LATENCY_BUCKETS[i]) {
+                return i;
+            }
+        }
+
+        return LATENCY_BUCKETS.length;
+    }
+}
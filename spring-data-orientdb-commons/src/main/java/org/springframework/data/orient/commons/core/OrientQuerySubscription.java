@@ -0,0 +1,153 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.command.OCommandResultListener;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * {@link Subscription} of a query whose records are pushed by an {@link OCommandResultListener}.
+ * <p>
+ * The query runs on a thread of its own and waits in {@link #result(Object)} while the subscriber has no demand,
+ * so neither the results nor the subscriber are buffered. Cancelling the subscription stops the query at the next
+ * record.
+ *
+ * @param <T> the type of the results
+ */
+abstract class OrientQuerySubscription<T> implements Subscription, OCommandResultListener {
+
+    /** The subscriber. */
+    private final Subscriber<? super T> subscriber;
+
+    /** Guards the demand. */
+    private final Object lock = new Object();
+
+    /** The number of results requested but not pushed yet, {@link Long#MAX_VALUE} for all. */
+    private long demand;
+
+    /** Whether the subscription has been cancelled or has terminated. */
+    private volatile boolean cancelled;
+
+    /**
+     * Instantiates a new {@link OrientQuerySubscription}.
+     *
+     * @param subscriber the subscriber
+     */
+    OrientQuerySubscription(Subscriber<? super T> subscriber) {
+        super();
+        this.subscriber = subscriber;
+    }
+
+    /**
+     * Runs the query with this subscription as listener, on the thread of the query.
+     *
+     * @param listener the listener
+     */
+    protected abstract void execute(OCommandResultListener listener);
+
+    /**
+     * Converts the record read by the query into the result, called on the thread of the query.
+     *
+     * @param record the record
+     * @return the result
+     */
+    protected abstract T convert(Object record);
+
+    /**
+     * Runs the query to its end and signals its completion or its failure to the subscriber, unless it has been
+     * cancelled.
+     */
+    void run() {
+        if (cancelled) {
+            return;
+        }
+
+        try {
+            execute(this);
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+
+        if (!cancelled) {
+            cancelled = true;
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Signals a failure to the subscriber, unless it has been cancelled.
+     *
+     * @param failure the failure
+     */
+    void fail(Throwable failure) {
+        if (!cancelled) {
+            cancelled = true;
+            subscriber.onError(failure);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.reactivestreams.Subscription#request(long)
+     */
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            fail(new IllegalArgumentException("The number of results requested must be positive: " + n));
+            return;
+        }
+
+        synchronized (lock) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            lock.notifyAll();
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.reactivestreams.Subscription#cancel()
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.command.OCommandResultListener#result(java.lang.Object)
+     */
+    @Override
+    public boolean result(Object record) {
+        try {
+            synchronized (lock) {
+                while (demand == 0 && !cancelled) {
+                    lock.wait();
+                }
+
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        }
+
+        if (cancelled) {
+            return false;
+        }
+
+        subscriber.onNext(convert(record));
+
+        return !cancelled;
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.command.OCommandResultListener#end()
+     */
+    @Override
+    public void end() {
+        // the completion is signalled once the query has returned, see run()
+    }
+}
@@ -0,0 +1,175 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.command.OCommandResultListener;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CloseableIterator} over the results of a non blocking OrientDB query.
+ * <p>
+ * The query thread hands the records over through a bounded buffer and waits while the buffer is full, so the
+ * memory used does not depend on the size of the result. Closing the iterator stops the query.
+ *
+ * @param <T> the type of the results
+ */
+abstract class OrientResultIterator<T> implements CloseableIterator<T>, OCommandResultListener {
+
+    /** How long the query and the consumer wait for each other before checking whether the other side went away. */
+    private static final long POLL_MILLIS = 100;
+
+    /** Marks the end of the results. */
+    private static final Object END = new Object();
+
+    /** The buffer. */
+    private final BlockingQueue<Object> buffer;
+
+    /** The running query, set once it has been started. */
+    private volatile Future<?> future;
+
+    /** Whether the iterator has been closed. */
+    private volatile boolean closed;
+
+    /** The next record, {@literal null} if not fetched yet. */
+    private Object next;
+
+    /** Whether all the records have been consumed. */
+    private boolean finished;
+
+    /**
+     * Instantiates a new {@link OrientResultIterator}.
+     *
+     * @param bufferSize the maximum number of records handed over but not consumed yet
+     */
+    OrientResultIterator(int bufferSize) {
+        super();
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Sets the running query.
+     *
+     * @param future the future returned by the non blocking query
+     */
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Converts the record read by the query thread into the result, called on the consuming thread.
+     *
+     * @param record the record
+     * @return the result
+     */
+    protected abstract T convert(Object record);
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.command.OCommandResultListener#result(java.lang.Object)
+     */
+    @Override
+    public boolean result(Object record) {
+        return handOver(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.command.OCommandResultListener#end()
+     */
+    @Override
+    public void end() {
+        handOver(END);
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        } else if (finished || closed) {
+            return false;
+        }
+
+        try {
+            Object record = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+            while (record == null) {
+                if (future != null && future.isDone()) {
+                    // the query thread has ended, everything it handed over is in the buffer already
+                    record = buffer.poll();
+
+                    if (record == null) {
+                        finished = true;
+                        throw new DataRetrievalFailureException("The streaming query terminated before its end, see the OrientDB log for details");
+                    }
+                } else {
+                    record = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            if (record == END) {
+                finished = true;
+                return false;
+            }
+
+            next = record;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new DataRetrievalFailureException("Interrupted while waiting for the streaming query", e);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Object record = next;
+        next = null;
+
+        return convert(record);
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.Iterator#remove()
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.util.CloseableIterator#close()
+     */
+    @Override
+    public void close() {
+        closed = true;
+        next = null;
+        buffer.clear();
+    }
+
+    private boolean handOver(Object record) {
+        try {
+            while (!closed) {
+                if (buffer.offer(record, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return false;
+    }
+}
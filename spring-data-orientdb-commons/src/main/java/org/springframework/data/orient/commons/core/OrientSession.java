@@ -0,0 +1,77 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import org.springframework.util.Assert;
+
+/**
+ * A database connection held explicitly by the caller instead of being bound to its thread, see
+ * {@link OrientDatabaseFactory#openSession()}.
+ * <p>
+ * The sessions of a factory are taken from a pool of its own, which does not depend on the thread opening or closing
+ * them, and count against the maximum pool size of the factory along with the pooled connections in use. Many short
+ * lived threads may therefore share a few connections: each one holds a session only while it uses it, see
+ * {@link OrientOperations#execute(OrientSession, java.util.concurrent.Callable)}, and waits for one when the
+ * connections are all in use. The waiting threads get their session in their order of arrival. A session is used by one thread at a time, but may be handed over to another thread.
+ * <p>
+ * Closing the session rolls back the transaction it has left open and returns the connection to the pool.
+ *
+ * @param <T> the type of database
+ */
+public final class OrientSession<T> implements AutoCloseable {
+
+    /** The factory the session is returned to. */
+    private final AbstractOrientDatabaseFactory<T> factory;
+
+    /** The lease of the connection, released with the session. */
+    private final OrientPoolLease lease;
+
+    /** The database, {@literal null} once the session is closed. */
+    private volatile ODatabase<T> db;
+
+    OrientSession(AbstractOrientDatabaseFactory<T> factory, ODatabase<T> db, OrientPoolLease lease) {
+        super();
+        this.factory = factory;
+        this.db = db;
+        this.lease = lease;
+    }
+
+    /**
+     * Gets the database of the session, made the current database of the calling thread.
+     *
+     * @return the database
+     */
+    public ODatabase<T> database() {
+        ODatabase<T> db = this.db;
+
+        Assert.state(db != null, "The session is closed!");
+        db.activateOnCurrentThread();
+
+        return db;
+    }
+
+    /**
+     * Checks whether the session has been closed.
+     *
+     * @return true, if closed
+     */
+    public boolean isClosed() {
+        return db == null;
+    }
+
+    /**
+     * Returns the connection to the pool, if the session is not closed yet.
+     */
+    @Override
+    public void close() {
+        ODatabase<T> db;
+
+        synchronized (this) {
+            db = this.db;
+            this.db = null;
+        }
+
+        if (db != null) {
+            factory.releaseSession(db, lease);
+        }
+    }
+}
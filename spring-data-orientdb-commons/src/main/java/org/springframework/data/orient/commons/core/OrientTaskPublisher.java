@@ -0,0 +1,123 @@
+package org.springframework.data.orient.commons.core;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link Publisher} of the result of a task, run on the executor of the asynchronous queries once the
+ * subscriber requests it. A {@literal null} result completes the subscriber without any result.
+ *
+ * @param <V> the type of the result
+ * @see OrientOperations#executeAsync(Callable)
+ */
+class OrientTaskPublisher<V> implements Publisher<V> {
+
+    /** The template running the task. */
+    private final OrientOperations<?> operations;
+
+    /** The task. */
+    private final Callable<V> task;
+
+    /**
+     * Instantiates a new {@link OrientTaskPublisher}.
+     *
+     * @param operations the template running the task
+     * @param task the task
+     */
+    OrientTaskPublisher(OrientOperations<?> operations, Callable<V> task) {
+        super();
+        this.operations = operations;
+        this.task = task;
+    }
+
+    /* (non-Javadoc)
+     * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+     */
+    @Override
+    public void subscribe(Subscriber<? super V> subscriber) {
+        subscriber.onSubscribe(new TaskSubscription(subscriber));
+    }
+
+    /**
+     * Runs the task on the first request and pushes its result.
+     */
+    private class TaskSubscription implements Subscription, ListenableFutureCallback<V> {
+
+        /** The subscriber. */
+        private final Subscriber<? super V> subscriber;
+
+        /** Whether the task has been submitted. */
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        /** Whether the subscription has been cancelled or has terminated. */
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        /** The result of the task, {@literal null} until it has been submitted. */
+        private volatile ListenableFuture<V> future;
+
+        TaskSubscription(Subscriber<? super V> subscriber) {
+            super();
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onFailure(new IllegalArgumentException("The number of results requested must be positive: " + n));
+                return;
+            }
+
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                future = operations.executeAsync(task);
+            } catch (RuntimeException e) {
+                onFailure(e);
+                return;
+            }
+
+            if (done.get()) {
+                future.cancel(true);
+            } else {
+                future.addCallback(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+
+            ListenableFuture<V> submitted = future;
+
+            if (submitted != null) {
+                submitted.cancel(true);
+            }
+        }
+
+        @Override
+        public void onSuccess(V result) {
+            if (done.compareAndSet(false, true)) {
+                if (result != null) {
+                    subscriber.onNext(result);
+                }
+
+                subscriber.onComplete();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (done.compareAndSet(false, true)) {
+                subscriber.onError(failure);
+            }
+        }
+    }
+}
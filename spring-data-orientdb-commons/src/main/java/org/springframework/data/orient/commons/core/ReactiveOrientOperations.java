@@ -0,0 +1,101 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import org.reactivestreams.Publisher;
+import org.springframework.data.orient.commons.repository.DetachMode;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The reactive counterpart of {@link OrientOperations}. Nothing runs before a result is requested: the queries then
+ * run on the executor of the asynchronous queries, with a connection of their own, and push their records as the
+ * subscriber requests them. The other operations run there as a single task, and publish at most one result. The
+ * entities pushed are detached, as they leave the thread of their connection.
+ *
+ * @param <T> the type of the entities
+ * @see OrientOperations#executeAsync(Callable)
+ */
+public interface ReactiveOrientOperations<T> {
+
+    /**
+     * Gets the blocking operations run by the publishers.
+     *
+     * @return the operations
+     */
+    OrientOperations<T> getOperations();
+
+    /**
+     * Runs the given task once its result is requested, see {@link OrientOperations#executeAsync(Callable)}.
+     * Cancelling the subscription interrupts the task.
+     *
+     * @param task the task
+     * @param <V> the type of the result
+     * @return the publisher of the result, completing without result if it is {@literal null}
+     */
+    <V> Publisher<V> execute(Callable<V> task);
+
+    /**
+     * Runs the query for each subscriber, pushing the records detached as entities as they are requested.
+     *
+     * @param query the query
+     * @param args the arguments of the query
+     * @param <RET> the type of the records
+     * @return the publisher of the records
+     */
+    <RET> Publisher<RET> query(OSQLQuery<?> query, Object... args);
+
+    /**
+     * Runs the query for each subscriber, pushing the records detached with the given mode as they are requested.
+     *
+     * @param query the query
+     * @param detachMode the detach mode
+     * @param args the arguments of the query
+     * @param <RET> the type of the records
+     * @return the publisher of the records
+     * @see OrientOperations#publish(OSQLQuery, DetachMode, Object...)
+     */
+    <RET> Publisher<RET> query(OSQLQuery<?> query, DetachMode detachMode, Object... args);
+
+    /**
+     * Counts the records of the given count query.
+     *
+     * @param query the count query
+     * @param args the arguments of the query
+     * @return the publisher of the count
+     */
+    Publisher<Long> count(OSQLQuery<?> query, Object... args);
+
+    /**
+     * Loads the record with the given id.
+     *
+     * @param recordId the record id
+     * @return the publisher of the record, completing without result if it does not exist
+     */
+    Publisher<T> load(ORID recordId);
+
+    /**
+     * Checks whether the record with the given id exists.
+     *
+     * @param recordId the record id
+     * @return the publisher of the existence
+     */
+    Publisher<Boolean> exists(ORID recordId);
+
+    /**
+     * Saves the given entity.
+     *
+     * @param entity the entity
+     * @param <S> the type of the entity
+     * @return the publisher of the saved entity
+     */
+    <S extends T> Publisher<S> save(S entity);
+
+    /**
+     * Deletes the record with the given id.
+     *
+     * @param recordId the record id
+     * @return the publisher completing once the record is deleted, without result
+     */
+    Publisher<Void> delete(ORID recordId);
+}
@@ -0,0 +1,117 @@
+package org.springframework.data.orient.commons.core;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import org.reactivestreams.Publisher;
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+
+/**
+ * {@link ReactiveOrientOperations} running the blocking {@link OrientOperations} of a template on its executor of
+ * the asynchronous queries, so that no caller thread ever waits for a connection or a record. The entities are
+ * detached before they leave the thread of their connection.
+ *
+ * @param <T> the type of the entities
+ */
+public class ReactiveOrientTemplate<T> implements ReactiveOrientOperations<T> {
+
+    /** The blocking operations. */
+    private final OrientOperations<T> operations;
+
+    /**
+     * Instantiates a new {@link ReactiveOrientTemplate}.
+     *
+     * @param operations the blocking operations, with an executor of the asynchronous queries
+     */
+    public ReactiveOrientTemplate(OrientOperations<T> operations) {
+        super();
+        Assert.notNull(operations);
+        this.operations = operations;
+    }
+
+    @Override
+    public OrientOperations<T> getOperations() {
+        return operations;
+    }
+
+    @Override
+    public <V> Publisher<V> execute(Callable<V> task) {
+        Assert.notNull(task);
+
+        return new OrientTaskPublisher<>(operations, task);
+    }
+
+    @Override
+    public <RET> Publisher<RET> query(OSQLQuery<?> query, Object... args) {
+        return query(query, DetachMode.ENTITY, args);
+    }
+
+    @Override
+    public <RET> Publisher<RET> query(OSQLQuery<?> query, DetachMode detachMode, Object... args) {
+        return operations.publish(query, detachMode, args);
+    }
+
+    @Override
+    public Publisher<Long> count(final OSQLQuery<?> query, final Object... args) {
+        return execute(new Callable<Long>() {
+            @Override
+            public Long call() {
+                return operations.count(query, args);
+            }
+        });
+    }
+
+    @Override
+    public Publisher<T> load(final ORID recordId) {
+        Assert.notNull(recordId);
+
+        return execute(new Callable<T>() {
+            @Override
+            public T call() {
+                T entity = operations.load(recordId);
+
+                return entity == null ? null : operations.detach(entity);
+            }
+        });
+    }
+
+    @Override
+    public Publisher<Boolean> exists(final ORID recordId) {
+        Assert.notNull(recordId);
+
+        return execute(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return operations.exists(recordId);
+            }
+        });
+    }
+
+    @Override
+    public <S extends T> Publisher<S> save(final S entity) {
+        Assert.notNull(entity);
+
+        return execute(new Callable<S>() {
+            @Override
+            public S call() {
+                return operations.detach(operations.save(entity));
+            }
+        });
+    }
+
+    @Override
+    public Publisher<Void> delete(final ORID recordId) {
+        Assert.notNull(recordId);
+
+        return execute(new Callable<Void>() {
+            @Override
+            public Void call() {
+                operations.delete(recordId);
+
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package org.springframework.data.orient.commons.repository;
+
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A page of records read with a {@link KeysetPageRequest}, with the {@link OrientCursor} to continue from.
+ *
+ * @param <T> the type of the records
+ */
+public class KeysetPage<T> implements Iterable<T> {
+
+    /** The content. */
+    private final List<T> content;
+
+    /** The request. */
+    private final KeysetPageRequest request;
+
+    /** The cursor of the next page, {@literal null} if this is the last page. */
+    private final OrientCursor next;
+
+    /**
+     * Instantiates a new {@link KeysetPage}.
+     *
+     * @param content the content
+     * @param request the request the page was read with
+     * @param next the cursor of the next page, {@literal null} if this is the last page
+     */
+    public KeysetPage(List<T> content, KeysetPageRequest request, OrientCursor next) {
+        super();
+        Assert.notNull(content);
+        Assert.notNull(request);
+        this.content = Collections.unmodifiableList(content);
+        this.request = request;
+        this.next = next;
+    }
+
+    /**
+     * Gets the content.
+     *
+     * @return the content
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the number of records in the page.
+     *
+     * @return the number of records
+     */
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    /**
+     * Checks whether the page has content.
+     *
+     * @return true, if the page is not empty
+     */
+    public boolean hasContent() {
+        return !content.isEmpty();
+    }
+
+    /**
+     * Gets the request the page was read with.
+     *
+     * @return the request
+     */
+    public KeysetPageRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Checks whether there is a next page.
+     *
+     * @return true, if there is a next page
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Gets the cursor of the next page.
+     *
+     * @return the cursor, {@literal null} if this is the last page
+     */
+    public OrientCursor getNextCursor() {
+        return next;
+    }
+
+    /**
+     * Gets the request for the next page.
+     *
+     * @return the request, {@literal null} if this is the last page
+     */
+    public KeysetPageRequest nextRequest() {
+        return next == null ? null : request.after(next);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "KeysetPage{elements=" + content.size() + ", request=" + request + ", next=" + next + '}';
+    }
+}
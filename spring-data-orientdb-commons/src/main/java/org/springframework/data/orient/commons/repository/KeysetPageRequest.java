@@ -0,0 +1,117 @@
+package org.springframework.data.orient.commons.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Request for a {@link KeysetPage}: the page size, the sort and the {@link OrientCursor} of the previous page.
+ * <p>
+ * Unlike {@link org.springframework.data.domain.Pageable} it does not skip the previous pages, so reading a deep
+ * page costs the same as reading the first one. The records are ordered by the given sort followed by {@code @rid},
+ * which makes the order total. The sort properties must not be null.
+ */
+public final class KeysetPageRequest {
+
+    /** The page size. */
+    private final int size;
+
+    /** The sort. */
+    private final Sort sort;
+
+    /** The cursor of the previous page, {@literal null} for the first page. */
+    private final OrientCursor cursor;
+
+    /**
+     * Instantiates a request for the first page ordered by {@code @rid}.
+     *
+     * @param size the page size
+     */
+    public KeysetPageRequest(int size) {
+        this(size, null, null);
+    }
+
+    /**
+     * Instantiates a new {@link KeysetPageRequest}.
+     *
+     * @param size the page size
+     * @param sort the sort, may be {@literal null}
+     * @param cursor the cursor of the previous page, {@literal null} for the first page
+     */
+    public KeysetPageRequest(int size, Sort sort, OrientCursor cursor) {
+        super();
+        Assert.isTrue(size > 0, "Page size must not be less than one!");
+        this.size = size;
+        this.sort = sort;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Gets the page size.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the sort.
+     *
+     * @return the sort, may be {@literal null}
+     */
+    public Sort getSort() {
+        return sort;
+    }
+
+    /**
+     * Gets the cursor of the previous page.
+     *
+     * @return the cursor, {@literal null} for the first page
+     */
+    public OrientCursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Creates the request for the page after the given cursor with the same size and sort.
+     *
+     * @param cursor the cursor
+     * @return the request
+     */
+    public KeysetPageRequest after(OrientCursor cursor) {
+        return new KeysetPageRequest(size, sort, cursor);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        KeysetPageRequest that = (KeysetPageRequest) o;
+
+        return size == that.size && ObjectUtils.nullSafeEquals(sort, that.sort) && ObjectUtils.nullSafeEquals(cursor, that.cursor);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        int result = size;
+        result = 31 * result + ObjectUtils.nullSafeHashCode(sort);
+        result = 31 * result + ObjectUtils.nullSafeHashCode(cursor);
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "KeysetPageRequest{size=" + size + ", sort=" + sort + ", cursor=" + cursor + '}';
+    }
+}
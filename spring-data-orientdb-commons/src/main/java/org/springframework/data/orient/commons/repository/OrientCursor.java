@@ -0,0 +1,307 @@
+package org.springframework.data.orient.commons.repository;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.util.Assert;
+import org.springframework.util.Base64Utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * The position of a {@link KeysetPage}: the sort values and the record id of its last record.
+ * <p>
+ * The next page is read with {@code WHERE (sortKey, @rid) > (value, rid)}, expanded into the equivalent
+ * {@code OR} of comparisons since OrientDB has no row value comparison, instead of skipping the previous pages.
+ * The cursor can be passed around as an opaque, URL safe token, see {@link #toToken()} and {@link #fromToken(String)}.
+ */
+public final class OrientCursor {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte DATE = 7;
+    private static final byte DECIMAL = 8;
+    private static final byte SHORT = 9;
+    private static final byte BYTE = 10;
+    private static final byte RID = 11;
+
+    /** The record id of the last record. */
+    private final ORID rid;
+
+    /** The sort values of the last record, in sort order. */
+    private final Object[] values;
+
+    /**
+     * Instantiates a new {@link OrientCursor}.
+     *
+     * @param rid the record id of the last record
+     * @param values the sort values of the last record, in sort order
+     */
+    public OrientCursor(ORID rid, Object... values) {
+        super();
+        Assert.notNull(rid);
+        this.rid = rid;
+        this.values = values == null ? new Object[0] : values.clone();
+    }
+
+    /**
+     * Creates the cursor positioned after the given record.
+     *
+     * @param record the record, a document, a record wrapper or a bean
+     * @param rid the record id
+     * @param sort the sort of the page without the trailing {@code @rid}
+     * @return the cursor
+     */
+    public static OrientCursor of(Object record, String rid, Sort sort) {
+        Assert.notNull(record);
+        Assert.hasText(rid);
+
+        if (sort == null) {
+            return new OrientCursor(new ORecordId(rid));
+        }
+
+        ODocument document = toDocument(record);
+        BeanWrapperImpl wrapper = document == null ? new BeanWrapperImpl(record) : null;
+
+        Object[] values = new Object[countOrders(sort)];
+        int index = 0;
+
+        for (Order order : sort) {
+            String property = order.getProperty();
+            Object value = document != null ? document.field(property) : wrapper.getPropertyValue(property);
+
+            if (value == null) {
+                throw new IllegalStateException("Keyset pagination requires non null sort values, record " + rid + " has no " + property);
+            }
+
+            values[index++] = value;
+        }
+
+        return new OrientCursor(new ORecordId(rid), values);
+    }
+
+    /**
+     * Decodes the cursor from the given token.
+     *
+     * @param token the token created by {@link #toToken()}
+     * @return the cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static OrientCursor fromToken(String token) {
+        Assert.hasText(token);
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64Utils.decodeFromUrlSafeString(token)));
+
+            ORID rid = new ORecordId(in.readUTF());
+            Object[] values = new Object[in.readUnsignedByte()];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = readValue(in);
+            }
+
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+
+            return new OrientCursor(rid, values);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque, URL safe token.
+     *
+     * @return the token
+     */
+    public String toToken() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeUTF(rid.toString());
+            out.writeByte(values.length);
+
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+
+            out.flush();
+
+            return Base64Utils.encodeToUrlSafeString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the record id of the last record.
+     *
+     * @return the record id
+     */
+    public ORID getRid() {
+        return rid;
+    }
+
+    /**
+     * Gets the sort values of the last record.
+     *
+     * @return the values
+     */
+    public Object[] getValues() {
+        return values.clone();
+    }
+
+    /**
+     * Gets the values to bind to the placeholders rendered for the keyset of the given size, i.e. the sort values
+     * followed by the record id. The comparison of the n-th key repeats the equalities of the previous keys.
+     *
+     * @return the query parameters
+     */
+    public Object[] toParameters() {
+        int keys = values.length + 1;
+        Object[] params = new Object[keys * (keys + 1) / 2];
+        int index = 0;
+
+        for (int key = 0; key < keys; key++) {
+            for (int i = 0; i <= key; i++) {
+                params[index++] = i < values.length ? values[i] : rid;
+            }
+        }
+
+        return params;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        OrientCursor that = (OrientCursor) o;
+
+        return rid.equals(that.rid) && Arrays.equals(values, that.values);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return 31 * rid.hashCode() + Arrays.hashCode(values);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "OrientCursor{rid=" + rid + ", values=" + Arrays.toString(values) + '}';
+    }
+
+    private static ODocument toDocument(Object record) {
+        if (record instanceof ODocument) {
+            return (ODocument) record;
+        } else if (record instanceof OIdentifiable && !(record instanceof ORID)) {
+            ORecord inner = ((OIdentifiable) record).getRecord();
+
+            return inner instanceof ODocument ? (ODocument) inner : null;
+        }
+
+        return null;
+    }
+
+    private static int countOrders(Sort sort) {
+        int count = 0;
+
+        for (@SuppressWarnings("unused") Order order : sort) {
+            count++;
+        }
+
+        return count;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            out.writeUTF((String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(DECIMAL);
+            out.writeUTF(value.toString());
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof OIdentifiable) {
+            out.writeByte(RID);
+            out.writeUTF(((OIdentifiable) value).getIdentity().toString());
+        } else if (value instanceof Enum) {
+            out.writeByte(STRING);
+            out.writeUTF(((Enum<?>) value).name());
+        } else {
+            throw new IllegalArgumentException("Unsupported sort value type for keyset pagination: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+
+        switch (type) {
+            case NULL: return null;
+            case STRING: return in.readUTF();
+            case INTEGER: return in.readInt();
+            case LONG: return in.readLong();
+            case DOUBLE: return in.readDouble();
+            case FLOAT: return in.readFloat();
+            case BOOLEAN: return in.readBoolean();
+            case DATE: return new Date(in.readLong());
+            case DECIMAL: return new BigDecimal(in.readUTF());
+            case SHORT: return in.readShort();
+            case BYTE: return in.readByte();
+            case RID: return new ORecordId(in.readUTF());
+            default: throw new IllegalArgumentException("Unknown value type " + type);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package org.springframework.data.orient.commons.repository;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * {@link Page} whose total is counted only when it is asked for.
+ * <p>
+ * The content is read with one record more than the page size, which tells whether there is a next page. On the last
+ * page the total follows from the offset and the content, so it is never counted; otherwise the count runs the first
+ * time {@link #getTotalElements()} or {@link #getTotalPages()} is called, on the calling thread.
+ *
+ * @param <T> the type of the content
+ */
+public class OrientPage<T> implements Page<T> {
+
+    /**
+     * Counts the total of a page.
+     */
+    public interface Counter {
+
+        /**
+         * Counts the total.
+         *
+         * @return the total
+         */
+        long count();
+    }
+
+    /** The content. */
+    private final List<T> content;
+
+    /** The pageable, may be {@literal null}. */
+    private final Pageable pageable;
+
+    /** Whether there is a next page. */
+    private final boolean hasNext;
+
+    /** The counter, {@literal null} once the total is known. */
+    private Counter counter;
+
+    /** The total, meaningful once the counter is {@literal null}. */
+    private long total;
+
+    private OrientPage(List<T> content, Pageable pageable, boolean hasNext, Counter counter, long total) {
+        super();
+        this.content = Collections.unmodifiableList(content);
+        this.pageable = pageable;
+        this.hasNext = hasNext;
+        this.counter = counter;
+        this.total = total;
+    }
+
+    /**
+     * Creates the page from the records read with one record more than the page size.
+     *
+     * @param records the records, at most the page size plus one
+     * @param pageable the pageable, {@literal null} if all the records were read
+     * @param counter the counter of the total
+     * @return the page
+     */
+    public static <T> OrientPage<T> of(List<T> records, Pageable pageable, Counter counter) {
+        Assert.notNull(records);
+        Assert.notNull(counter);
+
+        if (pageable == null) {
+            return new OrientPage<>(records, null, false, null, records.size());
+        }
+
+        boolean hasNext = records.size() > pageable.getPageSize();
+        List<T> content = hasNext ? records.subList(0, pageable.getPageSize()) : records;
+
+        if (hasNext || (content.isEmpty() && pageable.getOffset() > 0)) {
+            // past the end the page is empty whatever the total, so it still has to be counted
+            return new OrientPage<>(content, pageable, hasNext, counter, 0);
+        }
+
+        return new OrientPage<>(content, pageable, false, null, pageable.getOffset() + content.size());
+    }
+
+    /**
+     * Creates the page from the records read with one record more than the page size and the total counted
+     * concurrently. The count is cancelled if the total can be inferred from the records, it is waited for otherwise.
+     *
+     * @param records the records, at most the page size plus one
+     * @param pageable the pageable, {@literal null} if all the records were read
+     * @param total the running count of the total
+     * @return the page
+     */
+    public static <T> OrientPage<T> of(List<T> records, Pageable pageable, final Future<Long> total) {
+        Assert.notNull(total);
+
+        OrientPage<T> page = of(records, pageable, new Counter() {
+            @Override
+            public long count() {
+                return join(total);
+            }
+        });
+
+        if (page.isTotalKnown()) {
+            total.cancel(false);
+        } else {
+            page.getTotalElements();
+        }
+
+        return page;
+    }
+
+    /**
+     * Checks whether the total is known without counting.
+     *
+     * @return true, if the total has been inferred or counted already
+     */
+    public boolean isTotalKnown() {
+        return counter == null;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Page#getTotalElements()
+     */
+    @Override
+    public long getTotalElements() {
+        if (counter != null) {
+            total = counter.count();
+            counter = null;
+        }
+
+        return total;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Page#getTotalPages()
+     */
+    @Override
+    public int getTotalPages() {
+        return getSize() == 0 ? 1 : (int) Math.ceil((double) getTotalElements() / (double) getSize());
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#getNumber()
+     */
+    @Override
+    public int getNumber() {
+        return pageable == null ? 0 : pageable.getPageNumber();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#getSize()
+     */
+    @Override
+    public int getSize() {
+        return pageable == null ? 0 : pageable.getPageSize();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#getNumberOfElements()
+     */
+    @Override
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#getContent()
+     */
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#hasContent()
+     */
+    @Override
+    public boolean hasContent() {
+        return !content.isEmpty();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#getSort()
+     */
+    @Override
+    public Sort getSort() {
+        return pageable == null ? null : pageable.getSort();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#isFirst()
+     */
+    @Override
+    public boolean isFirst() {
+        return !hasPrevious();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#isLast()
+     */
+    @Override
+    public boolean isLast() {
+        return !hasNext();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#hasPrevious()
+     */
+    @Override
+    public boolean hasPrevious() {
+        return getNumber() > 0;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#nextPageable()
+     */
+    @Override
+    public Pageable nextPageable() {
+        return hasNext() ? pageable.next() : null;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#previousPageable()
+     */
+    @Override
+    public Pageable previousPageable() {
+        return hasPrevious() ? pageable.previousOrFirst() : null;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.domain.Page#map(org.springframework.core.convert.converter.Converter)
+     */
+    @Override
+    public <S> Page<S> map(Converter<? super T, ? extends S> converter) {
+        Assert.notNull(converter, "Converter must not be null!");
+
+        List<S> result = new ArrayList<>(content.size());
+
+        for (T element : content) {
+            result.add(converter.convert(element));
+        }
+
+        // the converted page counts through this one, so the total is counted at most once
+        Counter source = counter == null ? null : new Counter() {
+            @Override
+            public long count() {
+                return getTotalElements();
+            }
+        };
+
+        return new OrientPage<>(result, pageable, hasNext, source, total);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+
+    private static long join(Future<Long> total) {
+        try {
+            return total.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            total.cancel(true);
+            throw new DataRetrievalFailureException("Interrupted while waiting for the count of the page", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new DataRetrievalFailureException("The count of the page failed", e.getCause());
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        String contentType = content.isEmpty() ? "UNKNOWN" : content.get(0).getClass().getName();
+        String totalText = counter == null ? String.valueOf(total) : "not counted";
+
+        return String.format("Page %s containing %s instances, total %s", getNumber() + 1, contentType, totalText);
+    }
+}
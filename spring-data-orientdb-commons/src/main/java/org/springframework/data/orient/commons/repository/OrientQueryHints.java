@@ -0,0 +1,217 @@
+package org.springframework.data.orient.commons.repository;
+
+import com.orientechnologies.orient.core.command.OCommandContext.TIMEOUT_STRATEGY;
+import org.springframework.data.orient.commons.repository.annotation.QueryHints;
+import org.springframework.util.Assert;
+
+/**
+ * The OrientDB hints applied to a query: a timeout, a hard limit on the records read, {@code PARALLEL},
+ * {@code NOCACHE} and {@code LOCK RECORD}.
+ * <p>
+ * The hints of a method are declared with {@link QueryHints}. A query method may also take an
+ * {@link OrientQueryHints} parameter, whose hints override the declared ones for the call. The hints are immutable,
+ * the {@code with} methods return a copy.
+ */
+public final class OrientQueryHints {
+
+    /** No hints. */
+    public static final OrientQueryHints NONE = new OrientQueryHints(-1, null, -1, null, null, null);
+
+    /** The timeout in milliseconds, negative if not set. */
+    private final long timeout;
+
+    /** What happens when the timeout is exceeded. */
+    private final TIMEOUT_STRATEGY timeoutStrategy;
+
+    /** The maximum number of records read, negative if not set. */
+    private final int limit;
+
+    /** Whether the query runs on several threads, {@literal null} if not set. */
+    private final Boolean parallel;
+
+    /** Whether the records read bypass the cache, {@literal null} if not set. */
+    private final Boolean noCache;
+
+    /** Whether the records read are locked, {@literal null} if not set. */
+    private final Boolean lockRecord;
+
+    private OrientQueryHints(long timeout, TIMEOUT_STRATEGY timeoutStrategy, int limit, Boolean parallel, Boolean noCache, Boolean lockRecord) {
+        super();
+        this.timeout = timeout;
+        this.timeoutStrategy = timeoutStrategy;
+        this.limit = limit;
+        this.parallel = parallel;
+        this.noCache = noCache;
+        this.lockRecord = lockRecord;
+    }
+
+    /**
+     * Gets the hints declared by the given annotation.
+     *
+     * @param hints the annotation, may be {@literal null}
+     * @return the hints
+     */
+    public static OrientQueryHints of(QueryHints hints) {
+        if (hints == null) {
+            return NONE;
+        }
+
+        return new OrientQueryHints(hints.timeout() < 0 ? -1 : hints.timeout(), hints.onTimeout(), hints.limit() < 0 ? -1 : hints.limit(),
+                hints.parallel() ? Boolean.TRUE : null, hints.noCache() ? Boolean.TRUE : null, hints.lockRecord() ? Boolean.TRUE : null);
+    }
+
+    /**
+     * Sets the maximum time the query may run, failing with an exception when it is exceeded.
+     *
+     * @param millis the timeout in milliseconds
+     * @return the hints
+     */
+    public OrientQueryHints withTimeout(long millis) {
+        return withTimeout(millis, TIMEOUT_STRATEGY.EXCEPTION);
+    }
+
+    /**
+     * Sets the maximum time the query may run.
+     *
+     * @param millis the timeout in milliseconds
+     * @param strategy {@code RETURN} the records read so far or throw an {@code EXCEPTION} when it is exceeded
+     * @return the hints
+     */
+    public OrientQueryHints withTimeout(long millis, TIMEOUT_STRATEGY strategy) {
+        Assert.isTrue(millis > 0, "The timeout must be positive!");
+        Assert.notNull(strategy);
+
+        return new OrientQueryHints(millis, strategy, limit, parallel, noCache, lockRecord);
+    }
+
+    /**
+     * Sets the maximum number of records read, whatever the query or the page asks for. The smaller of this limit
+     * and the {@code LIMIT} of the query is rendered into the query, which is limited on the request otherwise.
+     * Pages and slices read one record more than their size to find out whether there is a next page, a limit not
+     * above their size cuts that record off.
+     *
+     * @param limit the limit
+     * @return the hints
+     */
+    public OrientQueryHints withLimit(int limit) {
+        Assert.isTrue(limit > 0, "The limit must be positive!");
+
+        return new OrientQueryHints(timeout, timeoutStrategy, limit, parallel, noCache, lockRecord);
+    }
+
+    /**
+     * Sets whether the query runs on several threads.
+     *
+     * @param parallel true, to run the query in parallel
+     * @return the hints
+     */
+    public OrientQueryHints withParallel(boolean parallel) {
+        return new OrientQueryHints(timeout, timeoutStrategy, limit, parallel, noCache, lockRecord);
+    }
+
+    /**
+     * Sets whether the records read bypass the cache.
+     *
+     * @param noCache true, to bypass the cache
+     * @return the hints
+     */
+    public OrientQueryHints withNoCache(boolean noCache) {
+        return new OrientQueryHints(timeout, timeoutStrategy, limit, parallel, noCache, lockRecord);
+    }
+
+    /**
+     * Sets whether each record is locked exclusively and reloaded while the query reads it. OrientDB releases the
+     * lock once the record is read, not at the end of the transaction.
+     *
+     * @param lockRecord true, to lock the records
+     * @return the hints
+     */
+    public OrientQueryHints withLockRecord(boolean lockRecord) {
+        return new OrientQueryHints(timeout, timeoutStrategy, limit, parallel, noCache, lockRecord);
+    }
+
+    /**
+     * Gets these hints overridden by the ones set in the given hints.
+     *
+     * @param hints the overriding hints, may be {@literal null}
+     * @return the hints
+     */
+    public OrientQueryHints override(OrientQueryHints hints) {
+        if (hints == null || hints == NONE) {
+            return this;
+        } else if (this == NONE) {
+            return hints;
+        }
+
+        return new OrientQueryHints(hints.timeout < 0 ? timeout : hints.timeout, hints.timeout < 0 ? timeoutStrategy : hints.timeoutStrategy,
+                hints.limit < 0 ? limit : hints.limit, hints.parallel == null ? parallel : hints.parallel,
+                hints.noCache == null ? noCache : hints.noCache, hints.lockRecord == null ? lockRecord : hints.lockRecord);
+    }
+
+    /**
+     * Gets the hints applying to the count query of a page: the timeout, {@code PARALLEL} and {@code NOCACHE}.
+     *
+     * @return the hints
+     */
+    public OrientQueryHints forCount() {
+        return limit < 0 && lockRecord == null ? this : new OrientQueryHints(timeout, timeoutStrategy, -1, parallel, noCache, null);
+    }
+
+    /**
+     * Gets the maximum number of records read.
+     *
+     * @return the limit, negative if not set
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks whether the hints render anything into the query text.
+     *
+     * @return true, if a timeout, {@code PARALLEL}, {@code NOCACHE} or {@code LOCK RECORD} is set
+     */
+    public boolean hasClauses() {
+        return timeout > 0 || Boolean.TRUE.equals(parallel) || Boolean.TRUE.equals(noCache) || Boolean.TRUE.equals(lockRecord);
+    }
+
+    /**
+     * Appends the clauses of the hints to the given query, which must not declare them itself.
+     *
+     * @param sql the query
+     * @return the query with the hints
+     */
+    public String render(String sql) {
+        if (!hasClauses()) {
+            return sql;
+        }
+
+        StringBuilder builder = new StringBuilder(sql.length() + 48).append(sql);
+
+        if (timeout > 0) {
+            builder.append(" timeout ").append(timeout).append(timeoutStrategy == TIMEOUT_STRATEGY.RETURN ? " return" : " exception");
+        }
+
+        if (Boolean.TRUE.equals(lockRecord)) {
+            builder.append(" lock record");
+        }
+
+        if (Boolean.TRUE.equals(parallel)) {
+            builder.append(" parallel");
+        }
+
+        if (Boolean.TRUE.equals(noCache)) {
+            builder.append(" nocache");
+        }
+
+        return builder.toString();
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return limit < 0 ? render("hints:") : render("hints: limit " + limit);
+    }
+}
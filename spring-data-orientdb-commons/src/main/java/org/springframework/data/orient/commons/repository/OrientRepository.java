@@ -1,10 +1,13 @@
 package org.springframework.data.orient.commons.repository;
 
+import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.OrientBulkOptions;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * The Orient specific extension of {@link org.springframework.data.repository.Repository}.
@@ -24,6 +27,18 @@ public interface OrientRepository<T> extends PagingAndSortingRepository<T, Strin
      * @return the saved entity
      */
     <S extends T> S save(S entity, String cluster);
+
+    /**
+     * Saves the given entities in chunks, for imports too large for a single transaction. The chunks are committed
+     * one by one, or written with the massive insert intent if the options are not transactional, see
+     * {@link org.springframework.data.orient.commons.core.OrientOperations#saveAll(Iterable, OrientBulkOptions)}.
+     * Runs in the surrounding transaction if there is one, committing it with each chunk.
+     *
+     * @param entities the entities
+     * @param options the bulk options
+     * @return the number of entities saved
+     */
+    <S extends T> long save(Iterable<S> entities, OrientBulkOptions options);
     
     /**
      * Returns the number of entities available with the given cluster.
@@ -77,7 +92,8 @@ public interface OrientRepository<T> extends PagingAndSortingRepository<T, Strin
     List<T> findAll(OrientSource source);
     
     /**
-     * Returns all instances with the given type.
+     * Returns all instances with the given type, including its subtypes. Only the clusters of the type and its
+     * subtypes are read, unless the repository is bound to a cluster.
      *
      * @param domainClass the domain class
      * @return the list
@@ -90,21 +106,104 @@ public interface OrientRepository<T> extends PagingAndSortingRepository<T, Strin
     @Override
     List<T> findAll(Sort sort);
     
-    /* (non-Javadoc)
-     * @see org.springframework.data.repository.CrudRepository#findAll(java.lang.Iterable)
+    /**
+     * Streams all instances of the type. The entities are read through a bounded buffer rather than loaded at once,
+     * the stream has to be closed if it is not consumed completely.
+     *
+     * @return the stream
+     */
+    Stream<T> streamAll();
+
+    /**
+     * Streams all instances of the type sorted by the given options.
+     *
+     * @param sort the sort
+     * @return the stream
+     */
+    Stream<T> streamAll(Sort sort);
+
+    /**
+     * Publishes all instances of the type to each subscriber as it requests them. The query runs on the executor of
+     * the asynchronous queries, see
+     * {@link org.springframework.data.orient.commons.core.OrientOperations#publish(com.orientechnologies.orient.core.sql.query.OSQLQuery, DetachMode, Object...)}.
+     *
+     * @return the publisher
+     */
+    Publisher<T> publishAll();
+
+    /**
+     * Publishes all instances of the type sorted by the given options.
+     *
+     * @param sort the sort
+     * @return the publisher
+     */
+    Publisher<T> publishAll(Sort sort);
+
+    /**
+     * Streams all instances with the given type, including its subtypes, see {@link #findAll(Class)}.
+     *
+     * @param domainClass the domain class
+     * @return the stream
+     */
+    <S extends T> Stream<S> streamAll(Class<S> domainClass);
+
+    /**
+     * Streams all instances of the type with the given source.
+     *
+     * @param source the source
+     * @return the stream
+     */
+    Stream<T> streamAll(OrientSource source);
+
+    /**
+     * Returns a page of entities positioned after the cursor of the given request. Unlike
+     * {@link #findAll(org.springframework.data.domain.Pageable)} it does not skip the previous pages nor count the
+     * entities, so deep pages are as cheap as the first one.
+     *
+     * @param request the keyset page request
+     * @return the page with the cursor of the next one
+     */
+    KeysetPage<T> findAll(KeysetPageRequest request);
+
+    /**
+     * Returns the entities with the given ids, in the order of the ids, with {@literal null} for the missing ones.
+     * The records are loaded directly rather than queried, see
+     * {@link org.springframework.data.orient.commons.core.OrientOperations#loadAll(List)}.
+     *
+     * @param ids the ids
+     * @return the entities
      */
     @Override
     List<T> findAll(Iterable<String> ids);
+
+    /**
+     * Returns whether an entity with the given id exists. Only the record metadata is read, the entity is not loaded.
+     *
+     * @param id the id
+     * @return true, if the entity exists
+     */
+    @Override
+    boolean exists(String id);
+
+    /**
+     * Returns whether the entities with the given ids exist, in the order of the ids. Only the record metadata is
+     * read, see {@link org.springframework.data.orient.commons.core.OrientOperations#exists(List)}.
+     *
+     * @param ids the ids
+     * @return the flags
+     */
+    boolean[] exists(Iterable<String> ids);
     
     /**
-     * Deletes all entities managed by the repository for the given cluster.
+     * Deletes all entities managed by the repository for the given cluster, without loading them.
      *
      * @param cluster the cluster name
      */
     void deleteAll(String cluster);
     
     /**
-     * Deletes all entities with the given type managed by the repository.
+     * Deletes all entities with the given type managed by the repository, including its subtypes, without loading
+     * them. A repository bound to a cluster deletes them from that cluster only.
      *
      * @param domainClass the domain class
      */
@@ -0,0 +1,81 @@
+package org.springframework.data.orient.commons.repository;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * The reactive flavor of {@link OrientRepository}, whose methods return Reactive Streams {@link Publisher publishers}
+ * and run once a result is requested, on the executor of the asynchronous queries, see
+ * {@link org.springframework.data.orient.commons.core.ReactiveOrientOperations}. The query methods of the
+ * repository may return a {@link Publisher} as well, pushing the records as they are requested. The entities are
+ * detached, as they leave the thread of their connection, see
+ * {@link org.springframework.data.orient.commons.repository.annotation.Detach}.
+ *
+ * @param <T> the type of the entities
+ */
+@NoRepositoryBean
+public interface ReactiveOrientRepository<T> extends Repository<T, String> {
+
+    /**
+     * Saves the given entity.
+     *
+     * @param entity the entity
+     * @return the publisher of the saved entity
+     */
+    <S extends T> Publisher<S> save(S entity);
+
+    /**
+     * Finds the entity with the given id.
+     *
+     * @param id the id
+     * @return the publisher of the entity, completing without result if there is none
+     */
+    Publisher<T> findOne(String id);
+
+    /**
+     * Checks whether an entity with the given id exists.
+     *
+     * @param id the id
+     * @return the publisher of the existence
+     */
+    Publisher<Boolean> exists(String id);
+
+    /**
+     * Finds all the entities, pushed as they are requested.
+     *
+     * @return the publisher of the entities
+     */
+    Publisher<T> findAll();
+
+    /**
+     * Finds all the entities in the given order, pushed as they are requested.
+     *
+     * @param sort the order
+     * @return the publisher of the entities
+     */
+    Publisher<T> findAll(Sort sort);
+
+    /**
+     * Counts the entities.
+     *
+     * @return the publisher of the count
+     */
+    Publisher<Long> count();
+
+    /**
+     * Deletes the entity with the given id.
+     *
+     * @param id the id
+     * @return the publisher completing once the entity is deleted
+     */
+    Publisher<Void> delete(String id);
+
+    /**
+     * Deletes all the entities.
+     *
+     * @return the publisher completing once the entities are deleted
+     */
+    Publisher<Void> deleteAll();
+}
@@ -0,0 +1,15 @@
+package org.springframework.data.orient.commons.repository.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a {@link Query} method whose statement changes records, e.g. {@code update}, {@code delete} or
+ * {@code insert}. The statement is executed as a command on the database of the current transaction and the method
+ * returns the number of records affected as {@code int} or {@code long}, or nothing. A {@link Query} method declaring
+ * such a statement without this annotation is rejected.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface Modifying {
+}
@@ -18,8 +18,14 @@ public @interface Query {
     String value() default "";
     
     /**
-     * Defines a special count query that shall be used for pagination queries to lookup the total number of elements for
-     * a page. If non is configured we will derive the count query from the method name.
+     * Defines whether the query itself is a count query, i.e. returns the number of records.
      */
     boolean count() default false;
+
+    /**
+     * Defines a special count query that shall be used for pagination queries to lookup the total number of elements for
+     * a page. It takes the same parameters as the query. If none is configured the count query is derived from the
+     * query.
+     */
+    String countQuery() default "";
 }
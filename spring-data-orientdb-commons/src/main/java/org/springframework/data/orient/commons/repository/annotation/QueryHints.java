@@ -0,0 +1,48 @@
+package org.springframework.data.orient.commons.repository.annotation;
+
+import com.orientechnologies.orient.core.command.OCommandContext.TIMEOUT_STRATEGY;
+
+import java.lang.annotation.*;
+
+/**
+ * The OrientDB hints applied to the queries of a repository method, see
+ * {@link org.springframework.data.orient.commons.repository.OrientQueryHints} to set them per call.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface QueryHints {
+
+    /**
+     * The maximum time in milliseconds the query may run, rendered as {@code TIMEOUT}. Negative for no timeout.
+     */
+    long timeout() default -1;
+
+    /**
+     * What happens when the timeout is exceeded: {@code RETURN} the records read so far or throw an
+     * {@code EXCEPTION}.
+     */
+    TIMEOUT_STRATEGY onTimeout() default TIMEOUT_STRATEGY.EXCEPTION;
+
+    /**
+     * The maximum number of records read, whatever the query or the page asks for, rendered into the {@code LIMIT}
+     * of the query when it has one. Negative for no limit.
+     */
+    int limit() default -1;
+
+    /**
+     * Whether the query runs on several threads, rendered as {@code PARALLEL}.
+     */
+    boolean parallel() default false;
+
+    /**
+     * Whether the records read bypass the local cache, rendered as {@code NOCACHE}.
+     */
+    boolean noCache() default false;
+
+    /**
+     * Whether each record is locked exclusively and reloaded while the query reads it, rendered as
+     * {@code LOCK RECORD}. OrientDB releases the lock once the record is read, not at the end of the transaction.
+     */
+    boolean lockRecord() default false;
+}
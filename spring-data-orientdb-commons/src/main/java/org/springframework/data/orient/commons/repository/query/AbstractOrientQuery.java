@@ -1,14 +1,27 @@
 package org.springframework.data.orient.commons.repository.query;
 
+import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.orient.commons.core.OrientOperations;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.AsyncExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.CollectionExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.CountExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.ExistsExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.KeysetExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.ModifyingExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.PagedExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.PublisherExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.SingleEntityExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.SliceExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.StreamExecution;
 import org.springframework.data.repository.query.RepositoryQuery;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The base class to implement {@link org.springframework.data.repository.query.RepositoryQuery}s for OrientDB.
  */
@@ -44,7 +57,13 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
      */
     @Override
     public Object execute(Object[] parameters) {
-        return doExecute(getExecution(), parameters);
+        OrientQueryExecution execution = getExecution();
+
+        if (method.isAsyncQuery()) {
+            execution = new AsyncExecution(operations, method.getParameters(), execution, method.getMethod().getReturnType());
+        }
+
+        return doExecute(execution, parameters);
     }
     
     /**
@@ -66,9 +85,19 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
      */
     @SuppressWarnings("rawtypes")
     protected OSQLQuery<?> createQuery(Object[] values) {
-        return applyFetchPlan(doCreateQuery(values));
+        return applyQueryHints(applyFetchPlan(doCreateQuery(values)), getQueryHints(values));
     }
     
+    /**
+     * Creates the command changing records, for derived deletes and modifying queries.
+     *
+     * @param values the parameters for query
+     * @return the SQL command
+     */
+    protected OCommandSQL createCommand(Object[] values) {
+        return new OCommandSQL(doCreateQuery(values).getText());
+    }
+
     /**
      * Creates the count query.
      *
@@ -77,11 +106,12 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
      */
     @SuppressWarnings("rawtypes")
     protected OSQLQuery<?> createCountQuery(Object[] values) {
-        return doCreateCountQuery(values);
+        return applyQueryHints(doCreateCountQuery(values), getQueryHints(values).forCount());
     }
     
     /**
-     * Do create query for specific source.
+     * Do create query for specific source, limited to the limit of the hints: OrientDB replaces the limit of the
+     * request with the {@code LIMIT} of the query text, so the smaller of both is rendered when the text has one.
      *
      * @param values the parameters for query
      * @return the OSQL query
@@ -98,6 +128,40 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
     @SuppressWarnings("rawtypes")
     protected abstract OSQLQuery<?> doCreateCountQuery(Object[] values);
     
+    /**
+     * Prepares the values to bind to the placeholders of the query created for the given method invocation values.
+     * By default all bindable parameters are bound positionally in declaration order.
+     *
+     * @param parameters the method parameters
+     * @param values the method invocation values
+     * @return the query parameters
+     */
+    protected Object[] prepareParameters(OrientParameters parameters, Object[] values) {
+        int index = 0;
+        List<Object> params = new ArrayList<>();
+
+        for (OrientParameter parameter : parameters) {
+            if (parameter.isBindable()) {
+                params.add(values[index]);
+            }
+
+            ++index;
+        }
+
+        return params.toArray();
+    }
+
+    /**
+     * Gets the sort of the keyset page read for the given method invocation values, without the trailing
+     * {@code @rid}. Keyset pagination is only supported by queries whose order is known.
+     *
+     * @param values the method invocation values
+     * @return the keyset sort, {@literal null} if the records are ordered by {@code @rid} only
+     */
+    protected Sort getKeysetSort(Object[] values) {
+        throw new UnsupportedOperationException("Keyset pagination is not supported by " + getClass().getSimpleName());
+    }
+
     /**
      * Gets the execution for query.
      *
@@ -106,25 +170,83 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
     protected OrientQueryExecution getExecution() {
         final OrientParameters parameters = method.getParameters();
         
-        if (method.isCollectionQuery()) {
+        if (isDeleteQuery() || method.isModifyingQuery()) {
+            return new ModifyingExecution(operations, parameters);
+        } else if (method.isKeysetPageQuery()) {
+            return new KeysetExecution(operations, parameters);
+        } else if (method.isPublisherQuery()) {
+            return new PublisherExecution(operations, parameters);
+        } else if (method.isStreamQuery() || method.isIteratorQuery()) {
+            return new StreamExecution(operations, parameters, method.isStreamQuery());
+        } else if (method.isCollectionQuery()) {
             return new CollectionExecution(operations, parameters);
+        } else if (isExistsQuery()) {
+            return new ExistsExecution(operations, parameters);
         } else if (isCountQuery()) {
             return new CountExecution(operations, parameters);
+        } else if (method.isSliceQuery()) {
+            return new SliceExecution(operations, parameters);
         } else if (method.isPageQuery()) {
             return new PagedExecution(operations, parameters);
-        } else if (method.isQueryForEntity()) {
+        } else if (method.isSingleEntityQuery()) {
             return new SingleEntityExecution(operations, parameters);
         } 
         
         throw new IllegalArgumentException();
     }
     
+    /**
+     * Gets the projection returned for the given method invocation values.
+     *
+     * @param values the method invocation values
+     * @return the projection, {@literal null} if the entities are returned
+     */
+    protected OrientProjection getProjection(Object[] values) {
+        return method.getProjection(new OrientParametersParameterAccessor(method.getParameters(), values));
+    }
+
+    /**
+     * Gets the hints applied to the queries of the given method invocation values. The queries of asynchronous
+     * methods get the default timeout of the template unless they have one.
+     *
+     * @param values the method invocation values
+     * @return the hints
+     */
+    protected OrientQueryHints getQueryHints(Object[] values) {
+        OrientQueryHints hints = method.getQueryHints(new OrientParametersParameterAccessor(method.getParameters(), values));
+
+        if (method.isAsyncQuery() && operations.getAsyncQueryTimeout() > 0) {
+            // the timeout declared by the method or given by the caller wins over the default one
+            return OrientQueryHints.NONE.withTimeout(operations.getAsyncQueryTimeout()).override(hints);
+        }
+
+        return hints;
+    }
+
     /**
      * Checks if is count query.
      *
      * @return true, if is count query
      */
     protected abstract boolean isCountQuery();
+
+    /**
+     * Checks if is exists query.
+     *
+     * @return true, if is exists query
+     */
+    protected boolean isExistsQuery() {
+        return false;
+    }
+
+    /**
+     * Checks if is delete query.
+     *
+     * @return true, if is delete query
+     */
+    protected boolean isDeleteQuery() {
+        return false;
+    }
     
     @SuppressWarnings("rawtypes")
     private OSQLQuery<?> applyFetchPlan(OSQLQuery query) {
@@ -137,6 +259,15 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
         return query;
     }
 
+    private OSQLQuery<?> applyQueryHints(OSQLQuery<?> query, OrientQueryHints hints) {
+        // the limit is applied by doCreateQuery, as it caps the LIMIT of the query text
+        if (hints.hasClauses()) {
+            query.setText(hints.render(query.getText()));
+        }
+
+        return query;
+    }
+
     protected DetachMode getDetachMode() {
         return method.getDetachMode();
     }
@@ -0,0 +1,250 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code WHERE} criteria of an OrientDB SQL query rendered by the {@link OrientSqlBuilder}.
+ * <p>
+ * The conditions are appended to a single buffer as they are added, values are always rendered as positional
+ * {@code ?} placeholders.
+ */
+public final class OrientCriteria {
+
+    /** The record id attribute. */
+    public static final String RID = "@rid";
+
+    /** The record class attribute. */
+    public static final String CLASS = "@class";
+
+    /** The current record. */
+    public static final String THIS = "@this";
+
+    /**
+     * The operators supported by {@link OrientCriteria}.
+     */
+    public enum Operator {
+
+        EQ("", " = ?"),
+        NE("", " <> ?"),
+        GT("", " > ?"),
+        GE("", " >= ?"),
+        LT("", " < ?"),
+        LE("", " <= ?"),
+        BETWEEN("", " between ? and ?"),
+        IS_NULL("", " is null"),
+        IS_NOT_NULL("", " is not null"),
+        IS_DEFINED("", " is defined"),
+        IS_TRUE("", " = true"),
+        IS_FALSE("", " = false"),
+        IN("", " in ?"),
+        NOT_IN("", " not in ?"),
+        LIKE("", " like ?"),
+        NOT_LIKE("not (", " like ?)"),
+        CONTAINS("", " contains ?"),
+        NOT_CONTAINS("not (", " contains ?)"),
+        CONTAINS_TEXT("", " containstext ?"),
+        NOT_CONTAINS_TEXT("not (", " containstext ?)"),
+        MATCHES("", " matches ?");
+
+        /** The prefix. */
+        private final String prefix;
+
+        /** The suffix. */
+        private final String suffix;
+
+        private Operator(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+
+    /** The sql. */
+    private final StringBuilder sql = new StringBuilder(32);
+
+    /** Whether the criteria contains a top level {@code OR}. */
+    private boolean disjunction;
+
+    private OrientCriteria() {
+        super();
+    }
+
+    /**
+     * Creates the criteria for the given field and operator.
+     *
+     * @param field the field
+     * @param operator the operator
+     * @return the criteria
+     */
+    public static OrientCriteria where(String field, Operator operator) {
+        return new OrientCriteria().append(field, operator);
+    }
+
+    /**
+     * Creates the criteria matching the records of the given class and its subclasses.
+     *
+     * @param className the class name
+     * @return the criteria
+     */
+    public static OrientCriteria instanceOf(String className) {
+        OrientCriteria criteria = new OrientCriteria();
+        criteria.sql.append(THIS).append(" instanceof ");
+        appendLiteral(criteria.sql, className);
+
+        return criteria;
+    }
+
+    /**
+     * Creates the criteria matching the records ordered after a given position by the given sort, i.e.
+     * {@code (a, b) > (?, ?)} expanded into {@code a > ? or a = ? and b > ?}. Descending orders compare with
+     * {@code <}.
+     *
+     * @param sort the sort, the last order should be on a unique key such as {@link #RID}
+     * @return the criteria
+     */
+    public static OrientCriteria seek(Sort sort) {
+        Assert.notNull(sort);
+
+        OrientCriteria criteria = null;
+        List<Order> previous = new ArrayList<>();
+
+        for (Order order : sort) {
+            OrientSqlBuilder.checkSortProperty(order.getProperty());
+            OrientCriteria term = null;
+
+            for (Order equal : previous) {
+                term = term == null ? where(equal.getProperty(), Operator.EQ) : term.and(equal.getProperty(), Operator.EQ);
+            }
+
+            Operator operator = order.isAscending() ? Operator.GT : Operator.LT;
+            term = term == null ? where(order.getProperty(), operator) : term.and(order.getProperty(), operator);
+            criteria = criteria == null ? term : criteria.or(term);
+
+            previous.add(order);
+        }
+
+        return criteria;
+    }
+
+    /**
+     * Gets the expression converting the given field to lower case.
+     *
+     * @param field the field
+     * @return the expression
+     */
+    public static String lower(String field) {
+        return field + ".toLowerCase()";
+    }
+
+    /**
+     * Adds a condition for the given field and operator.
+     *
+     * @param field the field
+     * @param operator the operator
+     * @return the criteria
+     */
+    public OrientCriteria and(String field, Operator operator) {
+        wrapIfDisjunction();
+        sql.append(" and ");
+
+        return append(field, operator);
+    }
+
+    /**
+     * Adds the given criteria with {@code AND}.
+     *
+     * @param criteria the criteria
+     * @return the criteria
+     */
+    public OrientCriteria and(OrientCriteria criteria) {
+        wrapIfDisjunction();
+        sql.append(" and ");
+
+        if (criteria.disjunction) {
+            sql.append('(').append(criteria.sql).append(')');
+        } else {
+            sql.append(criteria.sql);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the given criteria with {@code OR}.
+     *
+     * @param criteria the criteria
+     * @return the criteria
+     */
+    public OrientCriteria or(OrientCriteria criteria) {
+        sql.append(" or ").append(criteria.sql);
+        disjunction = true;
+
+        return this;
+    }
+
+    /**
+     * Checks whether the criteria contains a top level {@code OR}.
+     *
+     * @return true, if the criteria has to be parenthesized when combined with {@code AND}
+     */
+    boolean isDisjunction() {
+        return disjunction;
+    }
+
+    /**
+     * Appends the criteria to the given buffer.
+     *
+     * @param target the target
+     */
+    void appendTo(StringBuilder target) {
+        target.append(sql);
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return sql.toString();
+    }
+
+    private OrientCriteria append(String field, Operator operator) {
+        Assert.hasText(field);
+        sql.append(operator.prefix).append(field).append(operator.suffix);
+
+        return this;
+    }
+
+    private void wrapIfDisjunction() {
+        if (disjunction) {
+            sql.insert(0, '(').append(')');
+            disjunction = false;
+        }
+    }
+
+    /**
+     * Appends the given value as a quoted string literal.
+     *
+     * @param target the target
+     * @param value the value
+     */
+    static void appendLiteral(StringBuilder target, String value) {
+        target.append('\'');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '\'' || c == '\\') {
+                target.append('\\');
+            }
+
+            target.append(c);
+        }
+
+        target.append('\'');
+    }
+}
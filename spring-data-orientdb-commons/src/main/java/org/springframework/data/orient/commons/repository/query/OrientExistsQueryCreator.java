@@ -0,0 +1,18 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.data.repository.query.parser.PartTree;
+
+public class OrientExistsQueryCreator extends OrientQueryCreator {
+
+    public OrientExistsQueryCreator(PartTree tree, OrientQueryMethod method, OrientParameterAccessor parameters) {
+        super(tree, method, parameters);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.OrientQueryCreator#isExistsQuery()
+     */
+    @Override
+    public final boolean isExistsQuery() {
+        return true;
+    }
+}
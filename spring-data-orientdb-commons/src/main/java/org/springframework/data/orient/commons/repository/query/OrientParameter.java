@@ -1,7 +1,9 @@
 package org.springframework.data.orient.commons.repository.query;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
 import org.springframework.data.orient.commons.repository.OrientCluster;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.Parameter;
 
@@ -10,7 +12,7 @@ import java.util.List;
 
 public class OrientParameter extends Parameter {
  
-    static final List<Class<?>> ORIENT_TYPES = Arrays.asList(OrientSource.class, OrientCluster.class);
+    static final List<Class<?>> ORIENT_TYPES = Arrays.asList(OrientSource.class, OrientCluster.class, KeysetPageRequest.class, Class.class, OrientQueryHints.class);
     
     static final List<Class<?>> ORIENT_SOURCE_TYPES = Arrays.asList(OrientSource.class, OrientCluster.class);
     
@@ -36,4 +38,31 @@ public class OrientParameter extends Parameter {
     boolean isSource() {
         return OrientSource.class.isAssignableFrom(getType());
     }
+
+    /**
+     * Checks if the parameter is the keyset page request.
+     *
+     * @return true, if it's keyset page request
+     */
+    boolean isKeysetPageRequest() {
+        return KeysetPageRequest.class.isAssignableFrom(getType());
+    }
+
+    /**
+     * Checks if the parameter is the query hints.
+     *
+     * @return true, if it's query hints
+     */
+    boolean isQueryHints() {
+        return OrientQueryHints.class.equals(getType());
+    }
+
+    /**
+     * Checks if the parameter is the type of the projection returned by the query.
+     *
+     * @return true, if it's dynamic projection
+     */
+    boolean isDynamicProjection() {
+        return Class.class.equals(getType());
+    }
 }
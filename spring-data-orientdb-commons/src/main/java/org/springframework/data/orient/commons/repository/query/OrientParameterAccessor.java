@@ -1,9 +1,17 @@
 package org.springframework.data.orient.commons.repository.query;
 
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.ParameterAccessor;
 
 public interface OrientParameterAccessor extends ParameterAccessor {
 
     OrientSource getSource();
+
+    KeysetPageRequest getKeysetPageRequest();
+
+    Class<?> getDynamicProjection();
+
+    OrientQueryHints getQueryHints();
 }
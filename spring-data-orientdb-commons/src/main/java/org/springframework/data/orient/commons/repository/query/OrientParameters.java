@@ -1,6 +1,8 @@
 package org.springframework.data.orient.commons.repository.query;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.Parameters;
 
@@ -14,6 +16,9 @@ import java.util.function.Consumer;
 public class OrientParameters extends Parameters<OrientParameters, OrientParameter> {
 
     private final int sourceIndex;
+    private final int keysetIndex;
+    private final int projectionIndex;
+    private final int hintsIndex;
     private final List<OrientParameter> originals; // parent's parameters attribute is not accessible
 
     private OrientParameters(List<OrientParameter> originals) {
@@ -22,13 +27,22 @@ public class OrientParameters extends Parameters<OrientParameters, OrientParamet
         this.originals = originals;
 
         int clusterIndexTemp = -1;
+        int keysetIndexTemp = -1;
+        int projectionIndexTemp = -1;
+        int hintsIndexTemp = -1;
 
         for (int i = 0; i < originals.size(); i++) {
             OrientParameter original = originals.get(i);
             clusterIndexTemp = original.isSource() ? i : -1;
+            keysetIndexTemp = original.isKeysetPageRequest() ? i : keysetIndexTemp;
+            projectionIndexTemp = original.isDynamicProjection() ? i : projectionIndexTemp;
+            hintsIndexTemp = original.isQueryHints() ? i : hintsIndexTemp;
         }
 
         sourceIndex = clusterIndexTemp;
+        keysetIndex = keysetIndexTemp;
+        projectionIndex = projectionIndexTemp;
+        hintsIndex = hintsIndexTemp;
     }
 
     public OrientParameters(Method method) {
@@ -39,6 +53,9 @@ public class OrientParameters extends Parameters<OrientParameters, OrientParamet
         List<Class<?>> types = Arrays.asList(method.getParameterTypes());
 
         sourceIndex = types.indexOf(OrientSource.class);
+        keysetIndex = types.indexOf(KeysetPageRequest.class);
+        projectionIndex = types.indexOf(Class.class);
+        hintsIndex = types.indexOf(OrientQueryHints.class);
     }
 
     /* (non-Javadoc)
@@ -65,6 +82,30 @@ public class OrientParameters extends Parameters<OrientParameters, OrientParamet
         return sourceIndex != -1;
     }
 
+    public int getKeysetPageRequestIndex() {
+        return keysetIndex;
+    }
+
+    public boolean hasKeysetPageRequestParameter() {
+        return keysetIndex != -1;
+    }
+
+    public int getDynamicProjectionIndex() {
+        return projectionIndex;
+    }
+
+    public boolean hasDynamicProjectionParameter() {
+        return projectionIndex != -1;
+    }
+
+    public int getQueryHintsIndex() {
+        return hintsIndex;
+    }
+
+    public boolean hasQueryHintsParameter() {
+        return hintsIndex != -1;
+    }
+
     @Override
     public void forEach(Consumer<? super OrientParameter> action) {
         originals.forEach(action);
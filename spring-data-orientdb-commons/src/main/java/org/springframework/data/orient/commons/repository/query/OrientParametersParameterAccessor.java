@@ -1,5 +1,7 @@
 package org.springframework.data.orient.commons.repository.query;
 
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 
@@ -27,4 +29,40 @@ public class OrientParametersParameterAccessor extends ParametersParameterAccess
         
         return (OrientSource) values[parameters.getSourceIndex()];
     }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.OrientParameterAccessor#getKeysetPageRequest()
+     */
+    @Override
+    public KeysetPageRequest getKeysetPageRequest() {
+        if (!parameters.hasKeysetPageRequestParameter()) {
+            return null;
+        }
+
+        return (KeysetPageRequest) values[parameters.getKeysetPageRequestIndex()];
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.OrientParameterAccessor#getDynamicProjection()
+     */
+    @Override
+    public Class<?> getDynamicProjection() {
+        if (!parameters.hasDynamicProjectionParameter()) {
+            return null;
+        }
+
+        return (Class<?>) values[parameters.getDynamicProjectionIndex()];
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.OrientParameterAccessor#getQueryHints()
+     */
+    @Override
+    public OrientQueryHints getQueryHints() {
+        if (!parameters.hasQueryHintsParameter()) {
+            return null;
+        }
+
+        return (OrientQueryHints) values[parameters.getQueryHintsIndex()];
+    }
 }
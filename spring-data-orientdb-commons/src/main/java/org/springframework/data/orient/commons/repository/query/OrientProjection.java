@@ -0,0 +1,192 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A projection returned by a query method instead of the entity: an interface whose getters are backed by the
+ * selected fields, or a DTO class populated through its constructor or its setters.
+ * <p>
+ * The query selects the fields of the projection only, and the rows are mapped straight from the
+ * {@link ODocument}s, without loading, proxying or detaching the entities. Interfaces with {@link Value} getters read
+ * the whole record.
+ */
+public final class OrientProjection {
+
+    /** The factory of the interface projections. */
+    private static final ProjectionFactory FACTORY = new SpelAwareProxyProjectionFactory();
+
+    /** The conversion service used for the constructor arguments of the DTOs. */
+    private static final ConversionService CONVERSION_SERVICE = new DefaultConversionService();
+
+    /** The projections by type. */
+    private static final ConcurrentMap<Class<?>, OrientProjection> PROJECTIONS = new ConcurrentReferenceHashMap<>();
+
+    /** The projection type. */
+    private final Class<?> type;
+
+    /** The selected fields, {@literal null} to select the whole record. */
+    private final String[] fields;
+
+    /** The constructor of the DTO, {@literal null} if the projection is an interface or is populated by setters. */
+    private final PreferredConstructor<?, ?> constructor;
+
+    private OrientProjection(Class<?> type, String[] fields, PreferredConstructor<?, ?> constructor) {
+        super();
+        this.type = type;
+        this.fields = fields;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Checks whether the given type returned by a query method of the given domain class is a projection.
+     *
+     * @param type the returned type
+     * @param domainClass the domain class
+     * @return true, if the type is neither an entity, nor a record, nor a simple value
+     */
+    public static boolean isProjection(Class<?> type, Class<?> domainClass) {
+        if (type == null || type.isPrimitive() || type.isArray() || type.isEnum() || BeanUtils.isSimpleValueType(type)) {
+            return false;
+        } else if (type.isAssignableFrom(domainClass) || domainClass.isAssignableFrom(type)) {
+            return false;
+        } else if (OIdentifiable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) {
+            return false;
+        }
+
+        String name = type.getName();
+
+        return !name.startsWith("java.") && !name.startsWith("com.orientechnologies.");
+    }
+
+    /**
+     * Gets the projection of the given type.
+     *
+     * @param type the projection type
+     * @return the projection
+     */
+    public static OrientProjection of(Class<?> type) {
+        Assert.notNull(type);
+
+        OrientProjection projection = PROJECTIONS.get(type);
+
+        if (projection == null) {
+            projection = type.isInterface() ? forInterface(type) : forClass(type);
+            PROJECTIONS.put(type, projection);
+        }
+
+        return projection;
+    }
+
+    /**
+     * Gets the projection type.
+     *
+     * @return the type
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the fields to select.
+     *
+     * @return the fields, {@literal null} to select the whole record
+     */
+    public String[] getFields() {
+        return fields == null ? null : fields.clone();
+    }
+
+    /**
+     * Maps the given row into the projection.
+     *
+     * @param row the row read by the projection query
+     * @return the projection
+     */
+    public Object project(ODocument row) {
+        if (type.isInterface()) {
+            return FACTORY.createProjection(type, row.toMap());
+        } else if (constructor != null) {
+            Object[] args = new Object[fields.length];
+            int index = 0;
+
+            for (Parameter<?, ?> parameter : constructor.getParameters()) {
+                args[index++] = CONVERSION_SERVICE.convert(row.field(parameter.getName()), parameter.getType().getType());
+            }
+
+            return BeanUtils.instantiateClass(constructor.getConstructor(), args);
+        }
+
+        BeanWrapper wrapper = new BeanWrapperImpl(BeanUtils.instantiateClass(type));
+
+        for (String field : fields) {
+            wrapper.setPropertyValue(field, row.field(field));
+        }
+
+        return wrapper.getWrappedInstance();
+    }
+
+    private static OrientProjection forInterface(Class<?> type) {
+        for (Method method : type.getMethods()) {
+            if (method.isAnnotationPresent(Value.class)) {
+                // an open projection may read any property of the record
+                return new OrientProjection(type, null, null);
+            }
+        }
+
+        List<String> properties = FACTORY.getInputProperties(type);
+
+        return new OrientProjection(type, properties.toArray(new String[properties.size()]), null);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static OrientProjection forClass(Class<?> type) {
+        PreferredConstructor<?, ?> constructor = new PreferredConstructorDiscoverer(type).getConstructor();
+
+        if (constructor != null && constructor.hasParameters()) {
+            List<String> names = new ArrayList<>();
+
+            for (Parameter<?, ?> parameter : constructor.getParameters()) {
+                if (parameter.getName() == null) {
+                    throw new IllegalStateException(String.format("Cannot read the constructor parameter names of projection %s, compile it with debug information!", type.getName()));
+                }
+
+                names.add(parameter.getName());
+            }
+
+            return new OrientProjection(type, names.toArray(new String[names.size()]), constructor);
+        }
+
+        List<String> names = new ArrayList<>();
+
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            if (descriptor.getWriteMethod() != null) {
+                names.add(descriptor.getName());
+            }
+        }
+
+        Assert.notEmpty(names, String.format("Projection %s has neither constructor parameters nor setters!", type.getName()));
+
+        return new OrientProjection(type, names.toArray(new String[names.size()]), null);
+    }
+}
@@ -1,74 +1,56 @@
 package org.springframework.data.orient.commons.repository.query;
 
-import org.jooq.*;
-import org.jooq.conf.ParamType;
-import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.orient.commons.repository.DefaultSource;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.orient.commons.repository.annotation.Cluster;
 import org.springframework.data.orient.commons.repository.annotation.Source;
+import org.springframework.data.orient.commons.repository.query.OrientCriteria.Operator;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
 import java.lang.annotation.Annotation;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
 
-import static org.jooq.impl.DSL.field;
-
-public class OrientQueryCreator extends AbstractQueryCreator<String, Condition> {
+public class OrientQueryCreator extends AbstractQueryCreator<String, OrientCriteria> {
     
     private static final Logger logger = LoggerFactory.getLogger(OrientQueryCreator.class);
     
-    private final DSLContext context;
-    
     private final PartTree tree;
     
     private final OrientParameterAccessor accessor;
     
     private final OrientQueryMethod method;
-    
-    private final ParamType paramType;
         
     private final Class<?> domainClass;
     
     public OrientQueryCreator(PartTree tree, OrientQueryMethod method, OrientParameterAccessor parameters) {
-        this(tree, method, parameters, ParamType.NAMED);
-    }
-
-    public OrientQueryCreator(PartTree tree, OrientQueryMethod method, OrientParameterAccessor parameters, ParamType paramType) {
         super(tree, parameters);
         
         this.method = method;
-        this.context = DSL.using(SQLDialect.MYSQL);
         this.tree = tree;
         this.accessor = parameters;
-        this.paramType = paramType;
         this.domainClass = method.getEntityInformation().getJavaType();
     }
     
     @Override
-    protected Condition create(Part part, Iterator<Object> iterator) {
-        return toCondition(part, iterator);
+    protected OrientCriteria create(Part part, Iterator<Object> iterator) {
+        return toCriteria(null, part);
     }
 
     @Override
-    protected Condition and(Part part, Condition base, Iterator<Object> iterator) {
-        return base.and(toCondition(part, iterator));
+    protected OrientCriteria and(Part part, OrientCriteria base, Iterator<Object> iterator) {
+        return toCriteria(base, part);
     }
 
     @Override
-    protected Condition or(Condition base, Condition criteria) {
+    protected OrientCriteria or(OrientCriteria base, OrientCriteria criteria) {
         return base.or(criteria);
     }
     
@@ -76,64 +58,186 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
         return tree.isCountProjection();
     }
 
+    /**
+     * Checks whether the query only finds out whether a record matches.
+     *
+     * @return true, if the query selects the record id of the first match only
+     */
+    public boolean isExistsQuery() {
+        return false;
+    }
+
+    /**
+     * Checks whether the query deletes the matching records, e.g. {@code deleteByEmail} or {@code removeByEmail}.
+     *
+     * @return true, if the query is a {@code DELETE} command
+     */
+    public boolean isDeleteQuery() {
+        return tree.isDelete();
+    }
+
+    /**
+     * Renders the query with its paging, see {@link #createStatement()} and {@link #page(String)}.
+     *
+     * @return the query
+     */
     @Override
-    protected String complete(Condition criteria, Sort sort) {
-        Pageable pageable = accessor.getPageable();
-        
-        SelectSelectStep<? extends Record> selectStep;
-        
-        if (isCountQuery()) {
-            selectStep = context.selectCount();
-        } else if (tree.isDistinct()) {
-            selectStep = context.selectDistinct();
+    public String createQuery() {
+        return page(createStatement());
+    }
+
+    /**
+     * Renders the statement of the query without its {@code SKIP} and {@code LIMIT}, which only depends on the
+     * method, the source, the sort, the shape of the keyset and the projection, so that it can be cached.
+     *
+     * @return the statement
+     */
+    public String createStatement() {
+        return super.createQuery();
+    }
+
+    /**
+     * Appends the {@code SKIP} and {@code LIMIT} of the current call to the given statement. OrientDB only accepts
+     * literals there, so they are rendered into the query.
+     *
+     * @param statement the statement rendered by {@link #createStatement()}
+     * @return the query
+     */
+    public String page(String statement) {
+        String queryString = OrientSqlBuilder.of(statement).skip(getSkip()).limit(getLimit()).build();
+        logger.debug(queryString);
+
+        return queryString;
+    }
+
+    @Override
+    protected String complete(OrientCriteria criteria, Sort sort) {
+        OrientSqlBuilder builder;
+
+        if (isDeleteQuery()) {
+            builder = OrientSqlBuilder.delete();
+        } else if (isCountQuery()) {
+            builder = OrientSqlBuilder.selectCount();
+        } else if (isExistsQuery()) {
+            builder = OrientSqlBuilder.select(OrientCriteria.RID);
         } else {
-            selectStep = context.select();
+            OrientProjection projection = method.getProjection(accessor);
+            String[] fields = projection == null ? null : projection.getFields();
+
+            builder = fields == null ? OrientSqlBuilder.select() : OrientSqlBuilder.select(fields);
         }
 
-        SelectConditionStep<? extends Record> conditionStep = selectStep.from(QueryUtils.toSource(getSource())).where(criteria);        
+        builder.from(getSource()).where(criteria);
 
-        SelectLimitStep<? extends Record> limitStep = orderByIfRequired(conditionStep, pageable, sort);
+        KeysetPageRequest keyset = accessor.getKeysetPageRequest();
 
-        Query query = limitIfPageable(limitStep, pageable, sort);
+        // deletes, exists and count queries are not ordered
+        if (isDeleteQuery() || isExistsQuery() || isCountQuery()) {
+            return builder.build();
+        } else if (keyset != null) {
+            return QueryUtils.applyKeysetSeek(builder, QueryUtils.toKeysetSort(sort, keyset), keyset).build();
+        }
 
-        //TODO: Fix it!! 
-        //String queryString = query.getSQL(paramType);
-        //Use inline parameters for paged queries
-        String queryString = query.getSQL(ParamType.INLINED);
-        logger.debug(queryString);
-        
-        return queryString;
+        return builder.orderBy(sort).build();
+    }
+
+    /**
+     * Gets the number of records skipped by the current call, the offset of its page.
+     *
+     * @return the number of records to skip
+     */
+    protected int getSkip() {
+        Pageable pageable = accessor.getPageable();
+
+        if (pageable == null || isDeleteQuery() || isExistsQuery() || isCountQuery() || accessor.getKeysetPageRequest() != null) {
+            return 0;
+        }
+
+        return pageable.getOffset();
+    }
+
+    /**
+     * Gets the maximum number of records read by the current call: the page size, the Top/First limit or a single
+     * record, capped by the limit of the {@link org.springframework.data.orient.commons.repository.OrientQueryHints},
+     * -1 for all of them. Pages and slices read one record more to find out whether there is a next page. OrientDB
+     * replaces the limit of the request with the {@code LIMIT} of the query text, so the hint is rendered here
+     * whenever the query has one.
+     *
+     * @return the limit
+     */
+    protected int getLimit() {
+        int limit = getQueryLimit();
+
+        if (limit < 0 || isDeleteQuery()) {
+            return limit;
+        }
+
+        int maxLimit = method.getQueryHints(accessor).getLimit();
+
+        return maxLimit < 0 ? limit : Math.min(limit, maxLimit);
+    }
+
+    private int getQueryLimit() {
+        if (isDeleteQuery()) {
+            return tree.isLimiting() ? tree.getMaxResults() : -1;
+        } else if (isExistsQuery()) {
+            return 1;
+        } else if (isCountQuery()) {
+            return -1;
+        }
+
+        Pageable pageable = accessor.getPageable();
+        KeysetPageRequest keyset = accessor.getKeysetPageRequest();
+
+        if (keyset != null) {
+            return keyset.getSize() + 1;
+        } else if (pageable != null) {
+            int limit = method.isSliceQuery() || method.isPageQuery() ? pageable.getPageSize() + 1 : pageable.getPageSize();
+
+            return tree.isLimiting() ? Math.min(limit, tree.getMaxResults()) : limit;
+        } else if (tree.isLimiting()) {
+            return tree.getMaxResults();
+        }
+
+        return method.isSingleEntityQuery() ? 1 : -1;
     }
     
-    protected Condition toCondition(Part part, Iterator<Object> iterator) {
+    protected OrientCriteria toCriteria(OrientCriteria base, Part part) {
         String property = part.getProperty().toDotPath();
-        Field<Object> field = field(property);
-        
+        String field = isIgnoreCase(part) ? OrientCriteria.lower(property) : property;
+        Operator operator = toOperator(part);
+
+        return base == null ? OrientCriteria.where(field, operator) : base.and(field, operator);
+    }
+
+    protected Operator toOperator(Part part) {
         switch (part.getType()) {
             case AFTER: 
-            case GREATER_THAN: return field.gt(iterator.next());
-            case GREATER_THAN_EQUAL: return field.ge(iterator.next());
+            case GREATER_THAN: return Operator.GT;
+            case GREATER_THAN_EQUAL: return Operator.GE;
             case BEFORE:
-            case LESS_THAN: return field.lt(iterator.next());
-            case LESS_THAN_EQUAL: return field.le(iterator.next());
-            case BETWEEN: return field.between(iterator.next(), iterator.next());
-            case IS_NULL: return field.isNull();
-            case IS_NOT_NULL: return field.isNotNull();
-            case IN: return field.in(toList(iterator));
-            case NOT_IN: return field.notIn(toList(iterator));
-            case LIKE: return lowerIfIgnoreCase(part, field, iterator);
-            case NOT_LIKE: return lowerIfIgnoreCase(part, field, iterator).not();
-            case STARTING_WITH: return field.startsWith(iterator.next());
-            case ENDING_WITH: return field.endsWith(iterator.next());
-            case CONTAINING: return field.contains(iterator.next());
-            case SIMPLE_PROPERTY: return field.eq(iterator.next());
-            case NEGATING_SIMPLE_PROPERTY: return field.ne(iterator.next());
-            case TRUE: return field.eq(true);
-            case FALSE: return field.eq(false);
+            case LESS_THAN: return Operator.LT;
+            case LESS_THAN_EQUAL: return Operator.LE;
+            case BETWEEN: return Operator.BETWEEN;
+            case IS_NULL: return Operator.IS_NULL;
+            case IS_NOT_NULL: return Operator.IS_NOT_NULL;
+            case EXISTS: return Operator.IS_DEFINED;
+            case IN: return Operator.IN;
+            case NOT_IN: return Operator.NOT_IN;
+            case LIKE:
+            case STARTING_WITH:
+            case ENDING_WITH: return Operator.LIKE;
+            case NOT_LIKE: return Operator.NOT_LIKE;
+            case CONTAINING: return isCollection(part) ? Operator.CONTAINS : isIgnoreCase(part) ? Operator.LIKE : Operator.CONTAINS_TEXT;
+            case NOT_CONTAINING: return isCollection(part) ? Operator.NOT_CONTAINS : isIgnoreCase(part) ? Operator.NOT_LIKE : Operator.NOT_CONTAINS_TEXT;
+            case REGEX: return Operator.MATCHES;
+            case SIMPLE_PROPERTY: return Operator.EQ;
+            case NEGATING_SIMPLE_PROPERTY: return Operator.NE;
+            case TRUE: return Operator.IS_TRUE;
+            case FALSE: return Operator.IS_FALSE;
             default: throw new IllegalArgumentException("Unsupported keyword!");
         }
     }
-    
     protected OrientSource getSource() {
         OrientSource orientSource = accessor.getSource();
         
@@ -154,60 +258,35 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
         return new DefaultSource(domainClass);
     }
     
-    @SuppressWarnings("incomplete-switch")
-    private Condition lowerIfIgnoreCase(Part part, Field<Object> field, Iterator<Object> iterator) {
-        switch (part.shouldIgnoreCase()) {
-            case ALWAYS:
-            case WHEN_POSSIBLE: return field.likeIgnoreCase(iterator.next().toString());
-            default: break;
-        }
-        
-        return field.like(iterator.next().toString());
-    }
-    
-    private static List<Object> toList(Iterator<Object> iterator) {
-        if (iterator == null || !iterator.hasNext()) {
-            return Collections.emptyList();
-        }
-        
-        List<Object> list = new ArrayList<>();
-        while (iterator.hasNext()) {
-            list.add(iterator.next());
-        }
-        
-        return list;
-    }
-    
-    private List<SortField<?>> toOrders(Sort sort) {
-        List<SortField<?>> orders = new ArrayList<>();
-        
-        for (Order order : sort) {
-            orders.add(field(order.getProperty()).sort(order.getDirection() == Direction.ASC ? SortOrder.ASC : SortOrder.DESC)); 
+    /**
+     * Checks whether the given part is compared case insensitively, i.e. rendered as {@code field.toLowerCase()}
+     * with a lower cased argument.
+     *
+     * @param part the part
+     * @return true, if the case should be ignored
+     */
+    static boolean isIgnoreCase(Part part) {
+        if (isCollection(part)) {
+            return false;
         }
 
-        return orders;
-    }
-    
-    private SelectLimitStep<? extends Record> orderByIfRequired(SelectConditionStep<? extends Record> conditionStep, Pageable pageable, Sort sort) {
-        if (isCountQuery()) {
-            return conditionStep;
-        } if (sort == null) {
-            return pageable == null ? conditionStep : conditionStep.and(field("@rid").gt(pageable.getOffset()));
-        } else {
-            return conditionStep.orderBy(toOrders(sort));
+        switch (part.shouldIgnoreCase()) {
+            case ALWAYS: return true;
+            case WHEN_POSSIBLE: return part.getProperty().getLeafProperty().getType() == String.class;
+            default: return false;
         }
     }
-    
-    private Query limitIfPageable(SelectLimitStep<? extends Record> limitStep, Pageable pageable, Sort sort) {
-        if (pageable == null || isCountQuery()) {
-            return limitStep;
-        } else if (sort == null) {
-            return limitStep.limit(pageable.getPageSize());
-        } else {
-            return limitStep.limit(pageable.getPageSize()).offset(pageable.getOffset());
-        }
+
+    /**
+     * Checks whether the property of the given part is a collection or an array.
+     *
+     * @param part the part
+     * @return true, if the property is a collection
+     */
+    static boolean isCollection(Part part) {
+        return part.getProperty().getLeafProperty().isCollection();
     }
-    
+
     private <A extends Annotation> A findAnnotation(Class<A> annotationType) {
         A annotation = AnnotationUtils.findAnnotation(method.getMethod(), annotationType);
         
@@ -1,13 +1,25 @@
 package org.springframework.data.orient.commons.repository.query;
 
-import org.springframework.data.domain.PageImpl;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.orient.commons.core.OrientOperations;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.KeysetPage;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
+import org.springframework.data.orient.commons.repository.OrientPage;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 /**
  * Set of classes to contain query execution strategies. 
@@ -71,7 +83,7 @@ public abstract class OrientQueryExecution {
         @Override
         @SuppressWarnings("unchecked")
         protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
-            return operations.query(query.createQuery(values), mode, prepareParameters(parameters, values));
+            return query(query, mode, values, prepareParameters(query, values));
         }
     }
 
@@ -96,7 +108,15 @@ public abstract class OrientQueryExecution {
          */
         @Override
         protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
-            return operations.queryForObject(query.createQuery(values), mode, prepareParameters(parameters, values));
+            OrientProjection projection = query.getProjection(values);
+
+            if (projection == null) {
+                return operations.queryForObject(query.createQuery(values), mode, prepareParameters(query, values));
+            }
+
+            List<Object> result = query(query, mode, values, prepareParameters(query, values));
+
+            return result.isEmpty() ? null : result.get(0);
         }
     }
 
@@ -122,12 +142,95 @@ public abstract class OrientQueryExecution {
         @Override
         @SuppressWarnings("unchecked")
         protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
-            return operations.count(query.createQuery(values), prepareParameters(parameters, values));
+            return operations.count(query.createQuery(values), prepareParameters(query, values));
+        }
+    }
+
+    /**
+     * Executes a {@link AbstractOrientQuery} to find out whether an entity matches. The query selects the record id
+     * of the first match only.
+     */
+    static class ExistsExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link ExistsExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         */
+        public ExistsExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            List<?> result = operations.query(query.createQuery(values), prepareParameters(query, values));
+
+            return !result.isEmpty();
+        }
+    }
+
+    /**
+     * Executes a {@link AbstractOrientQuery} changing records, i.e. a derived delete or a
+     * {@link org.springframework.data.orient.commons.repository.annotation.Modifying} query, as a single command
+     * without loading the records, to return the number of records changed.
+     */
+    static class ModifyingExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link ModifyingExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         */
+        public ModifyingExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            Object result = operations.command(query.createCommand(values), prepareParameters(query, values));
+            Class<?> type = query.getQueryMethod().getResultType();
+
+            if (type == void.class || type == Void.class) {
+                return null;
+            }
+
+            long count = toCount(result);
+
+            if (type == int.class || type == Integer.class) {
+                return (int) count;
+            }
+
+            return count;
+        }
+
+        /**
+         * Converts the result of a command into the number of records changed: {@code update} and {@code delete}
+         * return the count, {@code insert} returns the record or the records created.
+         */
+        private static long toCount(Object result) {
+            if (result instanceof Number) {
+                return ((Number) result).longValue();
+            } else if (result instanceof Collection) {
+                return ((Collection<?>) result).size();
+            }
+
+            return result == null ? 0 : 1;
         }
     }
 
     /**
      * Executes the {@link AbstractOrientQuery} to return a {@link org.springframework.data.domain.Page} of entities.
+     * The entities are counted only if the total cannot be inferred from the content and is asked for, see
+     * {@link OrientPage}. If the template has a count executor the entities are counted on another connection while
+     * the content is read instead.
      *
      * @author Dzmitry_Naskou
      */
@@ -148,39 +251,269 @@ public abstract class OrientQueryExecution {
          */
         @Override
         @SuppressWarnings("unchecked")
-        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+        protected Object doExecute(final AbstractOrientQuery query, DetachMode mode, final Object[] values) {
             OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
             
-            final Object[] queryParams = prepareParameters(parameters, values);
-            
-            Long total = operations.count(query.createCountQuery(values), queryParams);
+            final Object[] queryParams = prepareParameters(query, values);
             
             Pageable pageable = accessor.getPageable();
             
-            List<Object> content;
+            Future<Long> total = pageable == null ? null : operations.countTotalAsync(query.createCountQuery(values), queryParams);
+            
+            List<Object> content = query(query, mode, values, queryParams);
             
-            if (pageable != null && total > pageable.getOffset()) {
-                content = operations.query(query.createQuery(values), mode, queryParams);
-            } else {
-                content = Collections.emptyList();
+            if (total != null) {
+                return OrientPage.of(content, pageable, total);
             }
             
-            return new PageImpl<>(content, pageable, total);
+            return OrientPage.of(content, pageable, new OrientPage.Counter() {
+                @Override
+                public long count() {
+                    return operations.countTotal(query.createCountQuery(values), queryParams);
+                }
+            });
         }
     }
     
-    protected Object[] prepareParameters(OrientParameters parameters, Object[] values) {
-        int index = 0;
-        List<Object> params = new ArrayList<>();
-        
-        for (OrientParameter parameter : parameters) {
-            if (parameter.isBindable()) {
-                params.add(values[index]);
+    /**
+     * Executes the {@link AbstractOrientQuery} to return a {@link java.util.stream.Stream} or a
+     * {@link CloseableIterator} of entities, read through a bounded buffer instead of being loaded at once.
+     */
+    static class StreamExecution extends OrientQueryExecution {
+
+        /** Whether to return a stream rather than an iterator. */
+        private final boolean stream;
+
+        /**
+         * Instantiates a new {@link StreamExecution}.
+         *
+         * @param template the orient object template
+         * @param parameters the parameters
+         * @param stream whether to return a stream rather than an iterator
+         */
+        public StreamExecution(OrientOperations template, OrientParameters parameters, boolean stream) {
+            super(template, parameters);
+            this.stream = stream;
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            CloseableIterator<Object> iterator = operations.stream(query.createQuery(values), mode, prepareParameters(query, values));
+
+            return stream ? StreamUtils.createStreamFromIterator(iterator) : iterator;
+        }
+    }
+
+    /**
+     * Executes the {@link AbstractOrientQuery} to return a {@link org.springframework.data.domain.Slice} of entities.
+     * One entity more than the page size is read to find out whether there is a next slice, the entities are never
+     * counted.
+     */
+    static class SliceExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link SliceExecution}.
+         *
+         * @param template the orient object template
+         * @param parameters the parameters
+         */
+        public SliceExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
+            Pageable pageable = accessor.getPageable();
+
+            List<Object> content = query(query, mode, values, prepareParameters(query, values));
+
+            if (pageable == null) {
+                return new SliceImpl<>(content);
             }
-            
-            ++index;
+
+            boolean hasNext = content.size() > pageable.getPageSize();
+
+            return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+        }
+    }
+
+    /**
+     * Executes the {@link AbstractOrientQuery} to return a {@link KeysetPage} of entities.
+     */
+    static class KeysetExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link KeysetExecution}.
+         *
+         * @param template the orient object template
+         * @param parameters the parameters
+         */
+        public KeysetExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
+            KeysetPageRequest request = accessor.getKeysetPageRequest();
+
+            Assert.notNull(request, "KeysetPageRequest must not be null!");
+
+            List<Object> records = operations.query(query.createQuery(values), mode, prepareParameters(query, values));
+
+            return QueryUtils.toKeysetPage(records, request, query.getKeysetSort(values), operations);
+        }
+    }
+
+    /**
+     * Reads the entities or, if the invocation returns a projection, maps the rows read into it.
+     *
+     * @param query the orient query
+     * @param mode the detach mode of the entities
+     * @param values the parameters values
+     * @param params the query parameters
+     * @return the entities or the projections
+     */
+    protected List<Object> query(AbstractOrientQuery query, DetachMode mode, Object[] values, Object[] params) {
+        OrientProjection projection = query.getProjection(values);
+
+        if (projection == null) {
+            return operations.query(query.createQuery(values), mode, params);
+        }
+
+        List<ODocument> rows = operations.queryForDocuments(query.createQuery(values), params);
+        List<Object> result = new ArrayList<>(rows.size());
+
+        for (ODocument row : rows) {
+            result.add(projection.project(row));
+        }
+
+        return result;
+    }
+
+    /**
+     * Prepares the parameters to bind to the placeholders of the given query.
+     *
+     * @param query the orient query
+     * @param values the parameters values
+     * @return the query parameters
+     */
+    protected Object[] prepareParameters(AbstractOrientQuery query, Object[] values) {
+        return query.prepareParameters(parameters, values);
+    }
+
+    /**
+     * Returns a Reactive Streams {@link org.reactivestreams.Publisher} running the query for each subscriber and
+     * pushing the entities as they are requested.
+     */
+    static class PublisherExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link PublisherExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         */
+        public PublisherExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            // the records leave the thread of their connection, at least the entities are detached
+            DetachMode detachMode = mode == DetachMode.NONE ? DetachMode.ENTITY : mode;
+
+            return operations.publish(query.createQuery(values), detachMode, prepareParameters(query, values));
+        }
+    }
+
+    /**
+     * Runs another execution on the executor of the asynchronous queries and returns the future of its result, a
+     * {@link CompletableFuture} or a {@link ListenableFuture} depending on the return type of the method. The
+     * execution reads on a connection of its own, outside of the transaction of the caller, and returns detached
+     * entities.
+     */
+    static class AsyncExecution extends OrientQueryExecution {
+
+        /** The execution run asynchronously. */
+        private final OrientQueryExecution delegate;
+
+        /** Whether the method returns a {@link CompletableFuture}. */
+        private final boolean completable;
+
+        /**
+         * Instantiates a new {@link AsyncExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         * @param delegate the execution run asynchronously
+         * @param futureType the future type returned by the method
+         */
+        public AsyncExecution(OrientOperations template, OrientParameters parameters, OrientQueryExecution delegate, Class<?> futureType) {
+            super(template, parameters);
+            this.delegate = delegate;
+            this.completable = CompletableFuture.class.isAssignableFrom(futureType);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Object doExecute(final AbstractOrientQuery query, DetachMode mode, final Object[] values) {
+            // the connection of the execution is closed before the caller reads the result, the entities are detached
+            final DetachMode detachMode = mode == DetachMode.NONE ? DetachMode.ENTITY : mode;
+
+            ListenableFuture<Object> future = operations.executeAsync(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return delegate.execute(query, detachMode, values);
+                }
+            });
+
+            return completable ? toCompletableFuture(future) : future;
+        }
+
+        private static CompletableFuture<Object> toCompletableFuture(final ListenableFuture<Object> future) {
+            // a completable future cannot interrupt what completes it, so cancelling it cancels the task too
+            final CompletableFuture<Object> result = new CompletableFuture<Object>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    future.cancel(mayInterruptIfRunning);
+
+                    return super.cancel(mayInterruptIfRunning);
+                }
+            };
+
+            future.addCallback(new ListenableFutureCallback<Object>() {
+                @Override
+                public void onSuccess(Object value) {
+                    result.complete(value);
+                }
+
+                @Override
+                public void onFailure(Throwable failure) {
+                    result.completeExceptionally(failure);
+                }
+            });
+
+            return result;
         }
-        
-        return params.toArray();
     }
 }
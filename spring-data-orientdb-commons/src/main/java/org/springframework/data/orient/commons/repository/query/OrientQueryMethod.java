@@ -1,15 +1,24 @@
 package org.springframework.data.orient.commons.repository.query;
 
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.orient.commons.repository.annotation.Detach;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.KeysetPage;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
 import org.springframework.data.orient.commons.repository.annotation.FetchPlan;
+import org.springframework.data.orient.commons.repository.annotation.Modifying;
+import org.springframework.data.orient.commons.repository.annotation.QueryHints;
 import org.springframework.data.orient.commons.repository.annotation.Query;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 
 /**
  * Orient specific extension of {@link org.springframework.data.repository.query.QueryMethod}.
@@ -18,12 +27,18 @@ import java.lang.reflect.Method;
  */
 public final class OrientQueryMethod extends QueryMethod {
 
+    /** Matches the statements changing records or the schema, which must be executed as commands. */
+    private static final Pattern MODIFYING_STATEMENT = Pattern.compile("^\\s*(insert|update|delete|truncate|create|drop|alter)\\b", Pattern.CASE_INSENSITIVE);
+
     /** The method. */
     private final Method method;
 
     /** The repository interface. */
     private final Class<?> repositoryInterface;
 
+    /** The hints declared by the method. */
+    private final OrientQueryHints queryHints;
+
     /**
      * Instantiates a new {@link OrientQueryMethod}.
      *
@@ -34,6 +49,27 @@ public final class OrientQueryMethod extends QueryMethod {
         super(method, metadata);
         this.method = method;
         this.repositoryInterface = metadata.getRepositoryInterface();
+        this.queryHints = OrientQueryHints.of(AnnotationUtils.findAnnotation(method, QueryHints.class));
+
+        if (getParameters().hasKeysetPageRequestParameter() != isKeysetPageQuery()) {
+            throw new IllegalStateException(String.format("Method must have a KeysetPageRequest parameter and return a KeysetPage, or neither! Offending method: %s", method));
+        }
+
+        if (isProjectionQuery() && (isStreamQuery() || isIteratorQuery() || isPublisherQuery() || isKeysetPageQuery())) {
+            throw new IllegalStateException(String.format("Projections are not supported by stream, iterator, publisher and keyset page queries! Offending method: %s", method));
+        }
+
+        if (isAsyncQuery() && (isStreamQuery() || isIteratorQuery())) {
+            throw new IllegalStateException(String.format("Asynchronous queries cannot stream their results! Offending method: %s", method));
+        }
+
+        if (isModifyingQuery() && !isModifiedCountQuery()) {
+            throw new IllegalStateException(String.format("Modifying queries must return void, int or long! Offending method: %s", method));
+        }
+
+        if (!isModifyingQuery() && hasAnnotatedQuery() && MODIFYING_STATEMENT.matcher(getAnnotatedQuery()).find()) {
+            throw new IllegalStateException(String.format("Queries changing records must be annotated with @Modifying! Offending method: %s", method));
+        }
     }
     
     /* (non-Javadoc)
@@ -67,6 +103,137 @@ public final class OrientQueryMethod extends QueryMethod {
         return repositoryInterface;
     }
 
+    /**
+     * Returns whether the method reads a {@link KeysetPage}.
+     *
+     * @return true, if it's keyset page query
+     */
+    public boolean isKeysetPageQuery() {
+        return KeysetPage.class.isAssignableFrom(getResultType());
+    }
+
+    /**
+     * Returns whether the method returns a {@link CloseableIterator} over the results.
+     *
+     * @return true, if it's iterator query
+     */
+    public boolean isIteratorQuery() {
+        return CloseableIterator.class.isAssignableFrom(getResultType());
+    }
+
+    /**
+     * Returns whether the method returns a Reactive Streams {@link Publisher} pushing the results as they are
+     * requested.
+     *
+     * @return true, if it's publisher query
+     */
+    public boolean isPublisherQuery() {
+        return Publisher.class.isAssignableFrom(getResultType());
+    }
+
+    /**
+     * Returns whether the method returns a {@link Future} of its result, a {@link java.util.concurrent.CompletableFuture}
+     * or a {@link org.springframework.util.concurrent.ListenableFuture}, and runs asynchronously.
+     *
+     * @return true, if it's asynchronous query
+     */
+    public boolean isAsyncQuery() {
+        return Future.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Gets the type of the result of the method, unwrapped from the future of an asynchronous method.
+     *
+     * @return the result type
+     */
+    Class<?> getResultType() {
+        return isAsyncQuery() ? getResultResolvableType().resolve(Object.class) : method.getReturnType();
+    }
+
+    /**
+     * Returns whether the method returns a single entity, i.e. reads at most one record.
+     *
+     * @return true, if it's single entity query
+     */
+    public boolean isSingleEntityQuery() {
+        return (isQueryForEntity() || isProjectionQuery()) && !isCollectionQuery() && !isPageQuery() && !isSliceQuery() && !isStreamQuery()
+                && !isIteratorQuery() && !isPublisherQuery() && !isKeysetPageQuery();
+    }
+
+    /**
+     * Returns whether the method is annotated with {@link Modifying}, i.e. executes its query as a command.
+     *
+     * @return true, if it's modifying query
+     */
+    public boolean isModifyingQuery() {
+        return AnnotationUtils.findAnnotation(method, Modifying.class) != null;
+    }
+
+    /**
+     * Gets the hints applied to the queries of the invocation with the given parameters: the hints declared by
+     * {@link QueryHints}, overridden by the ones given as parameter.
+     *
+     * @param accessor the parameters
+     * @return the hints
+     */
+    public OrientQueryHints getQueryHints(OrientParameterAccessor accessor) {
+        return queryHints.override(accessor.getQueryHints());
+    }
+
+    /**
+     * Returns whether the method returns nothing or the number of records changed, as modifying queries do.
+     *
+     * @return true, if the method returns void, int or long
+     */
+    boolean isModifiedCountQuery() {
+        Class<?> type = getResultType();
+
+        return type == void.class || type == Void.class || type == int.class || type == Integer.class || type == long.class
+                || type == Long.class;
+    }
+
+    /**
+     * Returns whether the method returns a projection of the entities, either a fixed one or the type given by a
+     * {@link Class} parameter.
+     *
+     * @return true, if it's projection query
+     */
+    public boolean isProjectionQuery() {
+        return getParameters().hasDynamicProjectionParameter() || OrientProjection.isProjection(getElementType(), getDomainClass());
+    }
+
+    /**
+     * Gets the projection returned by the invocation with the given parameters.
+     *
+     * @param accessor the parameters
+     * @return the projection, {@literal null} if the invocation returns the entities
+     */
+    public OrientProjection getProjection(OrientParameterAccessor accessor) {
+        Class<?> type = getParameters().hasDynamicProjectionParameter() ? accessor.getDynamicProjection() : getElementType();
+
+        return OrientProjection.isProjection(type, getDomainClass()) ? OrientProjection.of(type) : null;
+    }
+
+    /**
+     * Gets the type of the elements returned, unwrapping the iterators, publishers and keyset pages not known to
+     * {@link #getReturnedObjectType()}.
+     *
+     * @return the element type
+     */
+    private Class<?> getElementType() {
+        if (isIteratorQuery() || isPublisherQuery() || isKeysetPageQuery()) {
+            return getResultResolvableType().getGeneric(0).resolve(Object.class);
+        }
+
+        return getReturnedObjectType();
+    }
+
+    private ResolvableType getResultResolvableType() {
+        ResolvableType type = ResolvableType.forMethodReturnType(method);
+
+        return isAsyncQuery() ? type.getGeneric(0) : type;
+    }
+
     /**
      * Returns whether the method has an annotated query.
      * 
@@ -87,6 +254,17 @@ public final class OrientQueryMethod extends QueryMethod {
         return StringUtils.hasText(query) ? query : null;
     }
     
+    /**
+     * Returns the count query declared in a {@link Query} annotation or {@literal null} if none was specified.
+     *
+     * @return the count query
+     */
+    String getAnnotatedCountQuery() {
+        Query query = getQueryAnnotation();
+
+        return query != null && StringUtils.hasText(query.countQuery()) ? query.countQuery() : null;
+    }
+
     /**
      * Returns the {@link Query} annotation that is applied to the method or {@code null} if none available.
      * 
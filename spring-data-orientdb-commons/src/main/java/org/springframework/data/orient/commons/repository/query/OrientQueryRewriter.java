@@ -0,0 +1,306 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.util.Assert;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites a declared OrientDB SQL query to sort and page it, and derives the query counting its records.
+ * <p>
+ * The query is scanned once for its top level clauses, ignoring string literals and sub-queries. The {@code ORDER BY}
+ * is inserted or extended before the {@code UNWIND}, {@code SKIP} and {@code LIMIT} clauses, the {@code SKIP} and
+ * {@code LIMIT} before the {@code FETCHPLAN}, {@code TIMEOUT}, {@code LOCK}, {@code PARALLEL} and {@code NOCACHE}
+ * hints, as OrientDB expects them.
+ */
+public final class OrientQueryRewriter {
+
+    /** Matches the projections which can be replaced by {@code count(*)}: nothing, {@code *} or plain fields. */
+    private static final Pattern PLAIN_PROJECTION = Pattern.compile("\\s*(\\*|[\\w$@.]+(\\s+as\\s+\\w+)?(\\s*,\\s*[\\w$@.]+(\\s+as\\s+\\w+)?)*)?\\s*", Pattern.CASE_INSENSITIVE);
+
+    /** The clauses following the order, in the order OrientDB expects them. */
+    private static final String[] PAGING_CLAUSES = { "skip", "limit" };
+
+    /** The hints following the paging, in the order OrientDB expects them. */
+    private static final String[] HINTS = { "fetchplan", "timeout", "lock", "parallel", "nocache" };
+
+    /** Matches a declared {@code LIMIT} given as a literal. */
+    private static final Pattern LITERAL_LIMIT = Pattern.compile("\\s+limit\\s+(-?\\d+)", Pattern.CASE_INSENSITIVE);
+
+    /** The query. */
+    private final String query;
+
+    /** Whether the query declares an {@code ORDER BY}. */
+    private final boolean ordered;
+
+    /** Whether the query declares a {@code SKIP} or a {@code LIMIT}. */
+    private final boolean paged;
+
+    /** Where the order goes: the end of the declared {@code ORDER BY}, or before the unwind, the paging and the hints. */
+    private final int orderPosition;
+
+    /** Where the paging goes: before the hints. */
+    private final int pagingPosition;
+
+    /** Whether the query declares a {@code LIMIT}. */
+    private final boolean limited;
+
+    /** Where the literal of the declared {@code LIMIT} starts, -1 if the query has none. */
+    private final int limitStart;
+
+    /** Where the literal of the declared {@code LIMIT} ends, -1 if the query has none. */
+    private final int limitEnd;
+
+    /** The derived count query. */
+    private final String countQuery;
+
+    /**
+     * Instantiates a new {@link OrientQueryRewriter}.
+     *
+     * @param query the declared query
+     */
+    public OrientQueryRewriter(String query) {
+        super();
+        Assert.hasText(query);
+        this.query = query.trim();
+
+        Clauses clauses = new Clauses(this.query);
+        int hints = clauses.first(HINTS);
+        int paging = Math.min(clauses.first(PAGING_CLAUSES), hints);
+        int order = clauses.indexOf("order");
+        int unwind = clauses.indexOf("unwind");
+
+        this.ordered = order >= 0;
+        this.paged = paging < hints;
+        this.pagingPosition = hints;
+        this.orderPosition = min(unwind, paging);
+        this.countQuery = deriveCountQuery(clauses, unwind >= 0 ? paging : min(order, paging));
+
+        int limit = clauses.indexOf("limit");
+        Matcher literal = LITERAL_LIMIT.matcher(this.query);
+
+        this.limited = limit >= 0;
+        this.limitStart = limited && limit < hints && literal.region(limit, hints).lookingAt() ? literal.start(1) : -1;
+        this.limitEnd = limitStart < 0 ? -1 : literal.end(1);
+    }
+
+    /**
+     * Renders the query with the given sort and page.
+     *
+     * @param sort the sort, may be {@literal null}
+     * @param pageable the page, may be {@literal null}
+     * @param lookAhead whether to read one record more than the page size to find out whether there is a next page
+     * @return the query
+     */
+    public String rewrite(Sort sort, Pageable pageable, boolean lookAhead) {
+        return sorted(sort).page(pageable, lookAhead, -1);
+    }
+
+    /**
+     * Renders the query with the given sort, leaving room for the paging of each call, see
+     * {@link SortedQuery#page(Pageable, boolean, int)}.
+     *
+     * @param sort the sort, may be {@literal null}
+     * @return the sorted query
+     */
+    public SortedQuery sorted(Sort sort) {
+        if (sort == null || !sort.iterator().hasNext()) {
+            return new SortedQuery(query.substring(0, pagingPosition), query.substring(pagingPosition));
+        }
+
+        StringBuilder builder = new StringBuilder(query.length() + 32);
+        builder.append(query, 0, orderPosition);
+        appendOrder(builder, sort);
+        builder.append(query, orderPosition, pagingPosition);
+
+        return new SortedQuery(builder.toString(), query.substring(pagingPosition));
+    }
+
+    /**
+     * Gets the query counting the records of the declared query, ignoring its order, paging and hints.
+     *
+     * @return the count query
+     */
+    public String getCountQuery() {
+        return countQuery;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    private void appendOrder(StringBuilder builder, Sort sort) {
+        boolean first = !ordered;
+
+        // the declared order is followed by whitespace only, drop it before extending the order
+        while (builder.length() > 0 && Character.isWhitespace(builder.charAt(builder.length() - 1))) {
+            builder.setLength(builder.length() - 1);
+        }
+
+        for (Order order : sort) {
+            builder.append(first ? " order by " : ", ").append(OrientSqlBuilder.checkSortProperty(order.getProperty())).append(order.isAscending() ? " asc" : " desc");
+            first = false;
+        }
+    }
+
+    private String deriveCountQuery(Clauses clauses, int end) {
+        String body = query.substring(0, end).trim();
+        int from = clauses.indexOf("from");
+
+        if (from >= 0 && clauses.indexOf("group") < 0 && clauses.indexOf("unwind") < 0 && clauses.indexOf("let") < 0
+                && body.regionMatches(true, 0, "select", 0, 6) && PLAIN_PROJECTION.matcher(body.substring(6, from)).matches()) {
+            return "select count(*)" + body.substring(from);
+        }
+
+        // the projection or the grouping change the number of rows, so count the rows of the query itself
+        return "select count(*) from (" + body + ")";
+    }
+
+    private static int min(int a, int b) {
+        return a < 0 ? b : b < 0 ? a : Math.min(a, b);
+    }
+
+    /**
+     * A declared query rendered with its sort, to which the {@code SKIP} and {@code LIMIT} of each call are added.
+     * OrientDB only accepts literals there, so they are rendered into the query.
+     */
+    public final class SortedQuery {
+
+        /** The query up to the paging. */
+        private final String head;
+
+        /** The hints following the paging. */
+        private final String tail;
+
+        SortedQuery(String head, String tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+
+        /**
+         * Renders the query with the given page, its {@code LIMIT} capped by the given maximum. OrientDB replaces the
+         * limit of the request with the {@code LIMIT} of the query text, so the smaller of both is rendered there.
+         *
+         * @param pageable the page, may be {@literal null}
+         * @param lookAhead whether to read one record more than the page size to find out whether there is a next
+         *        page
+         * @param maxLimit the maximum number of records read, negative for no maximum
+         * @return the query
+         */
+        public String page(Pageable pageable, boolean lookAhead, int maxLimit) {
+            if (pageable == null) {
+                String sql = limitStart < 0 || maxLimit < 0 ? head : capLimit(maxLimit);
+
+                return tail.isEmpty() ? sql : sql + tail;
+            }
+
+            Assert.state(!paged, "The query declares its own skip or limit, it cannot be paged: " + query);
+
+            StringBuilder builder = new StringBuilder(head.length() + tail.length() + 24).append(head);
+
+            if (pageable.getOffset() > 0) {
+                builder.append(" skip ").append(pageable.getOffset());
+            }
+
+            int limit = lookAhead ? pageable.getPageSize() + 1 : pageable.getPageSize();
+            builder.append(" limit ").append(maxLimit < 0 ? limit : Math.min(limit, maxLimit));
+
+            return builder.append(tail).toString();
+        }
+
+        /**
+         * Checks whether the query rendered for the given page has a {@code LIMIT}.
+         *
+         * @param pageable the page, may be {@literal null}
+         * @return true, if the query is paged or declares a {@code LIMIT}
+         */
+        public boolean isLimited(Pageable pageable) {
+            return pageable != null || limited;
+        }
+
+        private String capLimit(int maxLimit) {
+            // the declared limit sits before the paging position, which is the end of the head
+            int start = limitStart + head.length() - pagingPosition;
+            int end = limitEnd + head.length() - pagingPosition;
+            int limit = Integer.parseInt(head.substring(start, end));
+
+            if (limit >= 0 && limit <= maxLimit) {
+                return head;
+            }
+
+            return head.substring(0, start) + maxLimit + head.substring(end);
+        }
+    }
+
+    /**
+     * The positions of the top level keywords of a query.
+     */
+    private static final class Clauses {
+
+        private final String query;
+
+        private final String lowerCase;
+
+        Clauses(String query) {
+            this.query = query;
+            this.lowerCase = query.toLowerCase(Locale.ENGLISH);
+        }
+
+        /**
+         * Gets the position of the whitespace preceding the first of the given top level keywords, or the end of the
+         * query if it has none.
+         */
+        int first(String[] keywords) {
+            int first = query.length();
+
+            for (String keyword : keywords) {
+                first = min(indexOf(keyword), first);
+            }
+
+            return first;
+        }
+
+        /**
+         * Gets the position of the whitespace preceding the given top level keyword, -1 if the query has none.
+         */
+        int indexOf(String keyword) {
+            int depth = 0;
+            char quote = 0;
+
+            for (int i = 0; i < query.length(); i++) {
+                char c = query.charAt(i);
+
+                if (quote != 0) {
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '\'' || c == '"' || c == '`') {
+                    quote = c;
+                } else if (c == '(' || c == '[' || c == '{') {
+                    depth++;
+                } else if (c == ')' || c == ']' || c == '}') {
+                    depth--;
+                } else if (depth == 0 && i > 0 && Character.isWhitespace(query.charAt(i - 1)) && lowerCase.startsWith(keyword, i)
+                        && (i + keyword.length() == query.length() || !isIdentifierPart(query.charAt(i + keyword.length())))) {
+                    return i - 1;
+                }
+            }
+
+            return -1;
+        }
+
+        private static boolean isIdentifierPart(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '@';
+        }
+    }
+}
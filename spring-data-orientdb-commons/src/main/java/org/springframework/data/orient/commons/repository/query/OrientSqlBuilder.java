@@ -0,0 +1,250 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.util.Assert;
+
+import java.util.regex.Pattern;
+
+/**
+ * Lightweight builder rendering OrientDB SQL {@code SELECT} and {@code DELETE} statements.
+ * <p>
+ * The statement is rendered into a single buffer while the clauses are added, so they have to be added in the
+ * order OrientDB expects them: {@code from}, {@code where}, {@code orderBy}, {@code skip} and {@code limit}. A
+ * {@code DELETE} only takes {@code from}, {@code where} and {@code limit}. A statement rendered before, e.g. a cached one,
+ * can be continued with {@link #of(String)} to add its {@code skip} and {@code limit}.
+ * Values are never inlined into the conditions, see {@link OrientCriteria}.
+ */
+public final class OrientSqlBuilder {
+
+    /** Matches the properties that may be sorted by, which are rendered as is into the query. */
+    private static final Pattern SORT_PROPERTY = Pattern.compile("[\\w$@]+(\\.[\\w$@]+)*");
+
+    /** The sql. */
+    private final StringBuilder sql = new StringBuilder(64);
+
+    /** The position of the first where condition, -1 if there is none. */
+    private int whereStart = -1;
+
+    /** Whether the first where condition has to be parenthesized if another one is added. */
+    private boolean whereDisjunction;
+
+    private OrientSqlBuilder(String statement) {
+        sql.append(statement);
+    }
+
+    /**
+     * Starts a statement selecting the whole records.
+     *
+     * @return the builder
+     */
+    public static OrientSqlBuilder select() {
+        return new OrientSqlBuilder("select ");
+    }
+
+    /**
+     * Starts a statement selecting the given fields.
+     *
+     * @param fields the fields
+     * @return the builder
+     */
+    public static OrientSqlBuilder select(String... fields) {
+        Assert.notEmpty(fields);
+
+        StringBuilder statement = new StringBuilder("select");
+
+        for (int i = 0; i < fields.length; i++) {
+            statement.append(i == 0 ? " " : ", ").append(fields[i]);
+        }
+
+        return new OrientSqlBuilder(statement.append(' ').toString());
+    }
+
+    /**
+     * Starts a statement counting the records.
+     *
+     * @return the builder
+     */
+    public static OrientSqlBuilder selectCount() {
+        return new OrientSqlBuilder("select count(*) ");
+    }
+
+    /**
+     * Starts a statement deleting the records, which returns the number of records deleted.
+     *
+     * @return the builder
+     */
+    public static OrientSqlBuilder delete() {
+        return new OrientSqlBuilder("delete ");
+    }
+
+    /**
+     * Continues a statement rendered before, up to its order, to add its {@code skip} and {@code limit}.
+     *
+     * @param statement the statement
+     * @return the builder
+     */
+    public static OrientSqlBuilder of(String statement) {
+        Assert.hasText(statement);
+
+        return new OrientSqlBuilder(statement);
+    }
+
+    /**
+     * Adds the target of the statement: a class name, {@code cluster:name}, a record id or a {@code ?} placeholder.
+     *
+     * @param target the target
+     * @return the builder
+     */
+    public OrientSqlBuilder from(String target) {
+        Assert.hasText(target);
+        sql.append("from ").append(target);
+
+        return this;
+    }
+
+    /**
+     * Adds the given {@link OrientSource} as the target of the statement.
+     *
+     * @param source the source
+     * @return the builder
+     */
+    public OrientSqlBuilder from(OrientSource source) {
+        return from(QueryUtils.toSource(source));
+    }
+
+    /**
+     * Adds the given cluster as the target of the statement.
+     *
+     * @param cluster the cluster name
+     * @return the builder
+     */
+    public OrientSqlBuilder fromCluster(String cluster) {
+        Assert.hasText(cluster);
+        sql.append("from cluster:").append(cluster);
+
+        return this;
+    }
+
+    /**
+     * Adds the given criteria, combined with {@code AND} if the statement already has one.
+     *
+     * @param criteria the criteria, may be {@literal null}
+     * @return the builder
+     */
+    public OrientSqlBuilder where(OrientCriteria criteria) {
+        if (criteria == null) {
+            return this;
+        }
+
+        if (whereStart < 0) {
+            sql.append(" where ");
+            whereStart = sql.length();
+            whereDisjunction = criteria.isDisjunction();
+            criteria.appendTo(sql);
+
+            return this;
+        }
+
+        if (whereDisjunction) {
+            sql.insert(whereStart, '(').append(')');
+            whereDisjunction = false;
+        }
+
+        sql.append(" and ");
+
+        if (criteria.isDisjunction()) {
+            sql.append('(');
+            criteria.appendTo(sql);
+            sql.append(')');
+        } else {
+            criteria.appendTo(sql);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the {@code ORDER BY} clause for the given {@link Sort}.
+     *
+     * @param sort the sort, may be {@literal null}
+     * @return the builder
+     */
+    public OrientSqlBuilder orderBy(Sort sort) {
+        if (sort == null) {
+            return this;
+        }
+
+        boolean first = true;
+
+        for (Order order : sort) {
+            sql.append(first ? " order by " : ", ").append(checkSortProperty(order.getProperty())).append(order.isAscending() ? " asc" : " desc");
+            first = false;
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks that the given property may be sorted by, i.e. that it is a field or a path of fields, as the sort
+     * properties, which usually come from the request, are rendered as is into the query.
+     *
+     * @param property the property
+     * @return the property
+     * @throws InvalidDataAccessApiUsageException if the property is not a field or a path of fields
+     */
+    public static String checkSortProperty(String property) {
+        if (property == null || !SORT_PROPERTY.matcher(property).matches()) {
+            throw new InvalidDataAccessApiUsageException("Invalid sort property: " + property);
+        }
+
+        return property;
+    }
+
+    /**
+     * Adds the {@code SKIP} clause, nothing is rendered for a non-positive value.
+     *
+     * @param skip the number of records to skip
+     * @return the builder
+     */
+    public OrientSqlBuilder skip(int skip) {
+        if (skip > 0) {
+            sql.append(" skip ").append(skip);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the {@code LIMIT} clause, nothing is rendered for a negative value.
+     *
+     * @param limit the maximum number of records
+     * @return the builder
+     */
+    public OrientSqlBuilder limit(int limit) {
+        if (limit >= 0) {
+            sql.append(" limit ").append(limit);
+        }
+
+        return this;
+    }
+
+    /**
+     * Renders the statement.
+     *
+     * @return the sql
+     */
+    public String build() {
+        return sql.toString();
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return build();
+    }
+}
@@ -2,8 +2,14 @@ package org.springframework.data.orient.commons.repository.query;
 
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
+
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A {@link AbstractOrientQuery} implementation based on a {@link org.springframework.data.repository.query.parser.PartTree}.
@@ -12,6 +18,9 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class PartTreeOrientQuery extends AbstractOrientQuery {
 
+    /** The prefix of the methods checking whether a record matches, not parsed by {@link PartTree}. */
+    private static final String EXISTS_PREFIX = "exists";
+
     /** The domain class. */
     private final Class<?> domainClass;
 
@@ -23,6 +32,18 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
 
     private final OrientQueryMethod method;
 
+    /** Whether the method checks whether a record matches. */
+    private final boolean exists;
+
+    /** The binder of the derived query parameters. */
+    private final PartTreeParameterBinder binder;
+
+    /** The rendered statements by their variable parts, without their skip and limit, softly referenced. */
+    private final ConcurrentMap<QueryKey, String> queries = new ConcurrentReferenceHashMap<>();
+
+    /** The rendered count queries by their variable parts. */
+    private final ConcurrentMap<QueryKey, String> countQueries = new ConcurrentReferenceHashMap<>();
+
     /**
      * Instantiates a new {@link PartTreeOrientQuery} from given {@link OrientQueryMethod} and {@link OrientOperations}.
      *
@@ -34,8 +55,18 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
 
         this.method = method;
         this.domainClass = method.getEntityInformation().getJavaType();
-        this.tree = new PartTree(method.getName(), domainClass);
+        this.exists = isExistsMethod(method.getName());
+        this.tree = new PartTree(exists ? "find" + method.getName().substring(EXISTS_PREFIX.length()) : method.getName(), domainClass);
         this.parameters = method.getParameters();
+        this.binder = new PartTreeParameterBinder(tree, parameters);
+
+        if (tree.isDelete() && !method.isModifiedCountQuery()) {
+            throw new IllegalStateException(String.format("Delete methods must return void, int or long! Offending method: %s", method));
+        }
+
+        if (method.isModifyingQuery() && !tree.isDelete()) {
+            throw new IllegalStateException(String.format("Derived queries can only be modifying if they delete! Offending method: %s", method));
+        }
     }
 
     /* (non-Javadoc)
@@ -45,10 +76,25 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
     @SuppressWarnings("rawtypes")
     protected OSQLQuery<?> doCreateQuery(Object[] values) {
         OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
-        
-        OrientQueryCreator creator = new OrientQueryCreator(tree, method, accessor);
-        
-        return new OSQLSynchQuery(creator.createQuery());
+        OrientQueryCreator creator = exists ? new OrientExistsQueryCreator(tree, method, accessor) : new OrientQueryCreator(tree, method, accessor);
+        QueryKey key = new QueryKey(accessor, false);
+
+        String statement = queries.get(key);
+
+        if (statement == null) {
+            statement = creator.createStatement();
+            queries.put(key, statement);
+        }
+
+        OSQLQuery<?> query = new OSQLSynchQuery(creator.page(statement));
+        int maxLimit = method.getQueryHints(accessor).getLimit();
+
+        if (maxLimit > 0 && creator.getLimit() < 0 && !tree.isDelete()) {
+            // the query text has no LIMIT, which would override the limit of the request
+            query.setLimit(maxLimit);
+        }
+
+        return query;
     }
 
     /* (non-Javadoc)
@@ -58,10 +104,38 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
     @SuppressWarnings("rawtypes")
     protected OSQLQuery<?> doCreateCountQuery(Object[] values) {
         OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
-        
-        OrientQueryCreator creator = new OrientCountQueryCreator(tree, method, accessor);
-        
-        return new OSQLSynchQuery(creator.createQuery());
+        QueryKey key = new QueryKey(accessor, true);
+
+        String query = countQueries.get(key);
+
+        if (query == null) {
+            query = new OrientCountQueryCreator(tree, method, accessor).createQuery();
+            countQueries.put(key, query);
+        }
+
+        return new OSQLSynchQuery(query);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#prepareParameters(org.springframework.data.orient.commons.repository.query.OrientParameters, java.lang.Object[])
+     */
+    @Override
+    protected Object[] prepareParameters(OrientParameters parameters, Object[] values) {
+        Object[] params = binder.bind(values);
+        KeysetPageRequest keyset = new OrientParametersParameterAccessor(parameters, values).getKeysetPageRequest();
+
+        return keyset == null ? params : QueryUtils.toKeysetParameters(params, keyset);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#getKeysetSort(java.lang.Object[])
+     */
+    @Override
+    protected Sort getKeysetSort(Object[] values) {
+        OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
+        Sort sort = tree.getSort() == null ? accessor.getSort() : tree.getSort().and(accessor.getSort());
+
+        return QueryUtils.toKeysetSort(sort, accessor.getKeysetPageRequest());
     }
 
     /* (non-Javadoc)
@@ -71,4 +145,81 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
     protected boolean isCountQuery() {
         return tree.isCountProjection();
     }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#isExistsQuery()
+     */
+    @Override
+    protected boolean isExistsQuery() {
+        return exists;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#isDeleteQuery()
+     */
+    @Override
+    protected boolean isDeleteQuery() {
+        return tree.isDelete();
+    }
+
+    /**
+     * Checks whether the given method name starts with {@code exists}, e.g. {@code existsByEmail}.
+     *
+     * @param name the method name
+     * @return true, if the method checks whether a record matches
+     */
+    private static boolean isExistsMethod(String name) {
+        return name.startsWith(EXISTS_PREFIX) && name.length() > EXISTS_PREFIX.length()
+                && Character.isUpperCase(name.charAt(EXISTS_PREFIX.length()));
+    }
+
+    /**
+     * The parts of a method invocation that change the rendered statement: the source, the sort, the shape of the
+     * keyset and the dynamic projection. Argument values are not part of the key as they are always bound to
+     * placeholders, nor is the page, whose skip and limit are appended to the statement on each call.
+     */
+    private static final class QueryKey {
+
+        private final String source;
+
+        private final Sort sort;
+
+        private final Sort keysetSort;
+
+        private final boolean seek;
+
+        private final Class<?> projection;
+
+        QueryKey(OrientParameterAccessor accessor, boolean count) {
+            KeysetPageRequest keyset = count ? null : accessor.getKeysetPageRequest();
+
+            this.source = QueryUtils.toSource(accessor.getSource());
+            this.sort = count ? null : accessor.getSort();
+            this.keysetSort = keyset == null ? null : keyset.getSort();
+            this.seek = keyset != null && keyset.getCursor() != null;
+            this.projection = count ? null : accessor.getDynamicProjection();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            QueryKey that = (QueryKey) o;
+
+            return seek == that.seek && projection == that.projection
+                    && ObjectUtils.nullSafeEquals(source, that.source) && ObjectUtils.nullSafeEquals(sort, that.sort)
+                    && ObjectUtils.nullSafeEquals(keysetSort, that.keysetSort);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = ObjectUtils.nullSafeHashCode(source);
+            result = 31 * result + ObjectUtils.nullSafeHashCode(sort);
+            result = 31 * result + ObjectUtils.nullSafeHashCode(keysetSort);
+            result = 31 * result + (seek ? 1 : 0);
+            result = 31 * result + ObjectUtils.nullSafeHashCode(projection);
+            return result;
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Collects the values to bind to the positional placeholders of a query derived from a {@link PartTree}.
+ * The values are returned in the same order the {@link OrientQueryCreator} renders the placeholders.
+ */
+public class PartTreeParameterBinder {
+
+    /** The tree. */
+    private final PartTree tree;
+
+    /** The parameters. */
+    private final OrientParameters parameters;
+
+    /**
+     * Instantiates a new {@link PartTreeParameterBinder}.
+     *
+     * @param tree the tree
+     * @param parameters the parameters
+     */
+    public PartTreeParameterBinder(PartTree tree, OrientParameters parameters) {
+        super();
+        this.tree = tree;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Gets the values to bind for the given method invocation values.
+     *
+     * @param values the method invocation values
+     * @return the positional query parameters
+     */
+    public Object[] bind(Object[] values) {
+        Iterator<Object> iterator = new OrientParametersParameterAccessor(parameters, values).iterator();
+        List<Object> params = new ArrayList<>();
+
+        for (OrPart orPart : tree) {
+            for (Part part : orPart) {
+                bind(part, iterator, params);
+            }
+        }
+
+        return params.toArray();
+    }
+
+    private static void bind(Part part, Iterator<Object> iterator, List<Object> params) {
+        boolean ignoreCase = OrientQueryCreator.isIgnoreCase(part);
+
+        switch (part.getType()) {
+            case IN:
+            case NOT_IN: params.add(ignoreCase ? toLowerCase(toCollection(iterator.next())) : toCollection(iterator.next())); break;
+            case CONTAINING:
+            case NOT_CONTAINING:
+                if (!ignoreCase) {
+                    params.add(iterator.next());
+                    break;
+                }
+            case STARTING_WITH:
+            case ENDING_WITH: params.add(toLikeValue(part, ignoreCase ? toLowerCase(iterator.next()) : iterator.next())); break;
+            default:
+                for (int i = 0; i < part.getNumberOfArguments(); i++) {
+                    params.add(ignoreCase ? toLowerCase(iterator.next()) : iterator.next());
+                }
+        }
+    }
+
+    /**
+     * Converts the given {@code IN} argument into the collection bound to its single placeholder.
+     *
+     * @param value the argument (collection, array or single value)
+     * @return the collection
+     */
+    static Collection<?> toCollection(Object value) {
+        if (value == null) {
+            return Collections.singletonList(null);
+        } else if (value instanceof Collection) {
+            return (Collection<?>) value;
+        } else if (value.getClass().isArray()) {
+            return CollectionUtils.arrayToList(value);
+        }
+
+        return Collections.singletonList(value);
+    }
+
+    /**
+     * Decorates the given argument with the wildcards required by {@code LIKE} based keywords.
+     * <p>
+     * The argument is not escaped: unlike the {@code ESCAPE '!'} clause rendered by jOOQ before, OrientDB has no
+     * escape syntax for {@code LIKE}, and {@code _} is no wildcard to it. A pattern starting or ending with a single
+     * {@code %} is matched as a plain prefix, suffix or substring, so the wildcards within the argument match
+     * themselves. Only a {@code %} at the start of a {@code StartingWith} argument or at the end of an
+     * {@code EndingWith} argument still matches any characters.
+     *
+     * @param part the part
+     * @param value the argument
+     * @return the like pattern
+     */
+    static String toLikeValue(Part part, Object value) {
+        String string = ObjectUtils.nullSafeToString(value);
+
+        switch (part.getType()) {
+            case STARTING_WITH: return string + "%";
+            case ENDING_WITH: return "%" + string;
+            case CONTAINING:
+            case NOT_CONTAINING: return "%" + string + "%";
+            default: return string;
+        }
+    }
+
+    /**
+     * Lower cases the given argument of a part compared with {@code field.toLowerCase()}.
+     *
+     * @param value the argument
+     * @return the lower cased argument, the argument itself if it is not a string
+     */
+    static Object toLowerCase(Object value) {
+        return value instanceof String ? ((String) value).toLowerCase() : value;
+    }
+
+    private static Collection<?> toLowerCase(Collection<?> values) {
+        List<Object> result = new ArrayList<>(values.size());
+
+        for (Object value : values) {
+            result.add(toLowerCase(value));
+        }
+
+        return result;
+    }
+}
@@ -1,19 +1,17 @@
 package org.springframework.data.orient.commons.repository.query;
 
-import org.jooq.SortField;
-import org.jooq.SortOrder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.KeysetPage;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
+import org.springframework.data.orient.commons.repository.OrientCursor;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.util.Assert;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-import static org.jooq.impl.DSL.field;
-
 /**
  * Utility class to create Orient queries.
  * 
@@ -26,7 +24,7 @@ public final class QueryUtils {
     }
     
     /**
-     * Apply sorting for the given query.
+     * Apply sorting for the given query, extending its order if it declares one, see {@link OrientQueryRewriter}.
      *
      * @param query the query
      * @param sort the sort
@@ -39,29 +37,33 @@ public final class QueryUtils {
             return query;
         }
         
-        throw new UnsupportedOperationException("Not implemented");
+        return new OrientQueryRewriter(query).rewrite(sort, null, false);
     }
     
     /**
-     * Converts the given {@link org.springframework.data.domain.Sort} into {@link SortField}s.
+     * Apply paging for the given query, reading one record more than the page size for slices and pages.
      *
-     * @param sort the {@link org.springframework.data.domain.Sort} instance to be transformed into JOOQ {@link SortField}s.
-     * @return the list of {@link SortField}s.
+     * @param query the query without skip and limit
+     * @param pageable the pageable, may be {@literal null}
+     * @param lookAhead whether to read one record more to find out whether there is a next page
+     * @return the string
      */
-    public static List<SortField<?>> toOrders(Sort sort) {
-        if (sort == null) {
-            return Collections.emptyList();
+    public static String applyPaging(String query, Pageable pageable, boolean lookAhead) {
+        Assert.hasText(query);
+
+        if (pageable == null) {
+            return query;
         }
-        
-        List<SortField<?>> orders = new ArrayList<>();
-        
-        for (Order order : sort) {
-            orders.add(field(order.getProperty()).sort(order.getDirection() == Direction.ASC ? SortOrder.ASC : SortOrder.DESC)); 
+
+        StringBuilder builder = new StringBuilder(query.length() + 24).append(query);
+
+        if (pageable.getOffset() > 0) {
+            builder.append(" skip ").append(pageable.getOffset());
         }
 
-        return orders;
+        return builder.append(" limit ").append(lookAhead ? pageable.getPageSize() + 1 : pageable.getPageSize()).toString();
     }
-    
+
     public static String clusterToSource(String clusterName) {
         return new StringBuilder("cluster:").append(clusterName).toString();
     }
@@ -80,4 +82,102 @@ public final class QueryUtils {
         
         return null;
     }
+
+    /**
+     * Gets the sort of a keyset page: the given sort followed by the sort of the request.
+     *
+     * @param sort the sort of the query, may be {@literal null}
+     * @param request the keyset request
+     * @return the sort, {@literal null} if the records are ordered by {@code @rid} only
+     */
+    public static Sort toKeysetSort(Sort sort, KeysetPageRequest request) {
+        return sort == null ? request.getSort() : sort.and(request.getSort());
+    }
+
+    /**
+     * Adds the seek condition, the order and the limit of the given keyset request to the builder. One record more
+     * than the page size is read to find out whether there is a next page, see {@link #toKeysetPage}.
+     *
+     * @param builder the builder with the target and the criteria of the query
+     * @param sort the keyset sort, see {@link #toKeysetSort(Sort, KeysetPageRequest)}
+     * @param request the keyset request
+     * @return the builder
+     */
+    public static OrientSqlBuilder applyKeyset(OrientSqlBuilder builder, Sort sort, KeysetPageRequest request) {
+        return applyKeysetSeek(builder, sort, request).limit(request.getSize() + 1);
+    }
+
+    /**
+     * Adds the seek condition and the order of the given keyset request to the builder, but not its limit, which
+     * does not change the statement otherwise.
+     *
+     * @param builder the builder with the target and the criteria of the query
+     * @param sort the keyset sort, see {@link #toKeysetSort(Sort, KeysetPageRequest)}
+     * @param request the keyset request
+     * @return the builder
+     */
+    public static OrientSqlBuilder applyKeysetSeek(OrientSqlBuilder builder, Sort sort, KeysetPageRequest request) {
+        Sort keysetSort = sort == null ? new Sort(OrientCriteria.RID) : sort.and(new Sort(OrientCriteria.RID));
+        OrientCursor cursor = request.getCursor();
+
+        if (cursor != null) {
+            Assert.isTrue(cursor.getValues().length == countOrders(keysetSort) - 1, "The cursor does not match the sort " + sort);
+            builder.where(OrientCriteria.seek(keysetSort));
+        }
+
+        return builder.orderBy(keysetSort);
+    }
+
+    /**
+     * Gets the values to bind to the seek condition rendered by {@link #applyKeyset}, appended to the given ones.
+     *
+     * @param params the parameters of the query criteria
+     * @param request the keyset request
+     * @return the query parameters
+     */
+    public static Object[] toKeysetParameters(Object[] params, KeysetPageRequest request) {
+        OrientCursor cursor = request.getCursor();
+
+        if (cursor == null) {
+            return params;
+        }
+
+        Object[] seek = cursor.toParameters();
+        Object[] result = new Object[params.length + seek.length];
+        System.arraycopy(params, 0, result, 0, params.length);
+        System.arraycopy(seek, 0, result, params.length, seek.length);
+
+        return result;
+    }
+
+    /**
+     * Creates the keyset page for the records read with the query built by {@link #applyKeyset}.
+     *
+     * @param records the records, at most one more than the page size
+     * @param request the keyset request
+     * @param sort the keyset sort
+     * @param operations the operations used to resolve the record ids
+     * @return the page
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> KeysetPage<T> toKeysetPage(List<T> records, KeysetPageRequest request, Sort sort, OrientOperations operations) {
+        if (records.size() <= request.getSize()) {
+            return new KeysetPage<>(records, request, null);
+        }
+
+        List<T> content = records.subList(0, request.getSize());
+        T last = content.get(content.size() - 1);
+
+        return new KeysetPage<>(content, request, OrientCursor.of(last, operations.getRid(last), sort));
+    }
+
+    private static int countOrders(Sort sort) {
+        int count = 0;
+
+        for (@SuppressWarnings("unused") Order order : sort) {
+            count++;
+        }
+
+        return count;
+    }
 }
@@ -3,33 +3,90 @@ package org.springframework.data.orient.commons.repository.query;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.query.OrientQueryRewriter.SortedQuery;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
 
 public class StringBasedOrientQuery extends AbstractOrientQuery {
-    
-    private final String queryString;
-    
+
+    /** Matches named placeholders like {@code :name} but not sources like {@code cluster:name}. */
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<![\\w:]):[a-zA-Z_]\\w*");
+
+    private final OrientQueryRewriter rewriter;
+
+    private final String countQuery;
+
     private final boolean isCountQuery;
-    
+
+    private final boolean namedParameters;
+
+    /** The sorted queries by their sort, paged on each call, softly referenced. */
+    private final ConcurrentMap<Sort, SortedQuery> queries = new ConcurrentReferenceHashMap<>();
+
     public StringBasedOrientQuery(String query, OrientQueryMethod method, OrientOperations operations) {
         super(method, operations);
-        this.queryString = query;
+        this.rewriter = new OrientQueryRewriter(query);
+        this.countQuery = method.getAnnotatedCountQuery() == null ? rewriter.getCountQuery() : method.getAnnotatedCountQuery();
         this.isCountQuery = method.hasAnnotatedQuery() ? method.getQueryAnnotation().count() : false;
+        this.namedParameters = NAMED_PARAMETER.matcher(query).find();
     }
 
     @Override
     @SuppressWarnings("rawtypes")
     protected OSQLQuery<?> doCreateQuery(Object[] values) {
         OrientParameterAccessor accessor = new OrientParametersParameterAccessor(getQueryMethod().getParameters(), values);
-        String sortedQuery = QueryUtils.applySorting(queryString, accessor.getSort());
-        
-        return new OSQLSynchQuery(sortedQuery);
+        Sort sort = accessor.getSort();
+
+        SortedQuery query = queries.get(sort);
+
+        if (query == null) {
+            query = rewriter.sorted(sort);
+            queries.put(sort, query);
+        }
+
+        Pageable pageable = accessor.getPageable();
+        int maxLimit = getQueryMethod().isModifyingQuery() ? -1 : getQueryMethod().getQueryHints(accessor).getLimit();
+        OSQLQuery<?> sql = new OSQLSynchQuery(query.page(pageable, getQueryMethod().isSliceQuery() || getQueryMethod().isPageQuery(), maxLimit));
+
+        if (maxLimit > 0 && !query.isLimited(pageable)) {
+            // the query text has no LIMIT, which would override the limit of the request
+            sql.setLimit(maxLimit);
+        }
+
+        return sql;
     }
 
     @Override
     @SuppressWarnings("rawtypes")
     protected OSQLQuery<?> doCreateCountQuery(Object[] values) {
-        return new OSQLSynchQuery<ODocument>(queryString);
+        return new OSQLSynchQuery<ODocument>(countQuery);
+    }
+
+    /**
+     * Binds the parameters by name when the query declares named placeholders, positionally otherwise.
+     */
+    @Override
+    protected Object[] prepareParameters(OrientParameters parameters, Object[] values) {
+        if (!namedParameters) {
+            return super.prepareParameters(parameters, values);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+
+        for (OrientParameter parameter : parameters) {
+            if (parameter.isNamedParameter()) {
+                params.put(parameter.getName(), values[parameter.getIndex()]);
+            }
+        }
+
+        return new Object[] { params };
     }
 
     @Override
@@ -1,5 +1,6 @@
 package org.springframework.data.orient.commons.repository.support;
 
+import org.springframework.data.orient.commons.core.OrientBulkOptions;
 import org.springframework.data.orient.commons.core.OrientOperations;
 import org.springframework.data.orient.commons.repository.query.QueryUtils;
 
@@ -20,6 +21,11 @@ public class ClusteredOrientStrategy<T> implements OrientStrategy<T> {
         return operations.save(entity, cluster);
     }
 
+    @Override
+    public <S extends T> long save(Iterable<S> entities, OrientBulkOptions options) {
+        return operations.saveAll(entities, options.getCluster() == null ? options.withCluster(cluster) : options);
+    }
+
     @Override
     public long count() {
         return operations.countClusterElements(cluster);
@@ -2,6 +2,8 @@ package org.springframework.data.orient.commons.repository.support;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.core.ReactiveOrientTemplate;
+import org.springframework.data.orient.commons.repository.ReactiveOrientRepository;
 import org.springframework.data.orient.commons.repository.SourceType;
 import org.springframework.data.orient.commons.repository.annotation.Cluster;
 import org.springframework.data.orient.commons.repository.annotation.Source;
@@ -47,17 +49,25 @@ public class OrientRepositoryFactory extends RepositoryFactorySupport {
     }
 
     @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     protected Object getTargetRepository(RepositoryInformation metadata) {
         EntityInformation<?, Serializable> entityInformation = getEntityInformation(metadata.getDomainType());
         Class<?> repositoryInterface = metadata.getRepositoryInterface();
         Class<?> javaType = entityInformation.getJavaType();
         String cluster = getCustomCluster(metadata);
+        SimpleOrientRepository repository;
 
         if (cluster != null) {
-            return new SimpleOrientRepository(operations, javaType, cluster, repositoryInterface);
+            repository = new SimpleOrientRepository(operations, javaType, cluster, repositoryInterface);
         } else {
-            return new SimpleOrientRepository(operations, javaType, repositoryInterface);
+            repository = new SimpleOrientRepository(operations, javaType, repositoryInterface);
         }
+
+        if (isReactive(metadata)) {
+            return new SimpleReactiveOrientRepository(new ReactiveOrientTemplate(operations), repository);
+        }
+
+        return repository;
     }
 
 
@@ -66,7 +76,17 @@ public class OrientRepositoryFactory extends RepositoryFactorySupport {
      */
     @Override
     protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
-        return SimpleOrientRepository.class;
+        return isReactive(metadata) ? SimpleReactiveOrientRepository.class : SimpleOrientRepository.class;
+    }
+
+    /**
+     * Returns whether the repository is a {@link ReactiveOrientRepository}.
+     *
+     * @param metadata the repository metadata
+     * @return true, if the repository is reactive
+     */
+    protected boolean isReactive(RepositoryMetadata metadata) {
+        return ReactiveOrientRepository.class.isAssignableFrom(metadata.getRepositoryInterface());
     }
 
     /* (non-Javadoc)
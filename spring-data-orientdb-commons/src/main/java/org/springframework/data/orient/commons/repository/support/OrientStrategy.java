@@ -1,9 +1,12 @@
 package org.springframework.data.orient.commons.repository.support;
 
+import org.springframework.data.orient.commons.core.OrientBulkOptions;
 
 public interface OrientStrategy<T> {
 
     <S extends T> S save(S entity);
+
+    <S extends T> long save(Iterable<S> entities, OrientBulkOptions options);
     
     long count();
     
@@ -3,23 +3,34 @@ package org.springframework.data.orient.commons.repository.support;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
-import org.jooq.*;
-import org.jooq.conf.ParamType;
-import org.jooq.impl.DSL;
+import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.OrientBulkOptions;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.KeysetPage;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
+import org.springframework.data.orient.commons.repository.OrientPage;
 import org.springframework.data.orient.commons.repository.OrientRepository;
 import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.orient.commons.repository.query.OrientCriteria;
+import org.springframework.data.orient.commons.repository.query.OrientSqlBuilder;
 import org.springframework.data.orient.commons.repository.query.QueryUtils;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.PagingAndSortingRepository} interface for OrientDB.
@@ -118,6 +129,15 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
         return result;
     }
 
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.repository.OrientRepository#save(java.lang.Iterable, org.springframework.data.orient.commons.core.OrientBulkOptions)
+     */
+    @Override
+    @Transactional(readOnly = false, propagation = Propagation.SUPPORTS)
+    public <S extends T> long save(Iterable<S> entities, OrientBulkOptions options) {
+        return entities == null ? 0 : strategy.save(entities, options);
+    }
+
     @Transactional(readOnly = false)
     public <S extends T> Iterable<S> save(Iterable<S> entities, String cluster) {
         if (entities == null) {
@@ -144,7 +164,15 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
      * @see org.springframework.data.repository.CrudRepository#exists(java.io.Serializable)
      */
     public boolean exists(String id) {
-        return findOne(id) != null;
+        return operations.exists(new ORecordId(id));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.repository.OrientRepository#exists(java.lang.Iterable)
+     */
+    @Override
+    public boolean[] exists(Iterable<String> ids) {
+        return operations.exists(toRecordIds(ids));
     }
 
     /* (non-Javadoc)
@@ -159,8 +187,9 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
      * @see org.springframework.data.orient.repository.OrientRepository#findAll(java.lang.Class)
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <S extends T> List<S> findAll(Class<S> domainClass) {
-        return null;
+        return (List<S>) operations.query(getQuery(domainClass));
     }
 
     /* (non-Javadoc)
@@ -184,13 +213,17 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
      */
     @Override
     public List<T> findAll(Iterable<String> ids) {
+        return operations.loadAll(toRecordIds(ids));
+    }
+
+    private List<ORecordId> toRecordIds(Iterable<String> ids) {
         List<ORecordId> oRecordIds = new ArrayList<>();
         for (String id : ids) {
             ORecordId oRecordId = new ORecordId();
             oRecordId.fromString(id);
             oRecordIds.add(oRecordId);
         }
-        return operations.query(getQuery("?", null), oRecordIds);
+        return oRecordIds;
     }
 
     /* (non-Javadoc)
@@ -260,28 +293,30 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
      */
     @Transactional(readOnly = false)
     public void deleteAll() {
-        for (T entity : findAll()) {
-            delete(entity);
-        }
+        operations.deleteAll(source);
     }
 
     /* (non-Javadoc)
      * @see org.springframework.data.orient.repository.OrientRepository#deleteAll(java.lang.String)
      */
     @Override
+    @Transactional(readOnly = false)
     public void deleteAll(String cluster) {
-        for (T entity : findAll(cluster)) {
-            delete(entity);
-        }
+        operations.deleteAll(QueryUtils.clusterToSource(cluster));
     }
 
     /* (non-Javadoc)
      * @see org.springframework.data.orient.repository.OrientRepository#deleteAll(java.lang.Class)
      */
     @Override
+    @Transactional(readOnly = false)
     public void deleteAll(Class<? extends T> domainClass) {
-        for (T entity : findAll(domainClass)) {
-            delete(entity);
+        checkSubtype(domainClass);
+
+        if (isClusterSource()) {
+            operations.deleteAll(source, OrientCriteria.instanceOf(domainClass.getSimpleName()).toString());
+        } else {
+            operations.deleteAll(QueryUtils.toSource(domainClass));
         }
     }
 
@@ -315,10 +350,98 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
             return new PageImpl<>(findAll());
         }
 
-        Long total = count();
-        List<T> content = (List<T>) (total > pageable.getOffset() ? operations.query(getQuery(pageable)) : Collections.<T> emptyList());
+        final OSQLQuery<Long> countQuery = new OSQLSynchQuery<>(OrientSqlBuilder.selectCount().from(source).build());
+        Future<Long> total = operations.countTotalAsync(countQuery);
+
+        List<T> content = operations.query(getQuery(pageable));
+
+        if (total != null) {
+            return OrientPage.of(content, pageable, total);
+        }
+
+        return OrientPage.of(content, pageable, new OrientPage.Counter() {
+            @Override
+            public long count() {
+                return operations.countTotal(countQuery);
+            }
+        });
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#streamAll()
+     */
+    @Override
+    public Stream<T> streamAll() {
+        return streamAll((Sort) null);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#streamAll(org.springframework.data.domain.Sort)
+     */
+    @Override
+    public Stream<T> streamAll(Sort sort) {
+        CloseableIterator<T> iterator = operations.stream(getQuery(sort));
 
-        return new PageImpl<>(content, pageable, total);
+        return StreamUtils.createStreamFromIterator(iterator);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#streamAll(org.springframework.data.orient.commons.repository.OrientSource)
+     */
+    @Override
+    public Stream<T> streamAll(OrientSource source) {
+        CloseableIterator<T> iterator = operations.stream(getQuery(QueryUtils.toSource(source), (Sort) null));
+
+        return StreamUtils.createStreamFromIterator(iterator);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#publishAll()
+     */
+    @Override
+    public Publisher<T> publishAll() {
+        return publishAll((Sort) null);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#publishAll(org.springframework.data.domain.Sort)
+     */
+    @Override
+    public Publisher<T> publishAll(Sort sort) {
+        return publishAll(sort, DetachMode.NONE);
+    }
+
+    /**
+     * Gets a publisher of all the entities in the given order, detached with the given mode.
+     *
+     * @param sort the order, {@literal null} for none
+     * @param detachMode the detach mode
+     * @return the publisher
+     */
+    Publisher<T> publishAll(Sort sort, DetachMode detachMode) {
+        return operations.publish(getQuery(sort), detachMode);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#streamAll(java.lang.Class)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> Stream<S> streamAll(Class<S> domainClass) {
+        CloseableIterator<S> iterator = (CloseableIterator<S>) operations.stream(getQuery(domainClass));
+
+        return StreamUtils.createStreamFromIterator(iterator);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#findAll(org.springframework.data.orient.commons.repository.KeysetPageRequest)
+     */
+    @Override
+    public KeysetPage<T> findAll(KeysetPageRequest request) {
+        String query = QueryUtils.applyKeyset(OrientSqlBuilder.select().from(source), request.getSort(), request).build();
+        List<T> records = operations.query(new OSQLSynchQuery<T>(query), QueryUtils.toKeysetParameters(new Object[0], request));
+
+        return QueryUtils.toKeysetPage(records, request, request.getSort(), operations);
     }
 
     /**
@@ -339,9 +462,48 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
      * @return the query
      */
     private OSQLQuery<T> getQuery(String source, Sort sort) {
-        Query query = DSL.using(SQLDialect.MYSQL).select().from(source).orderBy(QueryUtils.toOrders(sort));
+        return new OSQLSynchQuery<>(OrientSqlBuilder.select().from(source).orderBy(sort).build());
+    }
+
+    /**
+     * Creates the query for the entities of the given type, including its subtypes. A class source is narrowed to
+     * the class of the type, which reads its clusters and the ones of its subclasses only. A cluster source is
+     * filtered by {@code instanceof}.
+     *
+     * @param domainClass the domain class
+     * @return the query
+     */
+    private OSQLQuery<T> getQuery(Class<? extends T> domainClass) {
+        checkSubtype(domainClass);
+
+        OrientSqlBuilder builder = OrientSqlBuilder.select();
+
+        if (isClusterSource()) {
+            builder.from(source).where(OrientCriteria.instanceOf(domainClass.getSimpleName()));
+        } else {
+            builder.from(QueryUtils.toSource(domainClass));
+        }
+
+        return new OSQLSynchQuery<>(builder.build());
+    }
 
-        return new OSQLSynchQuery<>(query.getSQL(ParamType.INLINED));
+    /**
+     * Checks that the given type is the domain class of the repository or one of its subtypes.
+     *
+     * @param domainClass the domain class
+     */
+    private void checkSubtype(Class<? extends T> domainClass) {
+        Assert.notNull(domainClass);
+        Assert.isTrue(this.domainClass.isAssignableFrom(domainClass), String.format("%s is not a subtype of %s!", domainClass.getName(), this.domainClass.getName()));
+    }
+
+    /**
+     * Checks whether the repository reads a single cluster instead of its class.
+     *
+     * @return true, if the source is a cluster
+     */
+    private boolean isClusterSource() {
+        return source.regionMatches(true, 0, "cluster:", 0, 8);
     }
 
     /**
@@ -351,13 +513,9 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
      * @return the query
      */
     private OSQLQuery<T> getQuery(Pageable pageable) {
-        DSLContext context = DSL.using(SQLDialect.MYSQL);
-        SelectJoinStep<? extends Record> joinStep = context.select().from(domainClass.getSimpleName());
-        
-        Sort sort = pageable.getSort();
-        SelectLimitStep<? extends Record> limitStep = sort == null ? joinStep : joinStep.orderBy(QueryUtils.toOrders(sort));
-        Query query = pageable == null ? limitStep : limitStep.limit(pageable.getPageSize()).offset(pageable.getOffset());
-        
-        return new OSQLSynchQuery<>(query.getSQL(ParamType.INLINED));
+        String query = OrientSqlBuilder.select().from(source).orderBy(pageable.getSort())
+                .skip(pageable.getOffset()).limit(pageable.getPageSize() + 1).build();
+
+        return new OSQLSynchQuery<>(query);
     }
 }
@@ -0,0 +1,149 @@
+package org.springframework.data.orient.commons.repository.support;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.ReactiveOrientOperations;
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.ReactiveOrientRepository;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Default implementation of the {@link ReactiveOrientRepository} interface, running the methods of the blocking
+ * {@link SimpleOrientRepository} of the same entities with the {@link ReactiveOrientOperations}, so that the sources
+ * and the clusters of both flavors are the same. The entities are detached before they leave the thread of their
+ * connection.
+ *
+ * @param <T> the type of the entity to handle
+ */
+public class SimpleReactiveOrientRepository<T> implements ReactiveOrientRepository<T> {
+
+    /** The reactive operations. */
+    protected final ReactiveOrientOperations<T> operations;
+
+    /** The blocking repository. */
+    protected final SimpleOrientRepository<T> repository;
+
+    /**
+     * Instantiates a new {@link SimpleReactiveOrientRepository}.
+     *
+     * @param operations the reactive operations
+     * @param repository the blocking repository of the same entities
+     */
+    public SimpleReactiveOrientRepository(ReactiveOrientOperations<T> operations, SimpleOrientRepository<T> repository) {
+        super();
+        Assert.notNull(operations);
+        Assert.notNull(repository);
+        this.operations = operations;
+        this.repository = repository;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#save(java.lang.Object)
+     */
+    @Override
+    public <S extends T> Publisher<S> save(final S entity) {
+        Assert.notNull(entity);
+
+        return operations.execute(new Callable<S>() {
+            @Override
+            public S call() {
+                return operations.getOperations().detach(repository.save(entity));
+            }
+        });
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#findOne(java.lang.String)
+     */
+    @Override
+    public Publisher<T> findOne(final String id) {
+        Assert.notNull(id);
+
+        return operations.execute(new Callable<T>() {
+            @Override
+            public T call() {
+                T entity = repository.findOne(id);
+
+                return entity == null ? null : operations.getOperations().detach(entity);
+            }
+        });
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#exists(java.lang.String)
+     */
+    @Override
+    public Publisher<Boolean> exists(final String id) {
+        Assert.notNull(id);
+
+        return operations.execute(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return repository.exists(id);
+            }
+        });
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#findAll()
+     */
+    @Override
+    public Publisher<T> findAll() {
+        return findAll((Sort) null);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#findAll(org.springframework.data.domain.Sort)
+     */
+    @Override
+    public Publisher<T> findAll(Sort sort) {
+        return repository.publishAll(sort, DetachMode.ENTITY);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#count()
+     */
+    @Override
+    public Publisher<Long> count() {
+        return operations.execute(new Callable<Long>() {
+            @Override
+            public Long call() {
+                return repository.count();
+            }
+        });
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#delete(java.lang.String)
+     */
+    @Override
+    public Publisher<Void> delete(final String id) {
+        Assert.notNull(id);
+
+        return operations.execute(new Callable<Void>() {
+            @Override
+            public Void call() {
+                repository.delete(id);
+
+                return null;
+            }
+        });
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#deleteAll()
+     */
+    @Override
+    public Publisher<Void> deleteAll() {
+        return operations.execute(new Callable<Void>() {
+            @Override
+            public Void call() {
+                repository.deleteAll();
+
+                return null;
+            }
+        });
+    }
+}
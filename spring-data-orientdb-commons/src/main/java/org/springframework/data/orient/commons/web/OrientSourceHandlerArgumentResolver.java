@@ -2,9 +2,11 @@ package org.springframework.data.orient.commons.web;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.data.orient.commons.repository.DefaultSource;
+import org.springframework.data.orient.commons.repository.OrientCursor;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.orient.commons.repository.SourceType;
 import org.springframework.data.orient.commons.repository.annotation.Source;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -13,6 +15,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 /**
  * Extracts source information from web requests and thus allows injecting {@link Source} instances into controller
  * methods. Request properties to be parsed can be configured.
+ * <p>
+ * Also resolves {@link OrientCursor} parameters from the keyset pagination token, {@literal null} when the request
+ * has none, i.e. for the first page.
  *
  * @author Dzmitry_Naskou
  */
@@ -23,6 +28,8 @@ public class OrientSourceHandlerArgumentResolver implements HandlerMethodArgumen
     private static final String DEFAULT_NAME_PARAMETER = "name";
     
     private static final String DEFAULT_PREFIX = "source.";
+
+    private static final String DEFAULT_CURSOR_PARAMETER = "cursor";
     
     /** The type parameter name. */
     private String typeParameter = DEFAULT_TYPE_PARAMETER;
@@ -32,13 +39,16 @@ public class OrientSourceHandlerArgumentResolver implements HandlerMethodArgumen
     
     /** The prefix. */
     private String prefix =  DEFAULT_PREFIX;
+
+    /** The cursor parameter name. */
+    private String cursorParameter = DEFAULT_CURSOR_PARAMETER;
     
     /* (non-Javadoc)
      * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#supportsParameter(org.springframework.core.MethodParameter)
      */
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return OrientSource.class.equals(parameter.getParameterType());
+        return OrientSource.class.equals(parameter.getParameterType()) || OrientCursor.class.equals(parameter.getParameterType());
     }
 
     /* (non-Javadoc)
@@ -46,6 +56,12 @@ public class OrientSourceHandlerArgumentResolver implements HandlerMethodArgumen
      */
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        if (OrientCursor.class.equals(parameter.getParameterType())) {
+            String token = webRequest.getParameter(cursorParameter);
+
+            return StringUtils.hasText(token) ? OrientCursor.fromToken(token) : null;
+        }
+
         String typeString = webRequest.getParameter(getParameterNameToUse(typeParameter, parameter));
         String nameString = webRequest.getParameter(getParameterNameToUse(nameParameter, parameter));
         
@@ -91,6 +107,24 @@ public class OrientSourceHandlerArgumentResolver implements HandlerMethodArgumen
         this.nameParameter = nameParameter;
     }
 
+    /**
+     * Gets the cursor parameter name.
+     *
+     * @return the cursor parameter
+     */
+    public String getCursorParameter() {
+        return cursorParameter;
+    }
+
+    /**
+     * Sets the cursor parameter name.
+     *
+     * @param cursorParameter the new cursor parameter
+     */
+    public void setCursorParameter(String cursorParameter) {
+        this.cursorParameter = cursorParameter;
+    }
+
     /**
      * Gets the prefix.
      *
@@ -0,0 +1,89 @@
+package org.springframework.data.orient.commons.core;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public class OrientCountCacheTest {
+
+    private static final String SQL = "select count(*) from Person where lastName = ?";
+
+    @Test
+    public void servesTheTotalOfTheSameQueryAndParameters() {
+        OrientCountCache cache = new OrientCountCache(1, TimeUnit.MINUTES);
+        cache.put(SQL, new Object[] { "Smith" }, 42);
+
+        assertEquals(cache.get(SQL, new Object[] { "Smith" }), Long.valueOf(42));
+        assertNull(cache.get(SQL, new Object[] { "Jones" }));
+        assertNull(cache.get("select count(*) from Person", new Object[] { "Smith" }));
+    }
+
+    @Test
+    public void comparesTheArrayParametersByContent() {
+        OrientCountCache cache = new OrientCountCache(1, TimeUnit.MINUTES);
+        cache.put(SQL, new Object[] { new String[] { "Smith", "Jones" } }, 7);
+
+        assertEquals(cache.get(SQL, new Object[] { new String[] { "Smith", "Jones" } }), Long.valueOf(7));
+        assertNull(cache.get(SQL, null));
+    }
+
+    @Test
+    public void keepsACopyOfTheParameters() {
+        OrientCountCache cache = new OrientCountCache(1, TimeUnit.MINUTES);
+        Object[] args = { "Smith" };
+        cache.put(SQL, args, 42);
+        args[0] = "Jones";
+
+        assertEquals(cache.get(SQL, new Object[] { "Smith" }), Long.valueOf(42));
+    }
+
+    @Test
+    public void expiresTheTotalsAfterTheirTimeToLive() throws InterruptedException {
+        OrientCountCache cache = new OrientCountCache(50, TimeUnit.MILLISECONDS);
+        cache.put(SQL, new Object[] { "Smith" }, 42);
+        Thread.sleep(100);
+
+        assertNull(cache.get(SQL, new Object[] { "Smith" }));
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void evictsTheExpiredTotalsFirstWhenFull() throws InterruptedException {
+        OrientCountCache cache = new OrientCountCache(50, TimeUnit.MILLISECONDS, 2);
+        cache.put(SQL, new Object[] { "Smith" }, 1);
+        cache.put(SQL, new Object[] { "Jones" }, 2);
+        Thread.sleep(100);
+        cache.put(SQL, new Object[] { "Brown" }, 3);
+
+        assertEquals(cache.size(), 1);
+        assertEquals(cache.get(SQL, new Object[] { "Brown" }), Long.valueOf(3));
+    }
+
+    @Test
+    public void startsOverWhenFullOfLiveTotals() {
+        OrientCountCache cache = new OrientCountCache(1, TimeUnit.MINUTES, 2);
+        cache.put(SQL, new Object[] { "Smith" }, 1);
+        cache.put(SQL, new Object[] { "Jones" }, 2);
+        cache.put(SQL, new Object[] { "Brown" }, 3);
+
+        assertEquals(cache.size(), 1);
+        assertNull(cache.get(SQL, new Object[] { "Smith" }));
+        assertEquals(cache.get(SQL, new Object[] { "Brown" }), Long.valueOf(3));
+    }
+
+    @Test
+    public void forgetsTheTotalsOnceCleared() {
+        OrientCountCache cache = new OrientCountCache(1, TimeUnit.MINUTES);
+        cache.put(SQL, new Object[] { "Smith" }, 42);
+        cache.clear();
+
+        assertNull(cache.get(SQL, new Object[] { "Smith" }));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsANonPositiveTimeToLive() {
+        new OrientCountCache(0, TimeUnit.SECONDS);
+    }
+}
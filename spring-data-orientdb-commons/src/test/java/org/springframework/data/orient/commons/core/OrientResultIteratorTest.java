@@ -0,0 +1,140 @@
+package org.springframework.data.orient.commons.core;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class OrientResultIteratorTest {
+
+    private ExecutorService executor;
+
+    private OrientResultIterator<String> iterator;
+
+    /** The number of records the query thread has handed over. */
+    private AtomicInteger handedOver;
+
+    @BeforeMethod
+    public void before() {
+        executor = Executors.newSingleThreadExecutor();
+        handedOver = new AtomicInteger();
+        iterator = new OrientResultIterator<String>(2) {
+            @Override
+            protected String convert(Object record) {
+                return "record " + record;
+            }
+        };
+    }
+
+    @AfterMethod
+    public void after() {
+        iterator.close();
+        executor.shutdownNow();
+    }
+
+    @Test(timeOut = 10000)
+    public void iteratesOverTheRecordsInOrder() throws Exception {
+        Future<Boolean> query = run(5);
+
+        List<String> results = new ArrayList<>();
+
+        while (iterator.hasNext()) {
+            results.add(iterator.next());
+        }
+
+        assertEquals(results.toString(), "[record 0, record 1, record 2, record 3, record 4]");
+        assertTrue(query.get());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(timeOut = 10000)
+    public void holdsTheQueryWhileTheBufferIsFull() throws Exception {
+        Future<Boolean> query = run(10);
+        Thread.sleep(300);
+
+        assertEquals(handedOver.get(), 2);
+        assertFalse(query.isDone());
+
+        iterator.next();
+        Thread.sleep(300);
+
+        assertEquals(handedOver.get(), 3);
+        assertFalse(query.isDone());
+    }
+
+    @Test(timeOut = 10000)
+    public void stopsTheQueryOnceClosed() throws Exception {
+        Future<Boolean> query = run(100);
+
+        assertEquals(iterator.next(), "record 0");
+
+        iterator.close();
+
+        assertFalse(query.get(5, TimeUnit.SECONDS));
+        assertTrue(handedOver.get() < 100);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(timeOut = 10000, expectedExceptions = NoSuchElementException.class)
+    public void throwsPastTheLastRecord() throws Exception {
+        run(0).get();
+
+        iterator.next();
+    }
+
+    @Test(timeOut = 10000, expectedExceptions = DataRetrievalFailureException.class)
+    public void failsWhenTheQueryTerminatesBeforeItsEnd() throws Exception {
+        iterator.setFuture(executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                iterator.result(0);
+                throw new IllegalStateException("query failed");
+            }
+        }));
+
+        assertEquals(iterator.next(), "record 0");
+
+        iterator.hasNext();
+    }
+
+    /**
+     * Runs a query handing over the given number of records, as the non blocking queries do.
+     *
+     * @param count the number of records
+     * @return the future of the query, whether it has handed over all the records
+     */
+    private Future<Boolean> run(final int count) {
+        Future<Boolean> future = executor.submit(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                for (int i = 0; i < count; i++) {
+                    if (!iterator.result(i)) {
+                        return false;
+                    }
+
+                    handedOver.incrementAndGet();
+                }
+
+                iterator.end();
+
+                return true;
+            }
+        });
+
+        iterator.setFuture(future);
+
+        return future;
+    }
+}
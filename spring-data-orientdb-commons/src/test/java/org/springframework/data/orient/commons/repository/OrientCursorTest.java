@@ -0,0 +1,113 @@
+package org.springframework.data.orient.commons.repository;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import static org.testng.Assert.*;
+
+public class OrientCursorTest {
+
+    @Test
+    public void decodesTheTokenItEncodes() {
+        OrientCursor cursor = new OrientCursor(new ORecordId(12, 345), "Smith", 42, 42L, 1.5d, 2.5f, true,
+                new Date(1234567890L), new BigDecimal("12.30"), (short) 7, (byte) 3, new ORecordId(9, 8), null);
+
+        OrientCursor decoded = OrientCursor.fromToken(cursor.toToken());
+
+        assertEquals(decoded, cursor);
+        assertEquals(decoded.getRid(), new ORecordId(12, 345));
+        assertEquals(decoded.getValues()[7], new BigDecimal("12.30"));
+    }
+
+    @Test
+    public void encodesAUrlSafeToken() {
+        String token = new OrientCursor(new ORecordId(12, 345), "a/b+c?d=e&f").toToken();
+
+        assertTrue(token.matches("[A-Za-z0-9_=-]+"), token);
+    }
+
+    @Test
+    public void encodesTheEnumsByName() {
+        OrientCursor cursor = new OrientCursor(new ORecordId(1, 1), Direction.ASC);
+
+        assertEquals(OrientCursor.fromToken(cursor.toToken()).getValues(), new Object[] { "ASC" });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsAMalformedToken() {
+        OrientCursor.fromToken("not-a-cursor");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsATokenWithTrailingBytes() {
+        OrientCursor.fromToken(new OrientCursor(new ORecordId(1, 1)).toToken() + "AAAA");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsAnUnsupportedSortValue() {
+        new OrientCursor(new ORecordId(1, 1), new Object()).toToken();
+    }
+
+    @Test
+    public void readsTheSortValuesOfTheLastRecord() {
+        Person person = new Person("Ada", "Lovelace");
+
+        OrientCursor cursor = OrientCursor.of(person, "#12:3", new Sort(Direction.DESC, "lastName").and(new Sort("firstName")));
+
+        assertEquals(cursor, new OrientCursor(new ORecordId(12, 3), "Lovelace", "Ada"));
+        assertEquals(OrientCursor.of(person, "#12:3", null), new OrientCursor(new ORecordId(12, 3)));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectsANullSortValue() {
+        OrientCursor.of(new Person("Ada", null), "#12:3", new Sort("lastName"));
+    }
+
+    @Test
+    public void repeatsTheEqualitiesOfThePreviousKeys() {
+        ORecordId rid = new ORecordId(12, 3);
+
+        assertEquals(new OrientCursor(rid).toParameters(), new Object[] { rid });
+        assertEquals(new OrientCursor(rid, "a").toParameters(), new Object[] { "a", "a", rid });
+        assertEquals(new OrientCursor(rid, "a", 1).toParameters(), new Object[] { "a", "a", 1, "a", 1, rid });
+    }
+
+    @Test
+    public void keepsTheSortAndSizeOfTheNextRequest() {
+        OrientCursor cursor = new OrientCursor(new ORecordId(12, 3), "Lovelace");
+        KeysetPageRequest request = new KeysetPageRequest(20, new Sort("lastName"), null);
+
+        assertEquals(request.after(cursor), new KeysetPageRequest(20, new Sort("lastName"), cursor));
+        assertNull(new KeysetPageRequest(20).getCursor());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsAnEmptyPage() {
+        new KeysetPageRequest(0);
+    }
+
+    public static class Person {
+
+        private final String firstName;
+
+        private final String lastName;
+
+        public Person(String firstName, String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+    }
+}
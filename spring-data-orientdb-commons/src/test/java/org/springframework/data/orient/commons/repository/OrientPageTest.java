@@ -0,0 +1,154 @@
+package org.springframework.data.orient.commons.repository;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import static org.testng.Assert.*;
+
+public class OrientPageTest {
+
+    @Test
+    public void dropsTheLookAheadRecordOfAFullPage() {
+        CountingCounter counter = new CountingCounter(25);
+
+        OrientPage<String> page = OrientPage.of(Arrays.asList("a", "b", "c"), new PageRequest(0, 2), counter);
+
+        assertEquals(page.getContent(), Arrays.asList("a", "b"));
+        assertTrue(page.hasNext());
+        assertEquals(page.nextPageable(), new PageRequest(1, 2));
+        assertFalse(page.isTotalKnown());
+        assertEquals(counter.counts, 0);
+    }
+
+    @Test
+    public void countsTheTotalOnceOnDemand() {
+        CountingCounter counter = new CountingCounter(25);
+        OrientPage<String> page = OrientPage.of(Arrays.asList("a", "b", "c"), new PageRequest(0, 2), counter);
+
+        assertEquals(page.getTotalElements(), 25);
+        assertEquals(page.getTotalPages(), 13);
+        assertTrue(page.isTotalKnown());
+        assertEquals(counter.counts, 1);
+    }
+
+    @Test
+    public void infersTheTotalOfTheLastPage() {
+        CountingCounter counter = new CountingCounter(99);
+
+        OrientPage<String> page = OrientPage.of(Arrays.asList("e", "f"), new PageRequest(2, 2), counter);
+
+        assertFalse(page.hasNext());
+        assertTrue(page.isLast());
+        assertEquals(page.getTotalElements(), 6);
+        assertEquals(counter.counts, 0);
+    }
+
+    @Test
+    public void countsThePagePastTheEnd() {
+        CountingCounter counter = new CountingCounter(3);
+
+        OrientPage<String> page = OrientPage.of(Collections.<String>emptyList(), new PageRequest(5, 2), counter);
+
+        assertFalse(page.hasNext());
+        assertEquals(page.getTotalElements(), 3);
+        assertEquals(counter.counts, 1);
+    }
+
+    @Test
+    public void infersTheTotalOfAnUnpagedRead() {
+        CountingCounter counter = new CountingCounter(99);
+
+        OrientPage<String> page = OrientPage.of(Arrays.asList("a", "b", "c"), null, counter);
+
+        assertEquals(page.getTotalElements(), 3);
+        assertEquals(page.getTotalPages(), 1);
+        assertFalse(page.hasNext());
+        assertEquals(counter.counts, 0);
+    }
+
+    @Test
+    public void countsTheMappedPageThroughTheSourcePage() {
+        CountingCounter counter = new CountingCounter(25);
+        OrientPage<String> page = OrientPage.of(Arrays.asList("a", "b", "c"), new PageRequest(0, 2), counter);
+
+        Page<Integer> mapped = page.map(new Converter<String, Integer>() {
+            @Override
+            public Integer convert(String source) {
+                return (int) source.charAt(0);
+            }
+        });
+
+        assertEquals(mapped.getContent(), Arrays.asList(97, 98));
+        assertEquals(mapped.getTotalElements(), 25);
+        assertEquals(page.getTotalElements(), 25);
+        assertEquals(counter.counts, 1);
+    }
+
+    @Test
+    public void cancelsTheConcurrentCountOfTheLastPage() {
+        FutureTask<Long> total = new FutureTask<>(new Callable<Long>() {
+            @Override
+            public Long call() {
+                return 99L;
+            }
+        });
+
+        OrientPage<String> page = OrientPage.of(Arrays.asList("e", "f"), new PageRequest(2, 2), total);
+
+        assertTrue(total.isCancelled());
+        assertEquals(page.getTotalElements(), 6);
+    }
+
+    @Test
+    public void joinsTheConcurrentCountOfAFullPage() {
+        FutureTask<Long> total = new FutureTask<>(new Callable<Long>() {
+            @Override
+            public Long call() {
+                return 25L;
+            }
+        });
+        total.run();
+
+        OrientPage<String> page = OrientPage.of(Arrays.asList("a", "b", "c"), new PageRequest(0, 2), total);
+
+        assertTrue(page.isTotalKnown());
+        assertEquals(page.getTotalElements(), 25);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rethrowsTheFailureOfTheConcurrentCount() {
+        FutureTask<Long> total = new FutureTask<>(new Callable<Long>() {
+            @Override
+            public Long call() {
+                throw new IllegalStateException("count failed");
+            }
+        });
+        total.run();
+
+        OrientPage.of(Arrays.asList("a", "b", "c"), new PageRequest(0, 2), total);
+    }
+
+    private static class CountingCounter implements OrientPage.Counter {
+
+        private final long total;
+
+        private int counts;
+
+        CountingCounter(long total) {
+            this.total = total;
+        }
+
+        @Override
+        public long count() {
+            counts++;
+            return total;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.springframework.data.orient.commons.repository;
+
+import com.orientechnologies.orient.core.command.OCommandContext.TIMEOUT_STRATEGY;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class OrientQueryHintsTest {
+
+    @Test
+    public void rendersTheClausesInTheOrderOrientDBExpects() {
+        OrientQueryHints hints = OrientQueryHints.NONE.withNoCache(true).withParallel(true).withLockRecord(true).withTimeout(1000, TIMEOUT_STRATEGY.RETURN);
+
+        assertEquals(hints.render("select from Person"), "select from Person timeout 1000 return lock record parallel nocache");
+    }
+
+    @Test
+    public void overridesTheDeclaredHints() {
+        OrientQueryHints declared = OrientQueryHints.NONE.withTimeout(1000).withLimit(10);
+        OrientQueryHints hints = declared.override(OrientQueryHints.NONE.withLimit(5));
+
+        assertEquals(hints.getLimit(), 5);
+        assertEquals(hints.render("select from Person"), "select from Person timeout 1000 exception");
+        assertSame(declared.override(null), declared);
+    }
+
+    @Test
+    public void dropsTheLimitAndTheLockOfTheCountQuery() {
+        OrientQueryHints hints = OrientQueryHints.NONE.withTimeout(1000).withLimit(10).withLockRecord(true).withNoCache(true).forCount();
+
+        assertEquals(hints.getLimit(), -1);
+        assertEquals(hints.render("select count(*) from Person"), "select count(*) from Person timeout 1000 exception nocache");
+    }
+}
@@ -0,0 +1,112 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class OrientProjectionTest {
+
+    @Test
+    public void recognizesTheProjections() {
+        assertTrue(OrientProjection.isProjection(PersonName.class, Person.class));
+        assertTrue(OrientProjection.isProjection(PersonDto.class, Person.class));
+        assertFalse(OrientProjection.isProjection(Person.class, Person.class));
+        assertFalse(OrientProjection.isProjection(String.class, Person.class));
+        assertFalse(OrientProjection.isProjection(ODocument.class, Person.class));
+        assertFalse(OrientProjection.isProjection(Map.class, Person.class));
+    }
+
+    @Test
+    public void selectsTheGettersOfAnInterface() {
+        PersonName name = (PersonName) OrientProjection.of(PersonName.class).project(row());
+
+        assertEquals(OrientProjection.of(PersonName.class).getFields(), new String[] { "firstName", "lastName" });
+        assertEquals(name.getFirstName(), "Ada");
+        assertEquals(name.getLastName(), "Lovelace");
+    }
+
+    @Test
+    public void selectsTheWholeRecordOfAnOpenInterface() {
+        FullName name = (FullName) OrientProjection.of(FullName.class).project(row());
+
+        assertNull(OrientProjection.of(FullName.class).getFields());
+        assertEquals(name.getFullName(), "Ada Lovelace");
+    }
+
+    @Test
+    public void selectsTheConstructorParametersOfADto() {
+        PersonDto dto = (PersonDto) OrientProjection.of(PersonDto.class).project(row());
+
+        assertEquals(OrientProjection.of(PersonDto.class).getFields(), new String[] { "lastName", "age" });
+        assertEquals(dto.lastName, "Lovelace");
+        assertEquals(dto.age, 36);
+    }
+
+    @Test
+    public void selectsTheSettersOfABean() {
+        PersonBean bean = (PersonBean) OrientProjection.of(PersonBean.class).project(row());
+
+        assertEquals(OrientProjection.of(PersonBean.class).getFields(), new String[] { "firstName" });
+        assertEquals(bean.getFirstName(), "Ada");
+    }
+
+    @Test
+    public void cachesTheProjectionOfAType() {
+        assertSame(OrientProjection.of(PersonName.class), OrientProjection.of(PersonName.class));
+    }
+
+    private static ODocument row() {
+        return new ODocument().field("firstName", "Ada").field("lastName", "Lovelace").field("age", 36L);
+    }
+
+    static class Person {
+
+        private String firstName;
+
+        public String getFirstName() {
+            return firstName;
+        }
+    }
+
+    public interface PersonName {
+
+        String getFirstName();
+
+        String getLastName();
+    }
+
+    public interface FullName {
+
+        @Value("#{target.firstName + ' ' + target.lastName}")
+        String getFullName();
+    }
+
+    public static class PersonDto {
+
+        private final String lastName;
+
+        private final int age;
+
+        public PersonDto(String lastName, int age) {
+            this.lastName = lastName;
+            this.age = age;
+        }
+    }
+
+    public static class PersonBean {
+
+        private String firstName;
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.springframework.data.orient.commons.repository.query.OrientQueryCreatorTest.method;
+import static org.testng.Assert.assertEquals;
+
+public class OrientQueryCacheTest {
+
+    @Test
+    public void cachesTheDerivedStatementOnceForAllThePages() {
+        PartTreeOrientQuery query = new PartTreeOrientQuery(method("findByActiveIsFalse"), null);
+
+        assertEquals(render(query, new PageRequest(0, 10)), "select from Person where active = false limit 10");
+        assertEquals(render(query, new PageRequest(1, 10)), "select from Person where active = false skip 10 limit 10");
+        assertEquals(render(query, new PageRequest(2, 10)), "select from Person where active = false skip 20 limit 10");
+
+        assertEquals(cached(query).size(), 1);
+    }
+
+    @Test
+    public void cachesTheDerivedStatementPerSort() {
+        PartTreeOrientQuery query = new PartTreeOrientQuery(method("findByActiveIsFalse"), null);
+
+        assertEquals(render(query, new PageRequest(0, 10, Direction.ASC, "lastName")), "select from Person where active = false order by lastName asc limit 10");
+        assertEquals(render(query, new PageRequest(1, 10, Direction.DESC, "lastName")), "select from Person where active = false order by lastName desc skip 10 limit 10");
+        assertEquals(render(query, new PageRequest(2, 10, Direction.ASC, "lastName")), "select from Person where active = false order by lastName asc skip 20 limit 10");
+
+        assertEquals(cached(query).size(), 2);
+    }
+
+    @Test
+    public void cachesTheDeclaredQueryOnceForAllThePages() {
+        StringBasedOrientQuery query = new StringBasedOrientQuery("select from Person where active = false", method("findInactive"), null);
+
+        assertEquals(render(query, new PageRequest(0, 10)), "select from Person where active = false limit 10");
+        assertEquals(render(query, new PageRequest(3, 10)), "select from Person where active = false skip 30 limit 10");
+        assertEquals(render(query, new PageRequest(1, 10, new Sort("lastName"))), "select from Person where active = false order by lastName asc skip 10 limit 10");
+
+        assertEquals(cached(query).size(), 2);
+    }
+
+    @Test
+    public void limitsTheDeclaredQueryToTheHintLimit() {
+        StringBasedOrientQuery query = new StringBasedOrientQuery("select from Person where active = false", method("findInactiveLimited"), null);
+
+        OSQLQuery<?> paged = query.doCreateQuery(new Object[] { new PageRequest(1, 10) });
+        OSQLQuery<?> unpaged = query.doCreateQuery(new Object[] { null });
+
+        assertEquals(paged.getText(), "select from Person where active = false skip 10 limit 2");
+        assertEquals(paged.getLimit(), -1);
+        assertEquals(unpaged.getText(), "select from Person where active = false");
+        assertEquals(unpaged.getLimit(), 2);
+    }
+
+    private static String render(AbstractOrientQuery query, PageRequest pageable) {
+        OSQLQuery<?> sql = query.doCreateQuery(new Object[] { pageable });
+
+        return sql.getText();
+    }
+
+    private static Map<?, ?> cached(AbstractOrientQuery query) {
+        return (Map<?, ?>) ReflectionTestUtils.getField(query, "queries");
+    }
+}
@@ -0,0 +1,224 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.orient.commons.repository.annotation.Modifying;
+import org.springframework.data.orient.commons.repository.annotation.Query;
+import org.springframework.data.orient.commons.repository.annotation.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ReflectionUtils;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class OrientQueryCreatorTest {
+
+    @Test
+    public void rendersTheDerivedConditions() {
+        assertEquals(render("findByLastNameAndAgeGreaterThan", "Smith", 30), "select from Person where lastName = ? and age > ?");
+        assertEquals(render("findByFirstNameOrLastNameAndAge", "John", "Smith", 30), "select from Person where firstName = ? or lastName = ? and age = ?");
+        assertEquals(render("findByAgeBetween", 20, 30), "select from Person where age between ? and ?");
+    }
+
+    @Test
+    public void bindsTheInArgumentToASinglePlaceholder() {
+        assertEquals(render("findByAgeIn", (Object) null), "select from Person where age in ?");
+        assertEquals(render("findByAgeNotIn", (Object) null), "select from Person where age not in ?");
+    }
+
+    @Test
+    public void rendersTheBooleanKeywordsWithoutArgument() {
+        assertEquals(render("findByActiveIsTrue"), "select from Person where active = true");
+        assertEquals(render("findByActiveIsFalseAndLastNameIsNull"), "select from Person where active = false and lastName is null");
+    }
+
+    @Test
+    public void lowerCasesTheFieldsComparedIgnoringCase() {
+        assertEquals(render("findByLastNameIgnoreCase", "smith"), "select from Person where lastName.toLowerCase() = ?");
+        assertEquals(render("findByLastNameContainingIgnoreCase", "mit"), "select from Person where lastName.toLowerCase() like ?");
+        assertEquals(render("findByFirstNameAndLastNameAllIgnoreCase", "john", "smith"), "select from Person where firstName.toLowerCase() = ? and lastName.toLowerCase() = ?");
+    }
+
+    @Test
+    public void ignoresTheCaseOfTheStringsOnly() {
+        assertEquals(render("findByLastNameAndAgeAllIgnoreCase", "smith", 30), "select from Person where lastName.toLowerCase() = ? and age = ?");
+        assertEquals(render("findByTagsContainingAllIgnoreCase", "java"), "select from Person where tags contains ?");
+    }
+
+    @Test
+    public void searchesTheTextOrTheCollections() {
+        assertEquals(render("findByLastNameContaining", "mit"), "select from Person where lastName containstext ?");
+        assertEquals(render("findByTagsContaining", "java"), "select from Person where tags contains ?");
+    }
+
+    @Test
+    public void rendersTheOrderOfTheMethodName() {
+        assertEquals(render("findByActiveIsTrueOrderByLastNameDescFirstNameAsc"), "select from Person where active = true order by lastName desc, firstName asc");
+    }
+
+    @Test
+    public void selectsTheFirstRidOfAnExistsQuery() {
+        OrientQueryMethod method = method("existsByLastName");
+        OrientParameterAccessor accessor = new OrientParametersParameterAccessor(method.getParameters(), new Object[] { "Smith" });
+
+        String sql = new OrientExistsQueryCreator(new PartTree("findByLastName", Person.class), method, accessor).createQuery();
+
+        assertEquals(sql, "select @rid from Person where lastName = ? limit 1");
+    }
+
+    @Test
+    public void limitsTheQueryToTheTopResults() {
+        assertEquals(render("findFirst3ByActiveIsTrueOrderByLastNameAsc"), "select from Person where active = true order by lastName asc limit 3");
+        assertEquals(render("findTopByActiveIsTrue"), "select from Person where active = true limit 1");
+    }
+
+    @Test
+    public void capsThePageToTheTopResults() {
+        assertEquals(render("findTop3ByActiveIsTrue", new PageRequest(1, 10)), "select from Person where active = true skip 10 limit 3");
+        assertEquals(render("findTop3ByActiveIsTrue", new PageRequest(1, 2)), "select from Person where active = true skip 2 limit 2");
+    }
+
+    @Test
+    public void capsTheLimitToTheHintLimit() {
+        assertEquals(render("findTop3ByActiveIsFalse", (Object) null), "select from Person where active = false limit 2");
+        assertEquals(render("findTop3ByActiveIsFalse", new PageRequest(1, 10)), "select from Person where active = false skip 10 limit 2");
+        assertEquals(render("findTop3ByActiveIsFalse", new PageRequest(1, 1)), "select from Person where active = false skip 1 limit 1");
+        assertEquals(render("findByLastNameOrderByAgeAsc", "Smith"), "select from Person where lastName = ? order by age asc");
+    }
+
+    @Test
+    public void selectsTheFieldsOfTheProjection() {
+        assertEquals(render("findNamesByActiveIsTrue"), "select firstName, lastName from Person where active = true");
+        assertEquals(render("findByLastName", "Smith", OrientProjectionTest.PersonDto.class), "select lastName, age from Person where lastName = ?");
+        assertEquals(render("findByLastName", "Smith", Person.class), "select from Person where lastName = ?");
+    }
+
+    static String render(String name, Object... args) {
+        return create(name, args).createQuery();
+    }
+
+    static OrientQueryCreator create(String name, Object... args) {
+        OrientQueryMethod method = method(name);
+        OrientParameterAccessor accessor = new OrientParametersParameterAccessor(method.getParameters(), args);
+
+        return new OrientQueryCreator(new PartTree(method.getName(), Person.class), method, accessor);
+    }
+
+    static OrientQueryMethod method(String name) {
+        for (Method method : ReflectionUtils.getAllDeclaredMethods(PersonRepository.class)) {
+            if (method.getName().equals(name)) {
+                return new OrientQueryMethod(method, new DefaultRepositoryMetadata(PersonRepository.class));
+            }
+        }
+
+        throw new IllegalArgumentException(name);
+    }
+
+    static class Person {
+
+        private String firstName;
+
+        private String lastName;
+
+        private int age;
+
+        private boolean active;
+
+        private List<String> tags;
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+    }
+
+    interface PersonRepository extends Repository<Person, String> {
+
+        List<Person> findByLastNameAndAgeGreaterThan(String lastName, int age);
+
+        List<Person> findByFirstNameOrLastNameAndAge(String firstName, String lastName, int age);
+
+        List<Person> findByAgeBetween(int from, int to);
+
+        List<Person> findByAgeIn(Collection<Integer> ages);
+
+        List<Person> findByAgeNotIn(Collection<Integer> ages);
+
+        List<Person> findByActiveIsTrue();
+
+        List<Person> findByActiveIsFalseAndLastNameIsNull();
+
+        List<Person> findByLastNameIgnoreCase(String lastName);
+
+        List<Person> findByLastNameContainingIgnoreCase(String lastName);
+
+        List<Person> findByFirstNameAndLastNameAllIgnoreCase(String firstName, String lastName);
+
+        List<Person> findByLastNameAndAgeAllIgnoreCase(String lastName, int age);
+
+        List<Person> findByTagsContainingAllIgnoreCase(String tag);
+
+        List<Person> findByLastNameContaining(String lastName);
+
+        List<Person> findByTagsContaining(String tag);
+
+        List<Person> findByActiveIsTrueOrderByLastNameDescFirstNameAsc();
+
+        boolean existsByLastName(String lastName);
+
+        List<Person> findFirst3ByActiveIsTrueOrderByLastNameAsc();
+
+        Person findTopByActiveIsTrue();
+
+        List<Person> findTop3ByActiveIsTrue(Pageable pageable);
+
+        List<Person> findByActiveIsFalse(Pageable pageable);
+
+        @QueryHints(limit = 2)
+        List<Person> findTop3ByActiveIsFalse(Pageable pageable);
+
+        @QueryHints(limit = 2)
+        List<Person> findByLastNameOrderByAgeAsc(String lastName);
+
+        @Query("select from Person where active = false")
+        List<Person> findInactive(Pageable pageable);
+
+        @QueryHints(limit = 2)
+        @Query("select from Person where active = false")
+        List<Person> findInactiveLimited(Pageable pageable);
+
+        List<Person> deleteByLastName(String lastName);
+
+        @Query("update Person set active = false")
+        int deactivateAll();
+
+        @Modifying
+        @Query("update Person set active = false")
+        int deactivateAllModifying();
+
+        List<OrientProjectionTest.PersonName> findNamesByActiveIsTrue();
+
+        <P> List<P> findByLastName(String lastName, Class<P> type);
+    }
+}
@@ -0,0 +1,19 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.testng.annotations.Test;
+
+import static org.springframework.data.orient.commons.repository.query.OrientQueryCreatorTest.method;
+import static org.testng.Assert.assertTrue;
+
+public class OrientQueryMethodTest {
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectsAStatementChangingRecordsWithoutModifying() {
+        method("deactivateAll");
+    }
+
+    @Test
+    public void acceptsAStatementChangingRecordsWithModifying() {
+        assertTrue(method("deactivateAllModifying").isModifyingQuery());
+    }
+}
@@ -0,0 +1,116 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OrientQueryRewriterTest {
+
+    @Test
+    public void appendsTheOrder() {
+        assertEquals(rewrite("select from Person where lastName = ?", new Sort("lastName")), "select from Person where lastName = ? order by lastName asc");
+    }
+
+    @Test
+    public void extendsTheDeclaredOrder() {
+        assertEquals(rewrite("select from Person order by lastName desc", new Sort("firstName")), "select from Person order by lastName desc, firstName asc");
+        assertEquals(rewrite("SELECT FROM Person ORDER BY lastName DESC", new Sort("firstName")), "SELECT FROM Person ORDER BY lastName DESC, firstName asc");
+    }
+
+    @Test
+    public void insertsTheOrderBeforeTheUnwindAndThePaging() {
+        assertEquals(rewrite("select name, tags from Person unwind tags", new Sort("name")), "select name, tags from Person order by name asc unwind tags");
+        assertEquals(rewrite("select from Person limit 5", new Sort(Direction.DESC, "name")), "select from Person order by name desc limit 5");
+    }
+
+    @Test
+    public void insertsThePagingBeforeTheHints() {
+        String query = new OrientQueryRewriter("select from Person where a = ? fetchplan *:-1 timeout 1000").rewrite(new Sort("a"), new PageRequest(1, 10), true);
+
+        assertEquals(query, "select from Person where a = ? order by a asc skip 10 limit 11 fetchplan *:-1 timeout 1000");
+    }
+
+    @Test
+    public void ignoresTheKeywordsOfTheLiteralsAndTheSubQueries() {
+        String query = "select from Person where name = 'x order by y' and @rid in (select from Other order by z limit 1)";
+
+        assertEquals(rewrite(query, new Sort("name")), query + " order by name asc");
+        assertEquals(new OrientQueryRewriter(query).getCountQuery(), "select count(*) from Person where name = 'x order by y' and @rid in (select from Other order by z limit 1)");
+    }
+
+    @Test
+    public void ignoresTheKeywordsWithinIdentifiers() {
+        String query = "select from Person where limited = true and skipped = false";
+
+        assertEquals(new OrientQueryRewriter(query).rewrite(null, new PageRequest(0, 10), false), query + " limit 10");
+    }
+
+    @Test
+    public void keepsTheQueryWithoutSortNorPage() {
+        String query = "select from Person";
+
+        assertSame(new OrientQueryRewriter(query).rewrite(null, null, false), query);
+    }
+
+    @Test
+    public void capsTheDeclaredLimit() {
+        OrientQueryRewriter rewriter = new OrientQueryRewriter("select from Person limit 10 timeout 1000");
+
+        assertEquals(rewriter.sorted(new Sort("a")).page(null, false, 3), "select from Person order by a asc limit 3 timeout 1000");
+        assertEquals(rewriter.sorted(null).page(null, false, 20), "select from Person limit 10 timeout 1000");
+        assertEquals(new OrientQueryRewriter("select from Person LIMIT -1").sorted(null).page(null, false, 3), "select from Person LIMIT 3");
+        assertTrue(rewriter.sorted(null).isLimited(null));
+    }
+
+    @Test
+    public void capsTheLimitOfThePage() {
+        OrientQueryRewriter rewriter = new OrientQueryRewriter("select from Person");
+
+        assertEquals(rewriter.sorted(null).page(new PageRequest(1, 10), true, 5), "select from Person skip 10 limit 5");
+        assertEquals(rewriter.sorted(null).page(new PageRequest(1, 10), true, 20), "select from Person skip 10 limit 11");
+        assertEquals(rewriter.sorted(null).page(null, false, 5), "select from Person");
+        assertFalse(rewriter.sorted(null).isLimited(null));
+        assertTrue(rewriter.sorted(null).isLimited(new PageRequest(0, 10)));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectsThePagingOfAPagedQuery() {
+        new OrientQueryRewriter("select from Person limit 5").rewrite(null, new PageRequest(0, 10), false);
+    }
+
+    @Test(expectedExceptions = InvalidDataAccessApiUsageException.class)
+    public void rejectsAnInvalidSortProperty() {
+        rewrite("select from Person", new Sort("lastName; delete from Person"));
+    }
+
+    @Test
+    public void countsThePlainProjectionsWithoutTheOrderPagingAndHints() {
+        assertEquals(count("select from Person where a = ? order by a skip 10 limit 5 fetchplan *:-1"), "select count(*) from Person where a = ?");
+        assertEquals(count("select * from Person"), "select count(*) from Person");
+        assertEquals(count("select firstName, lastName as last from Person"), "select count(*) from Person");
+        assertEquals(count("SELECT FROM Person WHERE a = ? ORDER BY a"), "select count(*) FROM Person WHERE a = ?");
+    }
+
+    @Test
+    public void countsTheRowsOfTheQueriesChangingTheirNumber() {
+        assertEquals(count("select distinct(lastName) from Person"), "select count(*) from (select distinct(lastName) from Person)");
+        assertEquals(count("select lastName, count(*) from Person group by lastName order by lastName"), "select count(*) from (select lastName, count(*) from Person group by lastName)");
+        assertEquals(count("select name, tags from Person unwind tags limit 10"), "select count(*) from (select name, tags from Person unwind tags)");
+        assertEquals(count("select from Person let $a = 1 where a = $a"), "select count(*) from (select from Person let $a = 1 where a = $a)");
+    }
+
+    private static String rewrite(String query, Sort sort) {
+        return new OrientQueryRewriter(query).rewrite(sort, null, false);
+    }
+
+    private static String count(String query) {
+        return new OrientQueryRewriter(query).getCountQuery();
+    }
+}
@@ -0,0 +1,116 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.orient.commons.repository.query.OrientCriteria.Operator;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class OrientSqlBuilderTest {
+
+    @DataProvider
+    public Object[][] operators() {
+        return new Object[][] {
+                { Operator.EQ, "name = ?" },
+                { Operator.NE, "name <> ?" },
+                { Operator.GT, "name > ?" },
+                { Operator.GE, "name >= ?" },
+                { Operator.LT, "name < ?" },
+                { Operator.LE, "name <= ?" },
+                { Operator.BETWEEN, "name between ? and ?" },
+                { Operator.IS_NULL, "name is null" },
+                { Operator.IS_NOT_NULL, "name is not null" },
+                { Operator.IS_DEFINED, "name is defined" },
+                { Operator.IS_TRUE, "name = true" },
+                { Operator.IS_FALSE, "name = false" },
+                { Operator.IN, "name in ?" },
+                { Operator.NOT_IN, "name not in ?" },
+                { Operator.LIKE, "name like ?" },
+                { Operator.NOT_LIKE, "not (name like ?)" },
+                { Operator.CONTAINS, "name contains ?" },
+                { Operator.NOT_CONTAINS, "not (name contains ?)" },
+                { Operator.CONTAINS_TEXT, "name containstext ?" },
+                { Operator.NOT_CONTAINS_TEXT, "not (name containstext ?)" },
+                { Operator.MATCHES, "name matches ?" }
+        };
+    }
+
+    @Test(dataProvider = "operators")
+    public void rendersTheOperator(Operator operator, String condition) {
+        assertEquals(OrientCriteria.where("name", operator).toString(), condition);
+    }
+
+    @Test
+    public void rendersEveryOperator() {
+        assertEquals(operators().length, Operator.values().length);
+    }
+
+    @Test
+    public void rendersTheCaseInsensitiveField() {
+        assertEquals(OrientCriteria.where(OrientCriteria.lower("name"), Operator.EQ).toString(), "name.toLowerCase() = ?");
+    }
+
+    @Test
+    public void parenthesizesTheDisjunctions() {
+        OrientCriteria criteria = OrientCriteria.where("a", Operator.EQ).or(OrientCriteria.where("b", Operator.EQ)).and("c", Operator.IS_TRUE);
+
+        assertEquals(criteria.toString(), "(a = ? or b = ?) and c = true");
+        assertEquals(OrientSqlBuilder.select().from("Person").where(OrientCriteria.where("a", Operator.EQ).or(OrientCriteria.where("b", Operator.EQ)))
+                .where(OrientCriteria.where("c", Operator.IN)).build(), "select from Person where (a = ? or b = ?) and c in ?");
+    }
+
+    @Test
+    public void rendersTheInstanceOfLiteral() {
+        assertEquals(OrientCriteria.instanceOf("O'Brien\\").toString(), "@this instanceof 'O\\'Brien\\\\'");
+    }
+
+    @Test
+    public void rendersTheKeysetSeek() {
+        Sort sort = new Sort(Direction.DESC, "lastName").and(new Sort(OrientCriteria.RID));
+
+        assertEquals(OrientCriteria.seek(sort).toString(), "lastName < ? or lastName = ? and @rid > ?");
+    }
+
+    @Test
+    public void rendersTheStatements() {
+        assertEquals(OrientSqlBuilder.select("firstName", "lastName").from("Person").skip(20).limit(10).build(), "select firstName, lastName from Person skip 20 limit 10");
+        assertEquals(OrientSqlBuilder.selectCount().fromCluster("person_archive").skip(0).limit(-1).build(), "select count(*) from cluster:person_archive");
+        assertEquals(OrientSqlBuilder.delete().from("Person").where(OrientCriteria.where("active", Operator.IS_FALSE)).build(), "delete from Person where active = false");
+    }
+
+    @Test
+    public void rendersTheOrder() {
+        String sql = OrientSqlBuilder.select().from("Person").orderBy(new Sort(Direction.DESC, "lastName").and(new Sort("address.city"))).build();
+
+        assertEquals(sql, "select from Person order by lastName desc, address.city asc");
+    }
+
+    @Test
+    public void acceptsRecordAttributesAsSortProperties() {
+        assertEquals(OrientSqlBuilder.checkSortProperty("@rid"), "@rid");
+        assertEquals(OrientSqlBuilder.checkSortProperty("out_knows.$size"), "out_knows.$size");
+    }
+
+    @Test(expectedExceptions = InvalidDataAccessApiUsageException.class)
+    public void rejectsAnExpressionAsSortProperty() {
+        OrientSqlBuilder.select().from("Person").orderBy(new Sort("name; delete from Person"));
+    }
+
+    @Test(expectedExceptions = InvalidDataAccessApiUsageException.class)
+    public void rejectsASortPropertyEndingWithADot() {
+        OrientSqlBuilder.checkSortProperty("address.");
+    }
+
+    @Test(expectedExceptions = InvalidDataAccessApiUsageException.class)
+    public void rejectsAnInvalidSortPropertyInTheQueries() {
+        QueryUtils.applySorting("select from Person", new Sort("name desc, @class"));
+    }
+
+    @Test(expectedExceptions = InvalidDataAccessApiUsageException.class)
+    public void rejectsAnInvalidSortPropertyInTheKeysetCriteria() {
+        OrientCriteria.seek(new Sort("(select 1)"));
+    }
+}
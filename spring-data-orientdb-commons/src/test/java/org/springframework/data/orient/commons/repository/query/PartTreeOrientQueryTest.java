@@ -0,0 +1,31 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import org.testng.annotations.Test;
+
+import static org.springframework.data.orient.commons.repository.query.OrientQueryCreatorTest.method;
+import static org.testng.Assert.assertEquals;
+
+public class PartTreeOrientQueryTest {
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectsDeleteMethodsReturningTheEntities() {
+        new PartTreeOrientQuery(method("deleteByLastName"), null);
+    }
+
+    @Test
+    public void limitsTheRequestOfAQueryWithoutLimit() {
+        OSQLQuery<?> query = new PartTreeOrientQuery(method("findByLastNameOrderByAgeAsc"), null).doCreateQuery(new Object[] { "Smith" });
+
+        assertEquals(query.getText(), "select from Person where lastName = ? order by age asc");
+        assertEquals(query.getLimit(), 2);
+    }
+
+    @Test
+    public void limitsTheQueryTextOfALimitedQuery() {
+        OSQLQuery<?> query = new PartTreeOrientQuery(method("findTop3ByActiveIsFalse"), null).doCreateQuery(new Object[] { null });
+
+        assertEquals(query.getText(), "select from Person where active = false limit 2");
+        assertEquals(query.getLimit(), -1);
+    }
+}
@@ -0,0 +1,65 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import com.orientechnologies.orient.core.query.OQueryHelper;
+import org.springframework.data.repository.query.parser.Part;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PartTreeParameterBinderTest {
+
+    private final Part startingWith = new Part("nameStartingWith", Person.class);
+
+    private final Part endingWith = new Part("nameEndingWith", Person.class);
+
+    private final Part containing = new Part("nameContaining", Person.class);
+
+    @Test
+    public void decoratesTheLikeArguments() {
+        assertEquals(PartTreeParameterBinder.toLikeValue(startingWith, "Dz"), "Dz%");
+        assertEquals(PartTreeParameterBinder.toLikeValue(endingWith, "ry"), "%ry");
+        assertEquals(PartTreeParameterBinder.toLikeValue(containing, "mit"), "%mit%");
+    }
+
+    @Test
+    public void matchesTheWildcardsOfTheArgumentsLiterally() {
+        assertTrue(like("50%off", startingWith, "50%"));
+        assertFalse(like("50 off", startingWith, "50%"));
+        assertTrue(like("a_b", containing, "_"));
+        assertFalse(like("ab", containing, "_"));
+        assertTrue(like("what?", endingWith, "?"));
+        assertFalse(like("what!", endingWith, "?"));
+        assertTrue(like("x%y", containing, "%"));
+    }
+
+    @Test
+    public void matchesALeadingWildcardOfAStartingWithArgument() {
+        // documented: OrientDB has no escape syntax for like
+        assertTrue(like("abc", startingWith, "%c"));
+    }
+
+    @Test
+    public void bindsCollectionsToASinglePlaceholder() {
+        assertEquals(PartTreeParameterBinder.toCollection(new String[] { "a", "b" }), Arrays.asList("a", "b"));
+        assertEquals(PartTreeParameterBinder.toCollection("a"), Collections.singletonList("a"));
+        assertEquals(PartTreeParameterBinder.toCollection(null), Collections.singletonList(null));
+    }
+
+    private static boolean like(String value, Part part, String argument) {
+        return OQueryHelper.like(value, PartTreeParameterBinder.toLikeValue(part, argument));
+    }
+
+    static class Person {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+}
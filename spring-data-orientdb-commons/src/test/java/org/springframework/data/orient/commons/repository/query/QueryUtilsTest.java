@@ -0,0 +1,62 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.orient.commons.repository.KeysetPageRequest;
+import org.springframework.data.orient.commons.repository.OrientCursor;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class QueryUtilsTest {
+
+    @Test
+    public void appendsTheSeekParametersToTheCriteriaOnes() {
+        ORecordId rid = new ORecordId(12, 3);
+        KeysetPageRequest request = new KeysetPageRequest(10, new Sort("lastName"), new OrientCursor(rid, "a"));
+
+        assertEquals(QueryUtils.toKeysetParameters(new Object[] { true }, request), new Object[] { true, "a", "a", rid });
+        assertEquals(QueryUtils.toKeysetParameters(new Object[0], request), new Object[] { "a", "a", rid });
+    }
+
+    @Test
+    public void keepsTheParametersOfTheFirstPage() {
+        Object[] params = { true };
+
+        assertSame(QueryUtils.toKeysetParameters(params, new KeysetPageRequest(10)), params);
+    }
+
+    @Test
+    public void seeksAfterTheCursorOrderedByRid() {
+        KeysetPageRequest request = new KeysetPageRequest(10, new Sort(Direction.DESC, "lastName"), new OrientCursor(new ORecordId(12, 3), "a"));
+        Sort sort = QueryUtils.toKeysetSort(null, request);
+
+        String sql = QueryUtils.applyKeyset(OrientSqlBuilder.select().from("Person"), sort, request).build();
+
+        assertEquals(sql, "select from Person where lastName < ? or lastName = ? and @rid > ? order by lastName desc, @rid asc limit 11");
+    }
+
+    @Test
+    public void readsTheFirstPageWithoutSeek() {
+        String sql = QueryUtils.applyKeyset(OrientSqlBuilder.select().from("Person"), null, new KeysetPageRequest(10)).build();
+
+        assertEquals(sql, "select from Person order by @rid asc limit 11");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsACursorNotMatchingTheSort() {
+        KeysetPageRequest request = new KeysetPageRequest(10, new Sort("lastName"), new OrientCursor(new ORecordId(12, 3)));
+
+        QueryUtils.applyKeyset(OrientSqlBuilder.select().from("Person"), request.getSort(), request);
+    }
+
+    @Test
+    public void readsOneRecordMoreThanThePageToLookAhead() {
+        assertEquals(QueryUtils.applyPaging("select from Person", new PageRequest(2, 10), true), "select from Person skip 20 limit 11");
+        assertEquals(QueryUtils.applyPaging("select from Person", new PageRequest(0, 10), false), "select from Person limit 10");
+        assertEquals(QueryUtils.applyPaging("select from Person", null, true), "select from Person");
+    }
+}
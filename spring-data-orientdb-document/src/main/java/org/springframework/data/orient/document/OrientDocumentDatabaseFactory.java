@@ -16,21 +16,33 @@ public class OrientDocumentDatabaseFactory extends AbstractOrientDatabaseFactory
 
     private OPartitionedDatabasePool pool;
 
-    /** The database. */
-    private ODatabaseDocumentTx db;
-
     @Override
     protected void createPool() {
         pool = new OPartitionedDatabasePool(getUrl(), getUsername(), getPassword(), maxPoolSize);
     }
 
+    /* (non-Javadoc)
+     * @see org.springframework.orm.orient.AbstractOrientDatabaseFactory#acquireDatabase()
+     */
+    @Override
+    protected ODatabaseDocumentTx acquireDatabase() {
+        return pool.acquire();
+    }
+
     /* (non-Javadoc)
      * @see org.springframework.orm.orient.AbstractOrientDatabaseFactory#openDatabase()
      */
     @Override
     public ODatabaseDocumentTx openDatabase() {
-        db = pool.acquire();
-        return db;
+        return (ODatabaseDocumentTx) super.openDatabase();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.orm.orient.AbstractOrientDatabaseFactory#getIdleConnections()
+     */
+    @Override
+    protected int getIdleConnections() {
+        return super.getIdleConnections() + pool.getAvailableConnections();
     }
 
     /* (non-Javadoc)
@@ -0,0 +1,117 @@
+package org.springframework.data.orient.document;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.orient.commons.core.OrientBulkLoader;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class OrientBulkLoaderTest {
+
+    private OrientDocumentDatabaseFactory dbf;
+
+    private OrientDocumentTemplate operations;
+
+    @BeforeClass
+    public void before() {
+        dbf = new OrientDocumentDatabaseFactory();
+        dbf.setUrl("memory:bulk-loader-test");
+        dbf.init();
+
+        operations = new OrientDocumentTemplate(dbf);
+        operations.command("create class Person");
+        operations.command("create property Person.name string");
+        operations.command("create index Person.name unique");
+    }
+
+    @AfterClass
+    public void after() {
+        dbf.db().drop();
+        dbf.destroy();
+    }
+
+    @Test(timeOut = 10000)
+    public void loadsAllEntities() {
+        OrientBulkLoader<ORecord> loader = new OrientBulkLoader<>(dbf, operations, "Person", 2, 8);
+
+        for (int i = 0; i < 100; i++) {
+            loader.add(person("person" + i));
+        }
+
+        assertEquals(loader.finish(), 100);
+        assertEquals(loader.getSaved(), 100);
+        assertEquals(loader.getClusters().size(), 2);
+    }
+
+    @Test(timeOut = 10000)
+    public void rethrowsTheFailureOfAWorker() {
+        OrientBulkLoader<ORecord> loader = new OrientBulkLoader<>(dbf, operations, "Person", 2, 4);
+
+        try {
+            for (int i = 0; i < 1000; i++) {
+                loader.add(person("failing" + (i == 10 ? 0 : i)));
+            }
+
+            loader.finish();
+            fail("The duplicated entity has been saved");
+        } catch (ORecordDuplicatedException e) {
+            assertTrue(loader.getSaved() < 1000);
+        }
+
+        try {
+            loader.add(person("late"));
+            fail("The loader accepts entities after its failure");
+        } catch (IllegalStateException e) {
+            // stopped
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void rethrowsTheFailureToGetAConnection() {
+        final Error error = new AssertionError("no connection");
+
+        OrientDocumentDatabaseFactory failing = new OrientDocumentDatabaseFactory() {
+            @Override
+            protected ODatabaseDocumentTx acquireDatabase() {
+                if (Thread.currentThread().getName().startsWith("orient-loader-")) {
+                    throw error;
+                }
+
+                return super.acquireDatabase();
+            }
+        };
+        failing.setUrl("memory:bulk-loader-test");
+        failing.init();
+
+        OrientBulkLoader<ORecord> loader = new OrientBulkLoader<>(failing, new OrientDocumentTemplate(failing), "Person", 2, 1);
+
+        try {
+            for (int i = 0; i < 10; i++) {
+                loader.add(person("person" + i));
+            }
+
+            loader.finish();
+            fail("The entities have been saved without connection");
+        } catch (DataAccessResourceFailureException e) {
+            assertEquals(e.getCause(), error);
+            assertEquals(loader.getSaved(), 0);
+        } finally {
+            failing.destroy();
+        }
+    }
+
+    private static ODocument person(String name) {
+        ODocument document = new ODocument("Person");
+        document.field("name", name);
+
+        return document;
+    }
+}
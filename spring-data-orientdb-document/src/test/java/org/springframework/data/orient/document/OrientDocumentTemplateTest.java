@@ -0,0 +1,252 @@
+package org.springframework.data.orient.document;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.hook.ODocumentHookAbstract;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.intent.OIntent;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.springframework.data.orient.commons.core.OrientBulkOptions;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.ReflectionUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OrientDocumentTemplateTest {
+
+    private OrientDocumentDatabaseFactory dbf;
+
+    private OrientDocumentTemplate operations;
+
+    @BeforeClass
+    public void before() {
+        dbf = new OrientDocumentDatabaseFactory();
+        dbf.setUrl("memory:template-test");
+        dbf.init();
+
+        operations = new OrientDocumentTemplate(dbf);
+        operations.command("create class Person");
+    }
+
+    @AfterClass
+    public void after() {
+        dbf.db().drop();
+        dbf.destroy();
+    }
+
+    @Test
+    public void removesTheIntentDeclaredForANonTransactionalSave() {
+        long saved = operations.saveAll(people(10), OrientBulkOptions.DEFAULTS.withChunkSize(4).withTransactional(false));
+
+        assertEquals(saved, 10);
+        assertNull(currentIntent(dbf.db()));
+    }
+
+    @Test
+    public void keepsTheIntentDeclaredByTheCaller() {
+        ODatabaseDocumentTx db = dbf.db();
+        OIntentMassiveInsert intent = new OIntentMassiveInsert();
+        db.declareIntent(intent);
+
+        try {
+            operations.saveAll(people(10), OrientBulkOptions.DEFAULTS.withChunkSize(4).withTransactional(false));
+
+            assertSame(currentIntent(db), intent);
+        } finally {
+            db.declareIntent(null);
+        }
+    }
+
+    @Test
+    public void loadsTheIdsOfUnknownClustersAsMissing() {
+        ODocument person = dbf.db().save(new ODocument("Person").field("name", "loaded"));
+        ORID unknown = new ORecordId(999, 0);
+
+        List<ORecord> loaded = operations.loadAll(Arrays.asList(person.getIdentity(), unknown, person.getIdentity()));
+
+        assertEquals(loaded.size(), 3);
+        assertEquals(loaded.get(0).getIdentity(), person.getIdentity());
+        assertNull(loaded.get(1));
+        assertEquals(loaded.get(2).getIdentity(), person.getIdentity());
+    }
+
+    @Test(timeOut = 10000)
+    public void streamsTheRecordsOfTheQuery() {
+        operations.setStreamBufferSize(2);
+        operations.command("insert into Person (name, streamed) values ('a', true), ('b', true), ('c', true), ('d', true), ('e', true)");
+
+        List<String> names = new ArrayList<>();
+
+        try (CloseableIterator<ODocument> iterator = operations.stream(new OSQLSynchQuery<ODocument>("select from Person where streamed = true order by name"))) {
+            while (iterator.hasNext()) {
+                names.add(iterator.next().<String>field("name"));
+            }
+        }
+
+        assertEquals(names, Arrays.asList("a", "b", "c", "d", "e"));
+    }
+
+    @Test(timeOut = 10000)
+    public void stopsStreamingOnceClosed() {
+        operations.setStreamBufferSize(2);
+        operations.saveAll(people(50), OrientBulkOptions.DEFAULTS.withTransactional(false));
+
+        CloseableIterator<ODocument> iterator = operations.stream(new OSQLSynchQuery<ODocument>("select from Person"));
+        iterator.next();
+        iterator.close();
+
+        assertFalse(iterator.hasNext());
+        assertTrue(operations.count(new OSQLSynchQuery<ODocument>("select count(*) from Person")) >= 50);
+    }
+
+    @Test
+    public void truncatesAClusterWithoutIndex() {
+        operations.command("create class Truncated");
+        operations.command("insert into Truncated (name) values ('a'), ('b'), ('c')");
+        DeleteCounter deletes = registerDeleteCounter(dbf.db());
+        operations.setTruncateClusters(true);
+
+        try {
+            operations.deleteAll("cluster:truncated");
+        } finally {
+            operations.setTruncateClusters(false);
+            dbf.db().unregisterHook(deletes);
+        }
+
+        assertEquals(operations.countClass("Truncated"), 0);
+        // truncating does not call the hooks
+        assertEquals(deletes.count, 0);
+    }
+
+    @Test
+    public void deletesTheRecordsOfAnIndexedClusterInsteadOfTruncatingIt() {
+        operations.command("create class Indexed");
+        operations.command("create property Indexed.name string");
+        operations.command("create index Indexed.name unique");
+        operations.command("insert into Indexed (name) values ('a'), ('b'), ('c')");
+        DeleteCounter deletes = registerDeleteCounter(dbf.db());
+        operations.setTruncateClusters(true);
+
+        try {
+            assertEquals(operations.deleteAll("cluster:indexed"), 3);
+        } finally {
+            operations.setTruncateClusters(false);
+            dbf.db().unregisterHook(deletes);
+        }
+
+        assertEquals(deletes.count, 3);
+        assertEquals(dbf.db().getMetadata().getIndexManager().getIndex("Indexed.name").getSize(), 0);
+    }
+
+    @Test
+    public void deletesTheRecordsOfAClusterInsteadOfTruncatingItWithinATransaction() {
+        operations.command("create class Transacted");
+        operations.command("insert into Transacted (name) values ('a'), ('b'), ('c')");
+        ODatabaseDocumentTx db = dbf.db();
+        DeleteCounter deletes = registerDeleteCounter(db);
+        operations.setTruncateClusters(true);
+        db.begin();
+
+        try {
+            assertEquals(operations.deleteAll("cluster:transacted"), 3);
+            db.commit();
+        } finally {
+            operations.setTruncateClusters(false);
+            db.unregisterHook(deletes);
+        }
+
+        assertEquals(deletes.count, 3);
+        assertEquals(operations.countClass("Transacted"), 0);
+    }
+
+    @Test
+    public void commitsTheDeletionOfEachBatchWithinATransaction() {
+        operations.command("create class Batched");
+        operations.command("insert into Batched (name) values ('a'), ('b'), ('c'), ('d'), ('e')");
+        ODatabaseDocumentTx db = dbf.db();
+        operations.setDeleteBatchSize(2);
+        db.begin();
+
+        try {
+            assertEquals(operations.deleteAll("Batched"), 5);
+            assertTrue(db.getTransaction().isActive());
+        } finally {
+            operations.setDeleteBatchSize(0);
+            db.rollback();
+        }
+
+        // the batches were committed along the way
+        assertEquals(operations.countClass("Batched"), 0);
+    }
+
+    @Test
+    public void rollsBackTheDeletionWithinATransactionWithoutBatches() {
+        operations.command("create class Unbatched");
+        operations.command("insert into Unbatched (name) values ('a'), ('b'), ('c')");
+        ODatabaseDocumentTx db = dbf.db();
+        db.begin();
+
+        try {
+            assertEquals(operations.deleteAll("Unbatched"), 3);
+        } finally {
+            db.rollback();
+        }
+
+        assertEquals(operations.countClass("Unbatched"), 3);
+    }
+
+    private static List<ODocument> people(int count) {
+        List<ODocument> people = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            people.add(new ODocument("Person").field("name", "person" + i));
+        }
+
+        return people;
+    }
+
+    private static DeleteCounter registerDeleteCounter(ODatabaseDocumentTx db) {
+        DeleteCounter deletes = new DeleteCounter();
+        db.registerHook(deletes);
+
+        return deletes;
+    }
+
+    private static OIntent currentIntent(ODatabaseDocumentTx db) {
+        // OrientDB 2.1 does not expose the current intent
+        Field field = ReflectionUtils.findField(ODatabaseDocumentTx.class, "currentIntent");
+        ReflectionUtils.makeAccessible(field);
+
+        return (OIntent) ReflectionUtils.getField(field, db);
+    }
+
+    private static class DeleteCounter extends ODocumentHookAbstract {
+
+        private int count;
+
+        @Override
+        public void onRecordAfterDelete(ODocument document) {
+            count++;
+        }
+
+        @Override
+        public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+            return DISTRIBUTED_EXECUTION_MODE.TARGET_NODE;
+        }
+    }
+}
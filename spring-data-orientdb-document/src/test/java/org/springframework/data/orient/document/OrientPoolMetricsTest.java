@@ -0,0 +1,156 @@
+package org.springframework.data.orient.document;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.ORecord;
+import org.springframework.data.orient.commons.core.OrientPoolMetrics;
+import org.springframework.data.orient.commons.core.OrientSession;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class OrientPoolMetricsTest {
+
+    private OrientDocumentDatabaseFactory dbf;
+
+    /** The failure of the next acquisitions, {@literal null} to acquire the connections. */
+    private volatile Throwable failure;
+
+    @BeforeMethod
+    public void before() {
+        failure = null;
+
+        dbf = new OrientDocumentDatabaseFactory() {
+            @Override
+            protected ODatabaseDocumentTx acquireDatabase() {
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+
+                return super.acquireDatabase();
+            }
+        };
+        dbf.setUrl("memory:pool-metrics-test");
+        dbf.setMaxPoolSize(2);
+    }
+
+    @AfterMethod
+    public void after() {
+        dbf.destroy();
+    }
+
+    @Test
+    public void countsTheConnectionsInUse() {
+        dbf.init();
+        OrientPoolMetrics metrics = dbf.getPoolMetrics();
+
+        ODatabase<ORecord> db = dbf.openDatabase();
+
+        assertEquals(metrics.getAcquired(), 1);
+        assertEquals(metrics.getActive(), 1);
+        assertEquals(metrics.getWaiting(), 0);
+        assertEquals(sum(metrics.getAcquireLatencyHistogram()), 1);
+        assertEquals(metrics.getAcquireLatencyHistogram().length, metrics.getAcquireLatencyBuckets().length);
+        assertTrue(metrics.getMaxAcquireMicros() >= metrics.getMeanAcquireMicros());
+
+        db.close();
+
+        assertEquals(metrics.getActive(), 0);
+    }
+
+    @Test
+    public void countsTheIdleSessions() {
+        dbf.init();
+        OrientPoolMetrics metrics = dbf.getPoolMetrics();
+        // the idle connections include the ones of the pool
+        int idle = metrics.getIdle();
+
+        OrientSession<ORecord> session = dbf.openSession();
+
+        assertEquals(metrics.getActive(), 1);
+        assertEquals(metrics.getIdle(), idle);
+
+        session.close();
+
+        assertEquals(metrics.getActive(), 0);
+        assertEquals(metrics.getIdle(), idle + 1);
+    }
+
+    @Test
+    public void countsTheAcquisitionsFindingThePoolExhausted() {
+        dbf.init();
+        OrientPoolMetrics metrics = dbf.getPoolMetrics();
+        failure = new IllegalStateException("pool exhausted");
+
+        try {
+            dbf.openDatabase();
+            fail("The connection has been acquired");
+        } catch (IllegalStateException e) {
+            assertEquals(metrics.getFailed(), 1);
+            assertEquals(metrics.getExhausted(), 1);
+            assertEquals(metrics.getWaiting(), 0);
+        }
+    }
+
+    @Test
+    public void stopsWaitingWhenTheAcquisitionFailsWithAnError() {
+        dbf.init();
+        OrientPoolMetrics metrics = dbf.getPoolMetrics();
+        Error error = new AssertionError("no connection");
+        failure = error;
+
+        try {
+            dbf.openDatabase();
+            fail("The connection has been acquired");
+        } catch (AssertionError e) {
+            assertSame(e, error);
+            assertEquals(metrics.getFailed(), 1);
+            assertEquals(metrics.getExhausted(), 0);
+            assertEquals(metrics.getWaiting(), 0);
+            assertEquals(metrics.getActive(), 0);
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void reportsTheConnectionsHeldLongerThanTheThreshold() throws InterruptedException {
+        dbf.setLeakDetectionThreshold(100);
+        dbf.init();
+        OrientPoolMetrics metrics = dbf.getPoolMetrics();
+
+        ODatabase<ORecord> db = dbf.openDatabase();
+
+        try {
+            while (metrics.getLeaks() == 0) {
+                Thread.sleep(50);
+            }
+
+            String[] leaks = metrics.getSuspectedLeaks();
+
+            assertEquals(leaks.length, 1);
+            assertTrue(leaks[0].startsWith("held for "));
+            assertTrue(leaks[0].contains(OrientPoolMetricsTest.class.getName()));
+        } finally {
+            db.close();
+        }
+
+        assertEquals(metrics.getLeaks(), 1);
+        assertEquals(metrics.getSuspectedLeaks().length, 0);
+    }
+
+    private static long sum(long[] counts) {
+        long sum = 0;
+
+        for (long count : counts) {
+            sum += count;
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,208 @@
+package org.springframework.data.orient.document;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.ORecord;
+import org.springframework.data.orient.commons.core.OrientSession;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class OrientSessionTest {
+
+    private OrientDocumentDatabaseFactory dbf;
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void before() {
+        dbf = new OrientDocumentDatabaseFactory();
+        dbf.setUrl("memory:session-test");
+        dbf.setMaxPoolSize(2);
+        dbf.init();
+
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void after() {
+        executor.shutdownNow();
+        dbf.destroy();
+    }
+
+    @Test(timeOut = 10000)
+    public void reusesTheConnectionOfAClosedSession() {
+        OrientSession<ORecord> session = dbf.openSession();
+        ODatabase<ORecord> db = session.database();
+        session.close();
+
+        assertTrue(session.isClosed());
+
+        try (OrientSession<ORecord> next = dbf.openSession()) {
+            assertSame(next.database(), db);
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void waitsWhileTheMaxPoolSizeOfSessionsAreOpen() throws Exception {
+        OrientSession<ORecord> first = dbf.openSession();
+        OrientSession<ORecord> second = dbf.openSession();
+
+        Future<OrientSession<ORecord>> waiting = executor.submit(new Callable<OrientSession<ORecord>>() {
+            @Override
+            public OrientSession<ORecord> call() {
+                return dbf.openSession();
+            }
+        });
+
+        try {
+            waiting.get(200, TimeUnit.MILLISECONDS);
+            fail("The session has been opened beyond the max pool size");
+        } catch (TimeoutException e) {
+            // expected
+        }
+
+        first.close();
+
+        waiting.get(5, TimeUnit.SECONDS).close();
+        second.close();
+    }
+
+    @Test(timeOut = 10000)
+    public void sharesTheMaxPoolSizeWithThePooledConnections() throws Exception {
+        ODatabaseDocumentTx pooled = dbf.openDatabase();
+        OrientSession<ORecord> session = dbf.openSession();
+
+        Future<OrientSession<ORecord>> waiting = executor.submit(new Callable<OrientSession<ORecord>>() {
+            @Override
+            public OrientSession<ORecord> call() {
+                return dbf.openSession();
+            }
+        });
+
+        try {
+            waiting.get(200, TimeUnit.MILLISECONDS);
+            fail("The session has been opened beyond the max pool size");
+        } catch (TimeoutException e) {
+            assertEquals(dbf.getPoolMetrics().getExhausted(), 1);
+        }
+
+        pooled.activateOnCurrentThread();
+        pooled.close();
+
+        waiting.get(5, TimeUnit.SECONDS).close();
+        session.close();
+
+        assertEquals(dbf.getPoolMetrics().getActive(), 0);
+    }
+
+    @Test(timeOut = 10000)
+    public void opensTheSessionsInTheOrderTheyWereWaitedFor() throws Exception {
+        ExecutorService waiters = Executors.newFixedThreadPool(2);
+        OrientSession<ORecord> first = dbf.openSession();
+        OrientSession<ORecord> second = dbf.openSession();
+
+        try {
+            Future<OrientSession<ORecord>> earlier = waiters.submit(openSession());
+            awaitExhausted(1);
+            Future<OrientSession<ORecord>> later = waiters.submit(openSession());
+            awaitExhausted(2);
+
+            first.close();
+            OrientSession<ORecord> third = earlier.get(5, TimeUnit.SECONDS);
+
+            assertFalse(later.isDone());
+
+            third.close();
+            later.get(5, TimeUnit.SECONDS).close();
+            second.close();
+        } finally {
+            waiters.shutdownNow();
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void sharesTheSessionsBetweenMoreThreadsThanTheMaxPoolSize() throws Exception {
+        int threads = 8;
+        final int rounds = 50;
+        ExecutorService contenders = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(contenders.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        start.await();
+
+                        for (int round = 0; round < rounds; round++) {
+                            try (OrientSession<ORecord> session = dbf.openSession()) {
+                                Thread.sleep(1);
+                            }
+                        }
+
+                        return rounds;
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(result.get(20, TimeUnit.SECONDS), Integer.valueOf(rounds));
+            }
+        } finally {
+            contenders.shutdownNow();
+        }
+
+        assertEquals(dbf.getPoolMetrics().getWaiting(), 0);
+        assertEquals(dbf.getPoolMetrics().getActive(), 0);
+        assertTrue(dbf.getPoolMetrics().getExhausted() > 0);
+    }
+
+    @Test(timeOut = 10000)
+    public void closesTheIdleConnectionsOnDestroy() {
+        OrientSession<ORecord> session = dbf.openSession();
+        ODatabase<ORecord> db = session.database();
+        session.close();
+
+        assertFalse(db.isClosed());
+
+        dbf.destroy();
+
+        assertTrue(db.isClosed());
+    }
+
+    private Callable<OrientSession<ORecord>> openSession() {
+        return new Callable<OrientSession<ORecord>>() {
+            @Override
+            public OrientSession<ORecord> call() {
+                return dbf.openSession();
+            }
+        };
+    }
+
+    private void awaitExhausted(int times) throws InterruptedException {
+        // a thread finding the pool exhausted is queued before another one may check it
+        while (dbf.getPoolMetrics().getExhausted() < times) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,32 +1,43 @@
 package org.springframework.data.orient.object;
 
-import com.orientechnologies.orient.object.db.OObjectDatabasePool;
+import com.orientechnologies.orient.core.db.OPartitionedDatabasePool;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import org.springframework.data.orient.commons.core.AbstractOrientDatabaseFactory;
 
 /**
  * A specific factory for creating OrientObjectDatabase objects that handle {@link com.orientechnologies.orient.object.db.OObjectDatabaseTx}.
+ * <p>
+ * The connections are taken from an {@link OPartitionedDatabasePool}, which keeps them in partitions picked by
+ * thread instead of a single synchronized pool, and wrapped into an {@link OObjectDatabaseTx}.
  *
  * @author Dzmitry_Naskou
  * @see com.orientechnologies.orient.object.db.OObjectDatabaseTx
  */
 public class OrientObjectDatabaseFactory extends AbstractOrientDatabaseFactory<Object> {
 
-    private OObjectDatabasePool pool;
-
-    /** The database. */
-    private OObjectDatabaseTx db;
+    private OPartitionedDatabasePool pool;
 
     @Override
     protected void createPool() {
-        pool = new OObjectDatabasePool(getUrl(), getUsername(), getPassword());
-        pool.setup(minPoolSize, maxPoolSize);
+        pool = new OPartitionedDatabasePool(getUrl(), getUsername(), getPassword(), maxPoolSize);
+    }
+
+    /**
+     * Wraps a pooled document database, closing the object database returns it to the pool.
+     */
+    @Override
+    protected OObjectDatabaseTx acquireDatabase() {
+        return new OObjectDatabaseTx(pool.acquire());
     }
 
     @Override
     public OObjectDatabaseTx openDatabase() {
-        db = pool.acquire();
-        return db;
+        return (OObjectDatabaseTx) super.openDatabase();
+    }
+
+    @Override
+    protected int getIdleConnections() {
+        return super.getIdleConnections() + pool.getAvailableConnections();
     }
 
     @Override
@@ -1,6 +1,8 @@
 package org.springframework.data.orient.object;
 
 import com.orientechnologies.orient.core.annotation.OId;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import org.springframework.data.orient.commons.core.AbstractOrientOperations;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,14 @@ public class OrientObjectTemplate extends AbstractOrientOperations<Object> imple
         return (OObjectDatabaseTx)dbf.db();
     }
 
+    /**
+     * Converts the documents streamed by non blocking queries into the pojos of the connection of the caller.
+     */
+    @Override
+    protected Object toEntity(Object record) {
+        return record instanceof OIdentifiable ? getObjectDatabase().getUserObjectByRecord((OIdentifiable) record, null) : record;
+    }
+
     @Override
     public String getRid(Object entity) {
         Class<?> clazz = entity.getClass();
@@ -331,6 +341,12 @@ public class OrientObjectTemplate extends AbstractOrientOperations<Object> imple
         return list.isEmpty() ? null : list.get(0);
     }
 
+    @Override
+    public List<ODocument> queryForDocuments(OSQLQuery<?> query, Object... args) {
+        // the underlying document database returns the rows as they are, without building entity proxies
+        return getObjectDatabase().getUnderlying().query(query, args);
+    }
+
     @Override
     public <RET> RET queryForObject(OSQLQuery<?> query, DetachMode detachMode, Object... args) {
         RET result = queryForObject(query, args);
@@ -1,12 +1,15 @@
 package org.springframework.data.orient.object.repository.support;
 
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.orient.commons.core.ReactiveOrientTemplate;
+import org.springframework.data.orient.commons.repository.ReactiveOrientRepository;
 import org.springframework.data.orient.commons.repository.SourceType;
 import org.springframework.data.orient.commons.repository.annotation.Cluster;
 import org.springframework.data.orient.commons.repository.annotation.Source;
 import org.springframework.data.orient.commons.repository.query.OrientQueryLookupStrategy;
 import org.springframework.data.orient.commons.repository.support.OrientMetamodelEntityInformation;
 import org.springframework.data.orient.commons.repository.support.SimpleOrientRepository;
+import org.springframework.data.orient.commons.repository.support.SimpleReactiveOrientRepository;
 import org.springframework.data.orient.object.OrientObjectOperations;
 import org.springframework.data.orient.object.repository.OrientObjectRepository;
 import org.springframework.data.repository.core.EntityInformation;
@@ -41,7 +44,13 @@ public class OrientObjectRepositoryFactory extends RepositoryFactorySupport {
         Class<?> javaType = entityInformation.getJavaType();
         String cluster = getCustomCluster(metadata);
 
-        if (isObjectRepository(metadata.getRepositoryInterface())) {
+        if (isReactiveRepository(repositoryInterface)) {
+            SimpleOrientRepository repository = cluster != null
+                    ? new SimpleOrientRepository(operations, javaType, cluster, repositoryInterface)
+                    : new SimpleOrientRepository(operations, javaType, repositoryInterface);
+
+            return new SimpleReactiveOrientRepository(new ReactiveOrientTemplate(operations), repository);
+        } else if (isObjectRepository(metadata.getRepositoryInterface())) {
             if (cluster != null) {
                 return new SimpleOrientObjectRepository(operations, javaType, cluster, repositoryInterface);
             } else {
@@ -63,7 +72,9 @@ public class OrientObjectRepositoryFactory extends RepositoryFactorySupport {
 
     @Override
     protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
-        if (isObjectRepository(metadata.getRepositoryInterface())) {
+        if (isReactiveRepository(metadata.getRepositoryInterface())) {
+            return SimpleReactiveOrientRepository.class;
+        } else if (isObjectRepository(metadata.getRepositoryInterface())) {
             return SimpleOrientObjectRepository.class;
         } else {
             return SimpleOrientRepository.class;
@@ -74,6 +85,10 @@ public class OrientObjectRepositoryFactory extends RepositoryFactorySupport {
         return OrientObjectRepository.class.isAssignableFrom(repositoryInterface);
     }
 
+    private boolean isReactiveRepository(Class<?> repositoryInterface) {
+        return ReactiveOrientRepository.class.isAssignableFrom(repositoryInterface);
+    }
+
     /**
      * Get Custom Cluster Name.
      * Method looks for {@link org.springframework.data.orient.commons.repository.annotation.Source} and {@link org.springframework.data.orient.commons.repository.annotation.Cluster} annotation.
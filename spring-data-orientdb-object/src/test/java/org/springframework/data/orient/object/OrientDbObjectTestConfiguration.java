@@ -10,8 +10,10 @@ import org.springframework.data.orient.commons.core.OrientTransactionManager;
 import org.springframework.data.orient.commons.repository.config.EnableOrientRepositories;
 import org.springframework.data.orient.object.domain.Address;
 import org.springframework.data.orient.object.domain.Employee;
+import org.springframework.data.orient.object.domain.Manager;
 import org.springframework.data.orient.object.domain.Person;
 import org.springframework.data.orient.object.repository.support.OrientObjectRepositoryFactoryBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.annotation.PostConstruct;
@@ -51,7 +53,20 @@ public class OrientDbObjectTestConfiguration {
     @Bean
     @Qualifier("employeeClusterTemplate")
     public OrientObjectTemplate objectTemplate() {
-        return new OrientObjectTemplate(factory());
+        OrientObjectTemplate template = new OrientObjectTemplate(factory());
+        template.setAsyncExecutor(asyncExecutor());
+
+        return template;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor asyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("orient-async-");
+
+        return executor;
     }
 
     @PostConstruct
@@ -62,6 +77,7 @@ public class OrientDbObjectTestConfiguration {
         em.registerEntityClass(Person.class);
         em.registerEntityClass(Address.class);
         em.registerEntityClass(Employee.class);
+        em.registerEntityClass(Manager.class);
 
         if (!db.existsCluster(EMPLOYEE_TMP_CLUSTER)) {
             int id = db.addCluster(EMPLOYEE_TMP_CLUSTER);
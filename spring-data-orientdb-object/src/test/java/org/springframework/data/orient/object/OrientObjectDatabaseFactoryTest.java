@@ -0,0 +1,156 @@
+package org.springframework.data.orient.object;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import org.springframework.data.orient.commons.core.OrientPoolMetrics;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+public class OrientObjectDatabaseFactoryTest {
+
+    private OrientObjectDatabaseFactory dbf;
+
+    private ExecutorService executor;
+
+    /** The connections acquired from the pool, counting the ones of the warm up. */
+    private final AtomicInteger acquired = new AtomicInteger();
+
+    /** The threads which acquired a connection from the pool. */
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @BeforeMethod
+    public void before() {
+        acquired.set(0);
+        threads.clear();
+
+        dbf = new OrientObjectDatabaseFactory() {
+            @Override
+            protected OObjectDatabaseTx acquireDatabase() {
+                OObjectDatabaseTx db = super.acquireDatabase();
+                acquired.incrementAndGet();
+                threads.add(Thread.currentThread().getName());
+
+                return db;
+            }
+        };
+        dbf.setUrl("memory:object-factory-test");
+        dbf.setMinPoolSize(0);
+        dbf.setMaxPoolSize(4);
+
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void after() {
+        executor.shutdownNow();
+        dbf.destroy();
+        ODatabaseRecordThreadLocal.INSTANCE.remove();
+    }
+
+    @Test
+    public void warmsUpThePoolWithAConnectionPerThread() {
+        dbf.setMinPoolSize(3);
+        dbf.init();
+
+        assertEquals(acquired.get(), 3);
+        assertEquals(threads.size(), 3);
+
+        for (String thread : threads) {
+            assertTrue(thread.startsWith("orient-warm-up-"), thread);
+        }
+
+        assertEquals(dbf.getPoolMetrics().getActive(), 0);
+    }
+
+    @Test
+    public void warmsUpNoMoreThanTheMaxPoolSize() {
+        dbf.setMinPoolSize(8);
+        dbf.init();
+
+        assertEquals(acquired.get(), 4);
+    }
+
+    @Test
+    public void opensNoConnectionWithoutWarmUp() {
+        dbf.init();
+
+        assertEquals(acquired.get(), 0);
+    }
+
+    @Test
+    public void returnsTheConnectionOfAClosedObjectDatabaseToThePool() {
+        dbf.setMinPoolSize(1);
+        dbf.init();
+        OrientPoolMetrics metrics = dbf.getPoolMetrics();
+        int idle = metrics.getIdle();
+
+        OObjectDatabaseTx db = dbf.openDatabase();
+
+        assertFalse(db.isClosed());
+        assertEquals(metrics.getActive(), 1);
+        assertEquals(metrics.getIdle(), idle - 1);
+
+        db.close();
+
+        assertEquals(metrics.getActive(), 0);
+        assertEquals(metrics.getIdle(), idle);
+
+        OObjectDatabaseTx next = dbf.openDatabase();
+
+        try {
+            assertNotSame(next, db);
+            assertFalse(next.isClosed());
+            assertEquals(metrics.getActive(), 1);
+        } finally {
+            next.close();
+        }
+    }
+
+    @Test
+    public void acquiresAConnectionPerThread() throws Exception {
+        dbf.init();
+        OrientPoolMetrics metrics = dbf.getPoolMetrics();
+
+        OObjectDatabaseTx db = dbf.openDatabase();
+
+        try {
+            ODatabaseDocumentInternal other = executor.submit(new Callable<ODatabaseDocumentInternal>() {
+                @Override
+                public ODatabaseDocumentInternal call() {
+                    OObjectDatabaseTx db = dbf.openDatabase();
+
+                    try {
+                        assertEquals(dbf.getPoolMetrics().getActive(), 2);
+
+                        return db.getUnderlying();
+                    } finally {
+                        db.close();
+                        ODatabaseRecordThreadLocal.INSTANCE.remove();
+                    }
+                }
+            }).get();
+
+            assertNotSame(other, db.getUnderlying());
+        } finally {
+            db.activateOnCurrentThread();
+            db.close();
+        }
+
+        assertEquals(metrics.getActive(), 0);
+        assertEquals(metrics.getAcquired(), 2);
+    }
+}
@@ -0,0 +1,14 @@
+package org.springframework.data.orient.object.domain;
+
+public class Manager extends Employee {
+
+    private String department;
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+}
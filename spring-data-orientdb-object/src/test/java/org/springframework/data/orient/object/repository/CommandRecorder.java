@@ -0,0 +1,97 @@
+package org.springframework.data.orient.object.repository;
+
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import org.springframework.data.orient.commons.core.OrientTransactionManager;
+import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the text of the commands and queries run on the databases it listens to.
+ */
+class CommandRecorder implements ODatabaseListener {
+
+    final List<String> commands = new CopyOnWriteArrayList<>();
+
+    /**
+     * Runs the given callback in a transaction and records the commands run on its database.
+     */
+    static List<String> record(final OrientObjectDatabaseFactory factory, OrientTransactionManager transactionManager, final TransactionCallback<?> callback) {
+        final CommandRecorder recorder = new CommandRecorder();
+
+        new TransactionTemplate(transactionManager).execute(new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                OObjectDatabaseTx db = factory.db();
+                db.registerListener(recorder);
+
+                try {
+                    return callback.doInTransaction(status);
+                } finally {
+                    db.unregisterListener(recorder);
+                }
+            }
+        });
+
+        return new ArrayList<>(recorder.commands);
+    }
+
+    @Override
+    public void onBeforeCommand(OCommandRequestText iCommand, OCommandExecutor executor) {
+        commands.add(iCommand.getText());
+    }
+
+    @Override
+    public void onAfterCommand(OCommandRequestText iCommand, OCommandExecutor executor, Object result) {
+    }
+
+    @Override
+    public void onCreate(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onDelete(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onOpen(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onBeforeTxBegin(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onBeforeTxRollback(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onAfterTxRollback(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onBeforeTxCommit(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onAfterTxCommit(ODatabase iDatabase) {
+    }
+
+    @Override
+    public void onClose(ODatabase iDatabase) {
+    }
+
+    @Override
+    public boolean onCorruptionRepairDatabase(ODatabase iDatabase, String iReason, String iWhatWillbeFixed) {
+        return false;
+    }
+}
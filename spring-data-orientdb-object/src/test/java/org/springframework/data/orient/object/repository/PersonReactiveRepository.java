@@ -0,0 +1,10 @@
+package org.springframework.data.orient.object.repository;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.orient.commons.repository.ReactiveOrientRepository;
+import org.springframework.data.orient.object.domain.Person;
+
+public interface PersonReactiveRepository extends ReactiveOrientRepository<Person> {
+
+    Publisher<Person> findByLastName(String lastName);
+}
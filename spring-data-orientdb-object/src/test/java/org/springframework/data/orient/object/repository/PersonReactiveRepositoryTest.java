@@ -0,0 +1,199 @@
+package org.springframework.data.orient.object.repository;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonReactiveRepositoryTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    PersonReactiveRepository repository;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @BeforeClass
+    public void before() {
+        operations.command("insert into Person (firstName, lastName, active) values ('Ada', 'Reactive', true)");
+        operations.command("insert into Person (firstName, lastName, active) values ('Alan', 'Reactive', true)");
+        operations.command("insert into Person (firstName, lastName, active) values ('Grace', 'Reactive', true)");
+    }
+
+    @AfterClass
+    public void after() {
+        operations.command("delete from Person where lastName in ['Reactive', 'Liskov']");
+    }
+
+    @Test(timeOut = 10000)
+    public void savesAndFindsAnEntity() throws InterruptedException {
+        Person person = new Person();
+        person.setFirstName("Barbara");
+        person.setLastName("Liskov");
+
+        String rid = single(repository.save(person)).getRid();
+
+        assertEquals(single(repository.findOne(rid)).getFirstName(), "Barbara");
+        assertTrue(single(repository.exists(rid)));
+
+        RecordingSubscriber<Void> deleted = subscribe(repository.delete(rid), 1);
+        deleted.awaitTermination();
+
+        assertTrue(deleted.values.isEmpty());
+        assertFalse(single(repository.exists(rid)));
+
+        RecordingSubscriber<Person> missing = subscribe(repository.findOne(rid), 1);
+        missing.awaitTermination();
+
+        assertTrue(missing.values.isEmpty());
+        assertNull(missing.failure);
+    }
+
+    @Test(timeOut = 10000)
+    public void countsTheEntities() throws InterruptedException {
+        assertTrue(single(repository.count()) >= 3);
+    }
+
+    @Test(timeOut = 10000)
+    public void runsNothingBeforeTheFirstRequest() throws InterruptedException {
+        Person person = new Person();
+        person.setFirstName("Not");
+        person.setLastName("Saved");
+
+        RecordingSubscriber<Person> subscriber = subscribe(repository.save(person), 0);
+        Thread.sleep(200);
+
+        assertTrue(subscriber.values.isEmpty());
+        assertNull(person.getRid());
+
+        subscriber.subscription.cancel();
+    }
+
+    @Test(timeOut = 10000)
+    public void pushesTheEntitiesAsTheyAreRequested() throws InterruptedException {
+        RecordingSubscriber<Person> subscriber = subscribe(repository.findByLastName("Reactive"), 1);
+        subscriber.awaitValues(1);
+        Thread.sleep(200);
+
+        assertEquals(subscriber.values.size(), 1);
+        assertFalse(subscriber.isTerminated());
+
+        subscriber.subscription.request(2);
+        subscriber.awaitTermination();
+
+        assertEquals(subscriber.values.size(), 3);
+        assertNull(subscriber.failure);
+    }
+
+    @Test(timeOut = 10000)
+    public void stopsTheQueryOnceCancelled() throws InterruptedException {
+        RecordingSubscriber<Person> subscriber = subscribe(repository.findAll(), 1);
+        subscriber.awaitValues(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        Thread.sleep(200);
+
+        assertEquals(subscriber.values.size(), 1);
+        assertFalse(subscriber.isTerminated());
+    }
+
+    @Test(timeOut = 10000)
+    public void signalsANonPositiveRequestAsFailure() throws InterruptedException {
+        RecordingSubscriber<Long> subscriber = subscribe(repository.count(), 0);
+        subscriber.subscription.request(0);
+        subscriber.awaitTermination();
+
+        assertTrue(subscriber.failure instanceof IllegalArgumentException);
+        assertTrue(subscriber.values.isEmpty());
+    }
+
+    private static <T> T single(Publisher<T> publisher) throws InterruptedException {
+        RecordingSubscriber<T> subscriber = subscribe(publisher, Long.MAX_VALUE);
+        subscriber.awaitTermination();
+
+        assertNull(subscriber.failure);
+        assertEquals(subscriber.values.size(), 1);
+
+        return subscriber.values.get(0);
+    }
+
+    private static <T> RecordingSubscriber<T> subscribe(Publisher<T> publisher, long request) {
+        RecordingSubscriber<T> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        if (request > 0) {
+            subscriber.subscription.request(request);
+        }
+
+        return subscriber;
+    }
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> values = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private volatile Subscription subscription;
+
+        private volatile Throwable failure;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            this.failure = failure;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        boolean isTerminated() {
+            return terminated.getCount() == 0;
+        }
+
+        void awaitTermination() throws InterruptedException {
+            assertTrue(terminated.await(5, TimeUnit.SECONDS));
+        }
+
+        void awaitValues(int count) throws InterruptedException {
+            while (values.size() < count) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -2,13 +2,20 @@ package org.springframework.data.orient.object.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
 import org.springframework.data.orient.commons.repository.annotation.Detach;
 import org.springframework.data.orient.commons.repository.annotation.FetchPlan;
+import org.springframework.data.orient.commons.repository.annotation.Modifying;
 import org.springframework.data.orient.commons.repository.annotation.Query;
+import org.springframework.data.orient.commons.repository.annotation.QueryHints;
 import org.springframework.data.orient.object.domain.Person;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 public interface PersonRepository extends OrientObjectRepository<Person> {
 
@@ -19,6 +26,8 @@ public interface PersonRepository extends OrientObjectRepository<Person> {
     
     List<Person> findByLastName(String lastName);
 
+    Slice<Person> findByLastName(String lastName, Pageable pageable);
+
     List<Person> findByLastNameLike(String lastName);
 
     List<Person> findByFirstNameAndLastName(String firstName, String lastName);
@@ -40,4 +49,51 @@ public interface PersonRepository extends OrientObjectRepository<Person> {
     List<Person> findByActiveIsTrue();
 
     List<Person> findByActiveIsFalse();
+
+    boolean existsByLastName(String lastName);
+
+    long deleteByLastName(String lastName);
+
+    void removeByLastName(String lastName);
+
+    @Modifying
+    @Query("update Person set active = ? where lastName = ?")
+    int updateActiveByLastName(boolean active, String lastName);
+
+    @Modifying
+    @Query("delete from Person where lastName = ?")
+    long deleteAllByLastName(String lastName);
+
+    @Modifying
+    @Query("insert into Person (firstName, lastName, active) values (?, ?, true)")
+    int insertPerson(String firstName, String lastName);
+
+    List<Person> findFirst2ByActiveIsTrueOrderByFirstNameAsc();
+
+    Person findTopByActiveIsTrueOrderByFirstNameDesc();
+
+    List<Person> findTop3ByActiveIsTrueOrderByFirstNameAsc(Pageable pageable);
+
+    List<PersonName> findNamesByLastName(String lastName);
+
+    CompletableFuture<List<Person>> readByLastNameOrderByFirstNameAsc(String lastName);
+
+    ListenableFuture<Long> countByLastName(String lastName);
+
+    Future<Person> getByFirstNameAndLastName(String firstName, String lastName);
+
+    @QueryHints(limit = 2)
+    List<Person> findTop3ByLastNameOrderByFirstNameAsc(String lastName);
+
+    List<Person> findByLastNameOrderByFirstNameAsc(String lastName, Pageable pageable, OrientQueryHints hints);
+
+    @QueryHints(limit = 2, lockRecord = true, timeout = 5000)
+    Page<Person> findByLastNameOrderByFirstNameDesc(String lastName, Pageable pageable);
+
+    interface PersonName {
+
+        String getFirstName();
+
+        String getLastName();
+    }
 }
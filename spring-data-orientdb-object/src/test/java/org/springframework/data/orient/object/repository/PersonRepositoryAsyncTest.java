@@ -0,0 +1,147 @@
+package org.springframework.data.orient.object.repository;
+
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonRepositoryAsyncTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    PersonRepository repository;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    ThreadPoolTaskExecutor asyncExecutor;
+
+    @BeforeClass
+    public void before() {
+        operations.command("insert into Person (firstName, lastName, active) values ('Ada', 'Async', true)");
+        operations.command("insert into Person (firstName, lastName, active) values ('Alan', 'Async', true)");
+    }
+
+    @AfterClass
+    public void after() {
+        operations.command("delete from Person where lastName = 'Async'");
+    }
+
+    @Test(timeOut = 10000)
+    public void completesACompletableFuture() throws Exception {
+        CompletableFuture<List<Person>> future = repository.readByLastNameOrderByFirstNameAsc("Async");
+        List<Person> persons = future.get();
+
+        assertEquals(persons.size(), 2);
+        assertEquals(persons.get(0).getFirstName(), "Ada");
+        assertEquals(persons.get(1).getFirstName(), "Alan");
+    }
+
+    @Test(timeOut = 10000)
+    public void completesAListenableFuture() throws Exception {
+        assertEquals(repository.countByLastName("Async").get(), Long.valueOf(2));
+    }
+
+    @Test(timeOut = 10000)
+    public void completesAFuture() throws Exception {
+        Future<Person> future = repository.getByFirstNameAndLastName("Alan", "Async");
+
+        assertEquals(future.get().getFirstName(), "Alan");
+    }
+
+    @Test(timeOut = 10000)
+    public void cancelsTheQueryOfACancelledFuture() throws Exception {
+        int threads = asyncExecutor.getCorePoolSize();
+        final CountDownLatch started = new CountDownLatch(threads);
+        final CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> blockers = new ArrayList<>();
+
+        // occupies every thread of the executor, so that the query waits in the queue
+        for (int i = 0; i < threads; i++) {
+            blockers.add(asyncExecutor.submit(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    started.countDown();
+
+                    return release.await(5, TimeUnit.SECONDS);
+                }
+            }));
+        }
+
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<List<Person>> future = repository.readByLastNameOrderByFirstNameAsc("Async");
+            Future<?> task = (Future<?>) asyncExecutor.getThreadPoolExecutor().getQueue().peek();
+
+            assertNotNull(task);
+            assertTrue(future.cancel(true));
+            assertTrue(task.isCancelled());
+        } finally {
+            release.countDown();
+        }
+
+        for (Future<?> blocker : blockers) {
+            blocker.get();
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void releasesTheDatabaseOfTheExecutorThreads() throws Exception {
+        int threads = asyncExecutor.getCorePoolSize();
+        List<Future<?>> queries = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            queries.add(repository.readByLastNameOrderByFirstNameAsc("Async"));
+        }
+
+        for (Future<?> query : queries) {
+            query.get();
+        }
+
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Future<Boolean>> checks = new ArrayList<>();
+
+        // every thread of the executor checks its own thread local
+        for (int i = 0; i < threads; i++) {
+            checks.add(asyncExecutor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    barrier.await(5, TimeUnit.SECONDS);
+
+                    return ODatabaseRecordThreadLocal.INSTANCE.getIfDefined() == null;
+                }
+            }));
+        }
+
+        for (Future<Boolean> check : checks) {
+            assertTrue(check.get());
+        }
+    }
+}
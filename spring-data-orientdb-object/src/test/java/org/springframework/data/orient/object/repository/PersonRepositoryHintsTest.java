@@ -0,0 +1,119 @@
+package org.springframework.data.orient.object.repository;
+
+import com.orientechnologies.orient.core.command.OCommandContext.TIMEOUT_STRATEGY;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.orient.commons.core.OrientTransactionManager;
+import org.springframework.data.orient.commons.repository.OrientQueryHints;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonRepositoryHintsTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    PersonRepository repository;
+
+    @Autowired
+    OrientObjectDatabaseFactory factory;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    OrientTransactionManager transactionManager;
+
+    @BeforeClass
+    public void before() {
+        for (String firstName : new String[] { "Anna", "Bert", "Cleo", "Dirk" }) {
+            operations.command("insert into Person (firstName, lastName, active) values (?, 'Hinted', true)", firstName);
+        }
+    }
+
+    @AfterClass
+    public void after() {
+        operations.command("delete from Person where lastName = 'Hinted'");
+    }
+
+    @Test
+    public void capsTheTopLimitToTheDeclaredLimit() {
+        List<Person> persons = repository.findTop3ByLastNameOrderByFirstNameAsc("Hinted");
+
+        assertEquals(persons.size(), 2);
+        assertEquals(persons.get(0).getFirstName(), "Anna");
+        assertEquals(persons.get(1).getFirstName(), "Bert");
+    }
+
+    @Test
+    public void capsThePageToTheLimitGivenPerCall() {
+        assertEquals(repository.findByLastNameOrderByFirstNameAsc("Hinted", new PageRequest(0, 3), null).size(), 3);
+        assertEquals(repository.findByLastNameOrderByFirstNameAsc("Hinted", new PageRequest(0, 3), OrientQueryHints.NONE.withLimit(2)).size(), 2);
+
+        List<Person> persons = repository.findByLastNameOrderByFirstNameAsc("Hinted", new PageRequest(1, 2), OrientQueryHints.NONE.withLimit(1));
+
+        assertEquals(persons.size(), 1);
+        assertEquals(persons.get(0).getFirstName(), "Cleo");
+    }
+
+    @Test
+    public void rendersTheTimeoutGivenPerCall() {
+        List<String> commands = CommandRecorder.record(factory, transactionManager, new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                OrientQueryHints hints = OrientQueryHints.NONE.withTimeout(5000, TIMEOUT_STRATEGY.RETURN);
+
+                assertEquals(repository.findByLastNameOrderByFirstNameAsc("Hinted", new PageRequest(0, 10), hints).size(), 4);
+
+                return null;
+            }
+        });
+
+        assertEquals(commands.size(), 1);
+        assertTrue(commands.get(0).endsWith(" limit 10 timeout 5000 return"), commands.get(0));
+    }
+
+    @Test
+    public void locksTheRecordsReadButNotTheCountedOnes() {
+        List<String> commands = CommandRecorder.record(factory, transactionManager, new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                Page<Person> page = repository.findByLastNameOrderByFirstNameDesc("Hinted", new PageRequest(0, 1));
+
+                assertEquals(page.getContent().size(), 1);
+                assertEquals(page.getContent().get(0).getFirstName(), "Dirk");
+                assertTrue(page.hasNext());
+                // the count query neither limits nor locks the records
+                assertEquals(page.getTotalElements(), 4);
+
+                return null;
+            }
+        });
+
+        assertEquals(commands.size(), 2);
+        assertTrue(commands.get(0).endsWith(" limit 2 timeout 5000 exception lock record"), commands.get(0));
+        assertFalse(commands.get(1).contains("lock"), commands.get(1));
+        assertFalse(commands.get(1).contains("limit"), commands.get(1));
+        assertTrue(commands.get(1).contains("timeout 5000"), commands.get(1));
+    }
+}
@@ -0,0 +1,176 @@
+package org.springframework.data.orient.object.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientTransactionManager;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonRepositoryModifyingTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    PersonRepository repository;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    OrientTransactionManager transactionManager;
+
+    @Test
+    public void deleteByReturnsTheNumberOfDeletedRecords() {
+        insertPersons("Deleted", 3);
+
+        assertEquals(repository.deleteByLastName("Deleted"), 3L);
+        assertFalse(repository.existsByLastName("Deleted"));
+        assertEquals(repository.deleteByLastName("Deleted"), 0L);
+    }
+
+    @Test
+    public void removeByDeletesTheRecords() {
+        insertPersons("Removed", 2);
+
+        repository.removeByLastName("Removed");
+
+        assertFalse(repository.existsByLastName("Removed"));
+    }
+
+    @Test
+    public void updatesTheRecordsOfAModifyingQuery() {
+        insertPersons("Updated", 2);
+
+        assertEquals(repository.updateActiveByLastName(false, "Updated"), 2);
+
+        for (Person person : repository.findByLastName("Updated")) {
+            assertFalse(person.getActive());
+        }
+
+        assertEquals(repository.deleteAllByLastName("Updated"), 2L);
+        assertTrue(repository.findByLastName("Updated").isEmpty());
+    }
+
+    @Test
+    public void insertsTheRecordOfAModifyingQuery() {
+        assertEquals(repository.insertPerson("Ada", "Inserted"), 1);
+
+        List<Person> persons = repository.findByLastName("Inserted");
+
+        assertEquals(persons.size(), 1);
+        assertEquals(persons.get(0).getFirstName(), "Ada");
+        assertEquals(repository.deleteAllByLastName("Inserted"), 1L);
+    }
+
+    @Test
+    public void runsTheModifyingQueriesInTheTransaction() {
+        insertPersons("Transacted", 2);
+
+        new TransactionTemplate(transactionManager).execute(new TransactionCallbackWithoutResult() {
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                assertEquals(repository.insertPerson("Ada", "Transacted"), 1);
+                assertEquals(repository.updateActiveByLastName(false, "Transacted"), 3);
+            }
+        });
+
+        List<Person> persons = repository.findByLastName("Transacted");
+
+        assertEquals(persons.size(), 3);
+
+        for (Person person : persons) {
+            assertFalse(person.getActive());
+        }
+
+        new TransactionTemplate(transactionManager).execute(new TransactionCallbackWithoutResult() {
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                assertEquals(repository.deleteAllByLastName("Transacted"), 3L);
+            }
+        });
+
+        assertTrue(repository.findByLastName("Transacted").isEmpty());
+    }
+
+    @Test
+    public void rollsBackTheModifyingQueriesWithTheTransaction() {
+        insertPersons("RolledBack", 2);
+
+        new TransactionTemplate(transactionManager).execute(new TransactionCallbackWithoutResult() {
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                assertEquals(repository.insertPerson("Ada", "RolledBack"), 1);
+                assertEquals(repository.deleteAllByLastName("RolledBack"), 3L);
+                status.setRollbackOnly();
+            }
+        });
+
+        assertEquals(repository.findByLastName("RolledBack").size(), 2);
+        assertEquals(repository.deleteAllByLastName("RolledBack"), 2L);
+    }
+
+    @Test
+    public void checksTheExistenceOfTheStoredRecords() {
+        String rid = repository.save(person("Existing")).getRid();
+
+        assertTrue(repository.exists(rid));
+        assertTrue(Arrays.equals(repository.exists(Arrays.asList(rid, "#999:0")), new boolean[] { true, false }));
+
+        repository.delete(rid);
+
+        assertFalse(repository.exists(rid));
+    }
+
+    @Test
+    public void doesNotFindTheRecordsOfAnUnknownCluster() {
+        assertFalse(repository.exists("#999:0"));
+    }
+
+    @Test
+    public void findsTheRecordsCreatedAndDeletedInTheTransaction() {
+        new TransactionTemplate(transactionManager).execute(new TransactionCallbackWithoutResult() {
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                Person created = repository.save(person("Uncommitted"));
+
+                assertTrue(repository.exists(created.getRid()));
+
+                repository.delete(created);
+
+                assertFalse(repository.exists(created.getRid()));
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private static Person person(String lastName) {
+        Person person = new Person();
+        person.setFirstName("Ada");
+        person.setLastName(lastName);
+
+        return person;
+    }
+
+    private void insertPersons(String lastName, int count) {
+        for (int i = 0; i < count; i++) {
+            operations.command("insert into Person (firstName, lastName, active) values (?, ?, true)", "Person" + i, lastName);
+        }
+    }
+}
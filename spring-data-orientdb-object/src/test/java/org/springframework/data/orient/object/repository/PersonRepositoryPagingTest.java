@@ -0,0 +1,83 @@
+package org.springframework.data.orient.object.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.orient.commons.core.OrientTransactionManager;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonRepositoryPagingTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    PersonRepository repository;
+
+    @Autowired
+    OrientObjectDatabaseFactory factory;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    OrientTransactionManager transactionManager;
+
+    @BeforeClass
+    public void before() {
+        for (String firstName : new String[] { "Anna", "Bert", "Cleo", "Dirk", "Emma" }) {
+            operations.command("insert into Person (firstName, lastName, active) values (?, 'Paged', true)", firstName);
+        }
+    }
+
+    @AfterClass
+    public void after() {
+        operations.command("delete from Person where lastName = 'Paged'");
+    }
+
+    @Test
+    public void findsASliceWithoutCountingTheRecords() {
+        List<String> commands = CommandRecorder.record(factory, transactionManager, new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                Slice<Person> middle = repository.findByLastName("Paged", new PageRequest(1, 2));
+
+                assertEquals(middle.getNumberOfElements(), 2);
+                assertTrue(middle.hasNext());
+                assertTrue(middle.hasPrevious());
+
+                Slice<Person> last = repository.findByLastName("Paged", new PageRequest(2, 2));
+
+                assertEquals(last.getNumberOfElements(), 1);
+                assertFalse(last.hasNext());
+
+                return null;
+            }
+        });
+
+        assertEquals(commands.size(), 2);
+
+        for (String command : commands) {
+            assertFalse(command.contains("count("), command);
+        }
+    }
+}
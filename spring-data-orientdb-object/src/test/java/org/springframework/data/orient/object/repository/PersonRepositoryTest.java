@@ -167,4 +167,39 @@ public class PersonRepositoryTest extends AbstractTestNGSpringContextTests {
             assertEquals(person.getAddress().getCity(), "Minsk");
         }
     }
+
+    @Test
+    public void existsByLastName() {
+        assertTrue(repository.existsByLastName("Naskou"));
+        assertFalse(repository.existsByLastName("Nobody"));
+    }
+
+    @Test
+    public void findFirstByActiveIsTrue() {
+        List<Person> persons = repository.findFirst2ByActiveIsTrueOrderByFirstNameAsc();
+
+        assertEquals(persons.size(), 2);
+        assertEquals(persons.get(0).getFirstName(), "Dzmitry");
+        assertEquals(persons.get(1).getFirstName(), "Jameson");
+    }
+
+    @Test
+    public void findTopByActiveIsTrue() {
+        assertEquals(repository.findTopByActiveIsTrueOrderByFirstNameDesc().getFirstName(), "Ronny");
+    }
+
+    @Test
+    public void findTopByActiveIsTruePage() {
+        assertEquals(repository.findTop3ByActiveIsTrueOrderByFirstNameAsc(new PageRequest(0, 10)).size(), 3);
+        assertEquals(repository.findTop3ByActiveIsTrueOrderByFirstNameAsc(new PageRequest(0, 2)).size(), 2);
+    }
+
+    @Test
+    public void findNamesByLastName() {
+        List<PersonRepository.PersonName> names = repository.findNamesByLastName("Naskou");
+
+        assertEquals(names.size(), 1);
+        assertEquals(names.get(0).getFirstName(), "Dzmitry");
+        assertEquals(names.get(0).getLastName(), "Naskou");
+    }
 }
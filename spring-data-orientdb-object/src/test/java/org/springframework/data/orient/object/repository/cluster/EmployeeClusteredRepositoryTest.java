@@ -45,6 +45,9 @@ public class EmployeeClusteredRepositoryTest extends AbstractTestNGSpringContext
     @Autowired
     EmployeeTmpRepository tmpRepository;
 
+    @Autowired
+    EmployeeHistoryRepository historyRepository;
+
     @Autowired
     OrientObjectOperations operations;
 
@@ -57,6 +60,25 @@ public class EmployeeClusteredRepositoryTest extends AbstractTestNGSpringContext
         operations.command("insert into cluster:employee_history (firstName, lastName, active) values ('Roydon', 'Brenden', false)");
     }
 
+    @Test
+    public void deleteAllByTypeFromCluster() {
+        long total = repository.count();
+        long tmp = tmpRepository.count();
+        long history = historyRepository.count();
+
+        historyRepository.deleteAll(Employee.class);
+
+        assertEquals(historyRepository.count(), 0);
+        assertEquals(tmpRepository.count(), tmp);
+        assertEquals(repository.count(), total - history);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void deleteAllByTypeRejectsOtherTypes() {
+        repository.deleteAll((Class) String.class);
+    }
+
     @Test
     public void findAll() {
         logger.debug("Employees: {}", repository.findAll());
@@ -0,0 +1,12 @@
+package org.springframework.data.orient.object.repository.cluster;
+
+import org.springframework.data.orient.commons.repository.annotation.Source;
+import org.springframework.data.orient.object.domain.Employee;
+import org.springframework.data.orient.object.repository.OrientObjectRepository;
+
+import static org.springframework.data.orient.object.OrientDbObjectTestConfiguration.EMPLOYEE_HISTORY_CLUSTER;
+
+@Source(EMPLOYEE_HISTORY_CLUSTER)
+public interface EmployeeHistoryRepository extends OrientObjectRepository<Employee> {
+
+}
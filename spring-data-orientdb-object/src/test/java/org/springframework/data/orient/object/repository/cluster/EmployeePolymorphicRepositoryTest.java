@@ -0,0 +1,111 @@
+package org.springframework.data.orient.object.repository.cluster;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Employee;
+import org.springframework.data.orient.object.domain.Manager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class EmployeePolymorphicRepositoryTest extends AbstractTestNGSpringContextTests {
+
+    private static final String LAST_NAME = "Polymorphic";
+
+    @Autowired
+    EmployeeClusteredRepository repository;
+
+    @Autowired
+    EmployeeTmpRepository tmpRepository;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @BeforeClass
+    public void before() {
+        operations.command("insert into Manager (firstName, lastName, department) values ('Grace', ?, 'Research')", LAST_NAME);
+        operations.command("insert into cluster:employee_tmp (firstName, lastName) values ('Alan', ?)", LAST_NAME);
+    }
+
+    @AfterClass
+    public void after() {
+        operations.command("delete from Employee where lastName = ?", LAST_NAME);
+    }
+
+    @Test
+    public void findsTheRecordsOfTheSubclass() {
+        List<Manager> managers = ours(repository.findAll(Manager.class));
+
+        assertEquals(managers.size(), 1);
+        assertEquals(managers.get(0).getFirstName(), "Grace");
+        assertEquals(managers.get(0).getDepartment(), "Research");
+        assertEquals(ours(repository.findAll(Employee.class)).size(), 2);
+    }
+
+    @Test
+    public void streamsTheRecordsOfTheSubclass() {
+        try (Stream<Manager> managers = repository.streamAll(Manager.class)) {
+            List<Manager> result = ours(managers.collect(Collectors.toList()));
+
+            assertEquals(result.size(), 1);
+            assertTrue(result.get(0) instanceof Manager);
+        }
+    }
+
+    @Test
+    public void filtersTheRecordsOfTheClusterByType() {
+        List<Employee> employees = ours(tmpRepository.findAll(Employee.class));
+
+        assertEquals(employees.size(), 1);
+        assertEquals(employees.get(0).getFirstName(), "Alan");
+        assertTrue(ours(tmpRepository.findAll(Manager.class)).isEmpty());
+
+        try (Stream<Manager> managers = tmpRepository.streamAll(Manager.class)) {
+            assertTrue(ours(managers.collect(Collectors.toList())).isEmpty());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void rejectsTheTypesOtherThanTheSubtypes() {
+        repository.findAll((Class) String.class);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void rejectsTheTypesOtherThanTheSubtypesOfTheCluster() {
+        tmpRepository.streamAll((Class) String.class);
+    }
+
+    private static <E extends Employee> List<E> ours(Collection<E> employees) {
+        List<E> result = new ArrayList<>();
+
+        for (E employee : employees) {
+            if (LAST_NAME.equals(employee.getLastName())) {
+                result.add(employee);
+            }
+        }
+
+        return result;
+    }
+}